@@ -0,0 +1,83 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.TechnicalTestInditexApplication;
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Starts the real application against a private in-memory H2 database for benchmarks.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Starts the application with quiet logging and the given extra properties.
+     *
+     * @param webApplicationType NONE for in-process benchmarks, SERVLET or REACTIVE to serve HTTP on a random port
+     * @param properties         extra properties in {@code key=value} form
+     * @return the running application context
+     */
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        String database = "bench-" + UUID.randomUUID();
+        List<String> all = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                // Only read by the reactive stack, which must see the same database
+                "prices.r2dbc.url=r2dbc:pool:h2:mem:///" + database + "?maxSize=16",
+                "spring.jpa.show-sql=false",
+                "server.port=0",
+                "logging.level.root=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.com.hicham.technicaltestinditex=WARN"
+        ));
+        all.addAll(List.of(properties));
+        // Passed as command line arguments so they take precedence over application.properties
+        return new SpringApplicationBuilder(TechnicalTestInditexApplication.class)
+                .web(webApplicationType)
+                .run(all.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /**
+     * Inserts the given prices into the PRICES table and notifies the in-memory read models.
+     *
+     * @param context the running application context
+     * @param prices  the prices to insert
+     */
+    public static void insert(ConfigurableApplicationContext context, Collection<Price> prices) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = prices.stream()
+                .map(price -> new Object[]{
+                        price.getBrandId().value(),
+                        price.getProductId().value(),
+                        Timestamp.valueOf(price.getPriceRange().startDate()),
+                        Timestamp.valueOf(price.getPriceRange().endDate()),
+                        price.getPriceList(),
+                        price.getPriority(),
+                        price.getPrice(),
+                        price.getCurrency()})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+
+        // Let in-memory read models pick up the new rows
+        context.publishEvent(PricesChangedEvent.of(prices.stream()
+                .map(price -> PriceKey.of(price.getBrandId(), price.getProductId()))
+                .collect(Collectors.toSet())));
+    }
+}
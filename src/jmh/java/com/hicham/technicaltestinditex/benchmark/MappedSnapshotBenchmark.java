@@ -0,0 +1,93 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.columnar.ColumnarPriceRepositoryAdapter;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped.MappedPriceRepositoryAdapter;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped.MappedPriceSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time until a price index over {@code prices} stored prices is ready to serve, as at startup:
+ * mapping an up-to-date snapshot file (fingerprint query and checksum included, then without either),
+ * rewriting the file from PRICES, and streaming PRICES into the columnar store for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MappedSnapshotBenchmark {
+
+    private static final long FIRST_PRODUCT_ID = 1_000_000L;
+
+    @Param({"100000", "1000000"})
+    private int prices;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private MappedPriceRepositoryAdapter adapter;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("prices-snapshot");
+        context = BenchmarkApplication.start(WebApplicationType.NONE,
+                "prices.repository.adapter=mapped",
+                "prices.mapped-snapshot.path=" + directory.resolve("prices.snapshot"));
+        List<Price> rows = new ArrayList<>(prices);
+        for (int i = 0; i < prices / 4; i++) {
+            rows.addAll(PriceFixtures.overlappingPrices(i * 4L + 100, FIRST_PRODUCT_ID + i, 4));
+        }
+        BenchmarkApplication.insert(context, rows);
+        adapter = context.getBean(MappedPriceRepositoryAdapter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // PRICES changed since startup, so this writes the snapshot every benchmark then maps
+        adapter.open();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public int openMapped() {
+        adapter.open();
+        return adapter.snapshot().size();
+    }
+
+    @Benchmark
+    public int mapWithoutChecks() throws IOException {
+        return MappedPriceSnapshot.open(adapter.snapshot().path(), false).size();
+    }
+
+    @Benchmark
+    public int rewriteMapped() {
+        adapter.rebuild();
+        return adapter.snapshot().size();
+    }
+
+    @Benchmark
+    public int loadColumnar() {
+        ColumnarPriceRepositoryAdapter columnar = new ColumnarPriceRepositoryAdapter(jdbcTemplate);
+        columnar.reload();
+        return columnar.store().size();
+    }
+}
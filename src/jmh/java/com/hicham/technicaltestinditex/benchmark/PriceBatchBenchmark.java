@@ -0,0 +1,96 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /api/prices/batch against the equivalent sequence of GET /api/prices calls over HTTP.
+ * Each operation resolves {@code batchSize} (date, product, brand) queries over distinct products.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceBatchBenchmark {
+
+    private static final long FIRST_PRODUCT_ID = 900_000L;
+    private static final int PRICES_PER_PRODUCT = 4;
+
+    @Param({"1", "10", "50", "100"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private List<URI> getUris;
+    private URI batchUri;
+    private String batchBody;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            prices.addAll(PriceFixtures.overlappingPrices(
+                    1L + (long) i * PRICES_PER_PRODUCT, FIRST_PRODUCT_ID + i, PRICES_PER_PRODUCT));
+        }
+        BenchmarkApplication.insert(context, prices);
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/prices";
+        httpClient = HttpClient.newHttpClient();
+        getUris = new ArrayList<>(batchSize);
+        StringBuilder body = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < batchSize; i++) {
+            getUris.add(URI.create(baseUrl + "?applicationDate=" + PriceFixtures.QUERY_DATE
+                    + "&productId=" + (FIRST_PRODUCT_ID + i) + "&brandId=1"));
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"applicationDate\":\"").append(PriceFixtures.QUERY_DATE)
+                    .append("\",\"productId\":").append(FIRST_PRODUCT_ID + i)
+                    .append(",\"brandId\":1}");
+        }
+        batchBody = body.append("]}").toString();
+        batchUri = URI.create(baseUrl + "/batch");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int sequentialGets() throws IOException, InterruptedException {
+        int found = 0;
+        for (URI uri : getUris) {
+            HttpResponse<byte[]> response = httpClient.send(
+                    HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int batchPost() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(batchUri)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(batchBody))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return response.statusCode();
+    }
+}
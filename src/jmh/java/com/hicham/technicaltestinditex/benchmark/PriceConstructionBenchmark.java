@@ -0,0 +1,40 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a Price with its value objects and invariant checks, as done once per row read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceConstructionBenchmark {
+
+    private long id = 1L;
+    private final LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private final LocalDateTime end = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+    private final BigDecimal amount = new BigDecimal("35.50");
+
+    @Benchmark
+    public Price construct() {
+        return Price.of(
+                PriceId.of(id),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(start, end),
+                1,
+                0,
+                amount,
+                "EUR"
+        );
+    }
+}
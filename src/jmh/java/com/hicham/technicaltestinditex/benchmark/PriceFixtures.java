@@ -0,0 +1,61 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Realistic price sets for benchmarks: a long-running base price plus promotional prices of
+ * varying length and priority, all of them containing {@link #QUERY_DATE}.
+ */
+public final class PriceFixtures {
+
+    public static final BrandId BRAND_ID = BrandId.of(1L);
+    public static final LocalDateTime QUERY_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private static final LocalDateTime SEASON_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime SEASON_END = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    private PriceFixtures() {
+    }
+
+    /**
+     * Builds {@code overlapping} prices for the given product, every one applicable at {@link #QUERY_DATE}.
+     *
+     * @param firstId     identifier of the first price, the others follow sequentially
+     * @param productId   the product identifier
+     * @param overlapping number of prices to build
+     * @return the prices, base price first
+     */
+    public static List<Price> overlappingPrices(long firstId, long productId, int overlapping) {
+        Random random = new Random(productId);
+        List<Price> prices = new ArrayList<>(overlapping);
+        prices.add(price(firstId, productId, SEASON_START, SEASON_END, 1, 0, "35.50"));
+        for (int i = 1; i < overlapping; i++) {
+            LocalDateTime start = QUERY_DATE.minusHours(1 + random.nextInt(24 * 30));
+            LocalDateTime end = QUERY_DATE.plusHours(1 + random.nextInt(24 * 30));
+            String amount = (10 + random.nextInt(40)) + "." + (10 + random.nextInt(89));
+            prices.add(price(firstId + i, productId, start, end, i + 1, 1 + random.nextInt(10), amount));
+        }
+        return prices;
+    }
+
+    public static Price price(long id, long productId, LocalDateTime start, LocalDateTime end,
+                              int priceList, int priority, String amount) {
+        return Price.of(
+                PriceId.of(id),
+                BRAND_ID,
+                ProductId.of(productId),
+                PriceRange.of(start, end),
+                priceList,
+                priority,
+                new BigDecimal(amount),
+                "EUR"
+        );
+    }
+}
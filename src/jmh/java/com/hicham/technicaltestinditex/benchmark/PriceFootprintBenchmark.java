@@ -0,0 +1,65 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.columnar.ColumnarPriceStore;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the retained heap per million prices: boxed domain objects in a list versus the columnar store.
+ * A plain main rather than JMH, since it measures retained memory, not time.
+ *
+ * <p>Argument (optional): number of prices, default 2,000,000. Needs a heap of roughly 1 GiB per million boxed prices.
+ */
+public final class PriceFootprintBenchmark {
+
+    private PriceFootprintBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        long baseline = usedHeap(memory);
+        List<Price> boxed = generate(count);
+        long boxedBytes = usedHeap(memory) - baseline;
+
+        baseline = usedHeap(memory);
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder();
+        boxed.forEach(builder::add);
+        boxed = null;
+        ColumnarPriceStore store = builder.build();
+        builder = null;
+        long columnarBytes = usedHeap(memory) - baseline + boxedBytes;
+
+        System.out.printf("%-10s %14s %18s%n", "layout", "bytes/price", "MiB per million");
+        System.out.printf("%-10s %14d %18d%n", "boxed", boxedBytes / count, boxedBytes * 1_000_000L / count / (1 << 20));
+        System.out.printf("%-10s %14d %18d%n", "columnar", columnarBytes / count, columnarBytes * 1_000_000L / count / (1 << 20));
+        System.out.printf("%-10s %14d %18d%n", "estimated", store.heapBytes() / count, store.heapBytesPerMillion() / (1 << 20));
+    }
+
+    /**
+     * Distinct values per row, so no BigDecimal or LocalDateTime instance is shared between prices.
+     */
+    private static List<Price> generate(int count) {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long productId = 1_000_000L + i / 4;
+            prices.add(PriceFixtures.price(i + 1L, productId, base.plusMinutes(i), base.plusMinutes(i).plusDays(30),
+                    i % 4 + 1, i % 4, String.format("%d.%02d", 10 + i % 90, i % 100)));
+        }
+        return prices;
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,72 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportOptions;
+import com.hicham.technicaltestinditex.application.command.PriceImportReport;
+import com.hicham.technicaltestinditex.application.port.in.ImportPricesUseCase;
+import com.hicham.technicaltestinditex.infrastructure.importer.PriceImportFormat;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk import of {@code rows} CSV prices through the import use case into H2, by JDBC batch size.
+ * Each operation is one whole import; rows per second are {@code rows} divided by the reported time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PriceImportBenchmark {
+
+    private static final long FIRST_PRODUCT_ID = 900_000L;
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"1", "100", "1000", "5000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ImportPricesUseCase importPricesUseCase;
+    private JdbcTemplate jdbcTemplate;
+    private String csv;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE);
+        importPricesUseCase = context.getBean(ImportPricesUseCase.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        StringBuilder content = new StringBuilder("BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR\n");
+        for (int i = 0; i < rows; i++) {
+            content.append("1,").append(FIRST_PRODUCT_ID + i / 4)
+                    .append(",2020-06-14T00:00:00,2020-12-31T23:59:59,")
+                    .append(i % 4 + 1).append(',').append(i % 4).append(",35.50,EUR\n");
+        }
+        csv = content.toString();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteImported() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID >= ?", FIRST_PRODUCT_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long importCsv() {
+        PriceImportReport report = importPricesUseCase.importPrices(
+                PriceImportFormat.CSV.read(new StringReader(csv)),
+                new PriceImportOptions(batchSize, Math.max(batchSize, 50_000), 100));
+        return report.rowsImported();
+    }
+}
@@ -0,0 +1,224 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.TechnicalTestInditexApplication;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test of GET /api/prices: servlet stack on platform threads, servlet stack
+ * on virtual threads and, when built with the reactive Maven profile, WebFlux with R2DBC.
+ * JMH does not model thousands of concurrent clients, so this is a plain main: every client
+ * runs on its own virtual thread and sends its next request as soon as the previous one returns.
+ * The application runs in a separate JVM started from the benchmark classpath, importing the benchmark
+ * prices at startup, so the clients do not compete with the server for its heap, GC or JIT.
+ * Reports throughput, p50 and p99 latency and the number of failed requests per run.
+ *
+ * <p>Arguments (all optional): client counts (comma separated, default {@code 1000,10000}),
+ * measurement seconds (default 20), modes (comma separated among {@code platform,virtual,reactive},
+ * default {@code platform,virtual}), warm-up seconds (default 5).
+ * Running 10k clients needs an open-files limit above 20k ({@code ulimit -n}).
+ */
+public final class PriceLoadBenchmark {
+
+    private static final long PRODUCT_ID = 920_000L;
+    private static final int OVERLAPPING = 4;
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final long POLL_MILLIS = 50;
+
+    private static final String[] COMMON = {
+            "spring.jpa.open-in-view=false",
+            "spring.jpa.show-sql=false",
+            "server.tomcat.max-connections=20000",
+            "server.tomcat.accept-count=2000",
+            "logging.level.root=WARN",
+            "logging.level.org.hibernate.SQL=WARN",
+            "logging.level.com.hicham.technicaltestinditex=WARN"
+    };
+
+    private PriceLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] clientCounts = Arrays.stream((args.length > 0 ? args[0] : "1000,10000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration measurement = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 20);
+        List<String> modes = List.of((args.length > 2 ? args[2] : "platform,virtual").split(","));
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 5);
+
+        Path prices = writePrices(PriceFixtures.overlappingPrices(1L, PRODUCT_ID, OVERLAPPING));
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-9s %8s %12s %10s %10s %8s", "mode", "clients", "req/s", "p50 ms", "p99 ms", "errors"));
+        for (String mode : modes) {
+            int port = freePort();
+            URI uri = URI.create("http://localhost:" + port
+                    + "/api/prices?applicationDate=" + PriceFixtures.QUERY_DATE
+                    + "&productId=" + PRODUCT_ID + "&brandId=1");
+            Process server = start(mode, port, prices);
+            try {
+                awaitPrices(server, uri);
+                for (int clients : clientCounts) {
+                    run(uri, clients, warmup);
+                    Result result = run(uri, clients, measurement);
+                    report.add(String.format("%-9s %8d %12.0f %10.2f %10.2f %8d",
+                            mode, clients, result.throughput(), result.percentileMillis(0.50),
+                            result.percentileMillis(0.99), result.errors()));
+                }
+            } finally {
+                server.destroy();
+                if (!server.waitFor(30, TimeUnit.SECONDS)) {
+                    server.destroyForcibly().waitFor();
+                }
+            }
+        }
+        Files.deleteIfExists(prices);
+        report.forEach(System.out::println);
+    }
+
+    /**
+     * Launches the application in its own JVM with the classpath of this benchmark, which holds the
+     * reactive stack when built with the reactive Maven profile.
+     */
+    private static Process start(String mode, int port, Path prices) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                TechnicalTestInditexApplication.class.getName()));
+        List<String> properties = new ArrayList<>(List.of(COMMON));
+        properties.add("server.port=" + port);
+        properties.add("prices.import.file=" + prices);
+        switch (mode) {
+            case "platform" -> properties.add("spring.main.web-application-type=servlet");
+            case "virtual" -> {
+                properties.add("spring.main.web-application-type=servlet");
+                properties.add("spring.profiles.active=virtual-threads");
+            }
+            case "reactive" -> properties.add("spring.profiles.active=reactive");
+            default -> throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        properties.forEach(property -> command.add("--" + property));
+        return new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    /**
+     * Waits until the server answers the benchmark lookup, which also means the startup import finished.
+     */
+    private static void awaitPrices(Process server, URI uri) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+            if (!server.isAlive()) {
+                throw new IllegalStateException("Application exited with " + server.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Keep polling until the connector accepts connections
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        throw new IllegalStateException("No price served within " + STARTUP_TIMEOUT + " at " + uri);
+    }
+
+    private static Path writePrices(List<Price> prices) throws IOException {
+        Path file = Files.createTempFile("load-prices", ".csv");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR\n");
+            for (Price price : prices) {
+                writer.write(price.getBrandId().value() + "," + price.getProductId().value() + ","
+                        + price.getPriceRange().startDate() + "," + price.getPriceRange().endDate() + ","
+                        + price.getPriceList() + "," + price.getPriority() + ","
+                        + price.getPrice().toPlainString() + "," + price.getCurrency() + "\n");
+            }
+        }
+        return file;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Result run(URI uri, int clients, Duration duration) {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().timeout(Duration.ofSeconds(30)).build();
+        long[][] latencies = new long[clients][];
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        // Closed in reverse order: the clients finish before the HTTP client and its executor are closed
+        try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(httpExecutor).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                executor.execute(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.increment();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies[client] = Arrays.copyOf(samples, count);
+                });
+            }
+        }
+
+        long[] all = Arrays.stream(latencies)
+                .filter(samples -> samples != null)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        return new Result(all, all.length / (double) duration.toSeconds(), errors.sum());
+    }
+
+    private record Result(long[] sortedLatencies, double throughput, long errors) {
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct conversions on the lookup path: entity to domain and domain to REST DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceMapperBenchmark {
+
+    private PriceEntityMapper priceEntityMapper;
+    private PriceRestMapper priceRestMapper;
+    private PriceEntity entity;
+    private Price price;
+
+    @Setup
+    public void setUp() {
+        priceEntityMapper = Mappers.getMapper(PriceEntityMapper.class);
+        priceRestMapper = Mappers.getMapper(PriceRestMapper.class);
+        entity = new PriceEntity(
+                1L, 1L,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+        price = priceEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Price entityToDomain() {
+        return priceEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public PriceResponseDto domainToRestResponse() {
+        return priceRestMapper.toRestResponse(price);
+    }
+}
@@ -0,0 +1,108 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
+import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Miss-heavy traffic: every query targets either an unknown product or a date before the first price
+ * of a known one. Compares the throwing and the Optional use case paths, and the GET endpoint answering 404,
+ * with the segment and negative caches off and on, and with the Bloom filter of stored pairs off and on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceMissBenchmark {
+
+    private static final long KNOWN_PRODUCT_ID = 920_000L;
+    private static final long FIRST_UNKNOWN_PRODUCT_ID = 930_000L;
+    private static final int DISTINCT_QUERIES = 1024;
+    private static final LocalDateTime GAP_DATE = LocalDateTime.of(2019, 6, 14, 16, 0);
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    @Param({"false", "true"})
+    private boolean bloomFilter;
+
+    private ConfigurableApplicationContext context;
+    private GetPriceUseCase getPriceUseCase;
+    private HttpClient httpClient;
+    private GetPriceQuery[] queries;
+    private URI[] uris;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET,
+                "prices.cache.enabled=" + cache,
+                "prices.bloom-filter.enabled=" + bloomFilter);
+        BenchmarkApplication.insert(context, PriceFixtures.overlappingPrices(1L, KNOWN_PRODUCT_ID, 4));
+        getPriceUseCase = context.getBean(GetPriceUseCase.class);
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/prices";
+        httpClient = HttpClient.newHttpClient();
+        queries = new GetPriceQuery[DISTINCT_QUERIES];
+        uris = new URI[DISTINCT_QUERIES];
+        for (int i = 0; i < DISTINCT_QUERIES; i++) {
+            // Half unknown products, half dates in the gap before the known product's first price
+            long productId = i % 2 == 0 ? FIRST_UNKNOWN_PRODUCT_ID + i : KNOWN_PRODUCT_ID;
+            LocalDateTime at = i % 2 == 0 ? PriceFixtures.QUERY_DATE : GAP_DATE.plusMinutes(i);
+            queries[i] = new GetPriceQuery(ProductId.of(productId), PriceFixtures.BRAND_ID, at);
+            uris[i] = URI.create(baseUrl + "?applicationDate=" + at + "&productId=" + productId + "&brandId=1");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getPriceThrowing() {
+        try {
+            return getPriceUseCase.getPrice(nextQuery());
+        } catch (PriceNotFoundException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Optional<Price> findPrice() {
+        return getPriceUseCase.findPrice(nextQuery());
+    }
+
+    @Benchmark
+    public int httpNotFound() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(uris[nextIndex()]).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return response.statusCode();
+    }
+
+    private GetPriceQuery nextQuery() {
+        return queries[nextIndex()];
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (DISTINCT_QUERIES - 1);
+        return next;
+    }
+}
@@ -0,0 +1,61 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full repository adapter against H2: SQL round trip, entity hydration and mapping.
+ * {@code findHighestPriorityPrice} measures the top-1 path, which the JPA adapter pushes down to the database.
+ * The adapter under test is picked with the {@code adapter} parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricePersistenceAdapterBenchmark {
+
+    private static final long PRODUCT_ID = 900_000L;
+
+    @Param({"1", "10", "100", "1000"})
+    private int overlapping;
+
+    @Param({"jpa", "jdbc", "memory", "columnar"})
+    private String adapter;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepositoryPort priceRepositoryPort;
+    private ProductId productId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE, "prices.repository.adapter=" + adapter);
+        BenchmarkApplication.insert(context, PriceFixtures.overlappingPrices(1L, PRODUCT_ID, overlapping));
+        priceRepositoryPort = context.getBean(PriceRepositoryPort.class);
+        productId = ProductId.of(PRODUCT_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Price> findApplicablePrices() {
+        return priceRepositoryPort.findApplicablePrices(PriceFixtures.QUERY_DATE, productId, PriceFixtures.BRAND_ID);
+    }
+
+    @Benchmark
+    public Optional<Price> findHighestPriorityPrice() {
+        return priceRepositoryPort.findHighestPriorityPrice(PriceFixtures.QUERY_DATE, productId, PriceFixtures.BRAND_ID);
+    }
+}
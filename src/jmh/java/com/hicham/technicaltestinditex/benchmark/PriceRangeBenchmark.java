@@ -0,0 +1,42 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the domain date-range check executed for every candidate price.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceRangeBenchmark {
+
+    private final PriceRange range = PriceRange.of(
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+
+    private LocalDateTime inside;
+    private LocalDateTime outside;
+
+    @Setup
+    public void setUp() {
+        inside = LocalDateTime.of(2020, 6, 14, 16, 0);
+        outside = LocalDateTime.of(2019, 1, 1, 10, 0);
+    }
+
+    @Benchmark
+    public boolean containsInside() {
+        return range.contains(inside);
+    }
+
+    @Benchmark
+    public boolean containsOutside() {
+        return range.contains(outside);
+    }
+}
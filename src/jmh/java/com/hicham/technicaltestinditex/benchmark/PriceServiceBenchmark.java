@@ -0,0 +1,54 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.application.port.out.PriceLookupMetrics;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.service.PriceService;
+import com.hicham.technicaltestinditex.application.service.TimelinePriceService;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price selection in the application layer over a stub repository, isolating it from I/O.
+ * {@code scan} filters and picks the highest priority on every call; {@code timeline}
+ * resolves the timeline once and binary-searches it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceServiceBenchmark {
+
+    @Param({"1", "10", "100", "1000", "5000"})
+    private int overlapping;
+
+    @Param({"scan", "timeline"})
+    private String strategy;
+
+    private GetPriceUseCase useCase;
+    private GetPriceQuery query;
+
+    @Setup
+    public void setUp() {
+        StubPriceRepositoryPort port = new StubPriceRepositoryPort(
+                PriceFixtures.overlappingPrices(1L, 35455L, overlapping));
+        if ("timeline".equals(strategy)) {
+            TimelinePriceService timelinePriceService = new TimelinePriceService(port, PriceLookupMetrics.NOOP);
+            timelinePriceService.rebuildAll();
+            useCase = timelinePriceService;
+        } else {
+            useCase = new PriceService(port, PriceLookupMetrics.NOOP);
+        }
+        query = new GetPriceQuery(ProductId.of(35455L), PriceFixtures.BRAND_ID, PriceFixtures.QUERY_DATE);
+    }
+
+    @Benchmark
+    public Price getPrice() {
+        return useCase.getPrice(query);
+    }
+}
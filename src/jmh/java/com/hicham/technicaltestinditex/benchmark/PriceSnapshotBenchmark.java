@@ -0,0 +1,92 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups on the in-memory adapter alone and while one thread keeps publishing new snapshot versions.
+ * Each update reloads {@code changedKeys} pairs; readers are expected to keep their throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceSnapshotBenchmark {
+
+    private static final long FIRST_PRODUCT_ID = 900_000L;
+    private static final int PRICES_PER_PRODUCT = 4;
+
+    @Param({"10000"})
+    private int products;
+
+    @Param({"1", "100"})
+    private int changedKeys;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE, "prices.repository.adapter=memory");
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            prices.addAll(PriceFixtures.overlappingPrices(
+                    1L + (long) i * PRICES_PER_PRODUCT, FIRST_PRODUCT_ID + i, PRICES_PER_PRODUCT));
+        }
+        BenchmarkApplication.insert(context, prices);
+        priceRepositoryPort = context.getBean(PriceRepositoryPort.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(4)
+    public Optional<Price> readOnly() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("readWhileUpdating")
+    @GroupThreads(4)
+    public Optional<Price> read() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("readWhileUpdating")
+    @GroupThreads(1)
+    public void update() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<PriceKey> keys = new HashSet<>(changedKeys);
+        while (keys.size() < changedKeys) {
+            keys.add(PriceKey.of(PriceFixtures.BRAND_ID, ProductId.of(FIRST_PRODUCT_ID + random.nextInt(products))));
+        }
+        context.publishEvent(PricesChangedEvent.of(keys));
+    }
+
+    private Optional<Price> lookup() {
+        long productId = FIRST_PRODUCT_ID + ThreadLocalRandom.current().nextInt(products);
+        return priceRepositoryPort.findHighestPriorityPrice(
+                PriceFixtures.QUERY_DATE, ProductId.of(productId), PriceFixtures.BRAND_ID);
+    }
+}
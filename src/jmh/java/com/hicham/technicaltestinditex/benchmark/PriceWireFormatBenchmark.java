@@ -0,0 +1,102 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceBatchItemDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceBatchResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding cost of the REST payloads in each negotiated wire format: a single
+ * {@code GET /api/prices} response and a 100-entry batch response. The mappers are configured as
+ * the application's converters; {@code cbor-iso} and {@code smile-iso} keep the ISO date strings of
+ * JSON, to isolate the cost of the dates. The encoded size of each payload is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceWireFormatBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"json", "cbor", "smile", "cbor-iso", "smile-iso"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private PriceResponseDto price;
+    private PriceBatchResponseDto batch;
+    private byte[] encodedPrice;
+    private byte[] encodedBatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean binaryDates = format.equals("cbor") || format.equals("smile");
+        JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor", "cbor-iso" -> new CBORFactory();
+            case "smile", "smile-iso" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        // As the application's converters: ISO dates in JSON, numeric arrays in the binary formats
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().factory(factory);
+        mapper = (binaryDates
+                ? builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                : builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)).build();
+
+        PriceRestMapper priceRestMapper = Mappers.getMapper(PriceRestMapper.class);
+        List<PriceBatchItemDto> items = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Price winner = PriceFixtures.overlappingPrices(i * 4L + 1, 35455L + i, 4).get(3);
+            items.add(PriceBatchItemDto.builder()
+                    .index(i)
+                    .status("FOUND")
+                    .applicationDate(PriceFixtures.QUERY_DATE)
+                    .productId(winner.getProductId().value())
+                    .brandId(winner.getBrandId().value())
+                    .price(priceRestMapper.toRestResponse(winner))
+                    .build());
+        }
+        price = items.get(0).getPrice();
+        batch = PriceBatchResponseDto.builder().items(items).found(BATCH_SIZE).notFound(0).build();
+        encodedPrice = mapper.writeValueAsBytes(price);
+        encodedBatch = mapper.writeValueAsBytes(batch);
+        System.out.printf("%n%s payload (%s dates): price %d bytes, batch of %d %d bytes%n",
+                format, binaryDates ? "array" : "ISO", encodedPrice.length, BATCH_SIZE, encodedBatch.length);
+    }
+
+    @Benchmark
+    public byte[] encodePrice() throws IOException {
+        return mapper.writeValueAsBytes(price);
+    }
+
+    @Benchmark
+    public PriceResponseDto decodePrice() throws IOException {
+        return mapper.readValue(encodedPrice, PriceResponseDto.class);
+    }
+
+    @Benchmark
+    public byte[] encodeBatch() throws IOException {
+        return mapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public PriceBatchResponseDto decodeBatch() throws IOException {
+        return mapper.readValue(encodedBatch, PriceBatchResponseDto.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from JVM launch to the first successful GET /api/prices, the delay a new pod adds on a traffic spike.
+ * Each run starts the extracted application of {@code mvn -Pfast-startup package} in a fresh JVM on a free
+ * port, polls the endpoint every few milliseconds and kills the process once it answers. Modes:
+ * <ul>
+ *     <li>{@code default}: the regular application, no AOT and no CDS archive</li>
+ *     <li>{@code aot}: AOT-processed beans with the {@code fast-startup} profile</li>
+ *     <li>{@code aot-cds}: the same with the trained class-data-sharing archive</li>
+ * </ul>
+ * JMH forks cannot time a child process, so this is a plain main. Reports min, median and max per mode.
+ *
+ * <p>Arguments (all optional): runs per mode (default 10), modes (comma separated, default
+ * {@code default,aot,aot-cds}), extracted application directory (default {@code target/extracted}).
+ */
+public final class StartupBenchmark {
+
+    private static final String FIRST_REQUEST = "/api/prices?applicationDate=2020-06-14T10:00:00&productId=35455&brandId=1";
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final long POLL_MILLIS = 5;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        List<String> modes = List.of((args.length > 1 ? args[1] : "default,aot,aot-cds").split(","));
+        Path directory = Path.of(args.length > 2 ? args[2] : "target/extracted");
+        Path jar = findApplicationJar(directory);
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-8s %6s %10s %10s %10s", "mode", "runs", "min ms", "median ms", "max ms"));
+        for (String mode : modes) {
+            // One discarded run warms the file system cache
+            timeToFirstResponse(command(mode, jar));
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = timeToFirstResponse(command(mode, jar));
+            }
+            Arrays.sort(millis);
+            report.add(String.format("%-8s %6d %10d %10d %10d", mode, runs, millis[0], millis[runs / 2], millis[runs - 1]));
+        }
+        report.forEach(System.out::println);
+    }
+
+    private static List<String> command(String mode, Path jar) {
+        List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString()));
+        switch (mode) {
+            case "default" -> {
+            }
+            case "aot" -> command.add("-Dspring.aot.enabled=true");
+            case "aot-cds" -> {
+                Path archive = jar.resolveSibling("application.jsa");
+                if (!Files.exists(archive)) {
+                    throw new IllegalStateException(archive + " not found, build with mvn -Pfast-startup package");
+                }
+                command.add("-XX:SharedArchiveFile=" + archive);
+                command.add("-Dspring.aot.enabled=true");
+            }
+            default -> throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        command.add("-jar");
+        command.add(jar.toString());
+        if (!"default".equals(mode)) {
+            command.add("--spring.profiles.active=fast-startup");
+        }
+        return command;
+    }
+
+    private static long timeToFirstResponse(List<String> command) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> withPort = new ArrayList<>(command);
+        withPort.add("--server.port=" + port);
+        withPort.add("--logging.level.root=WARN");
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + FIRST_REQUEST)).GET().build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(withPort)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ": " + command);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException notListeningYet) {
+                    // Keep polling until the connector accepts connections
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            throw new IllegalStateException("No response within " + TIMEOUT + ": " + command);
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static Path findApplicationJar(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "No application jar in " + directory + ", build with mvn -Pfast-startup package"));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
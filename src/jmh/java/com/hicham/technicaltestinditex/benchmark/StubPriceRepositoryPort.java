@@ -0,0 +1,46 @@
+package com.hicham.technicaltestinditex.benchmark;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * PriceRepositoryPort returning a fixed price set, isolating the application layer from I/O.
+ */
+public class StubPriceRepositoryPort implements PriceRepositoryPort {
+
+    private final List<Price> prices;
+
+    public StubPriceRepositoryPort(List<Price> prices) {
+        this.prices = List.copyOf(prices);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return prices;
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return prices;
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        return prices.stream()
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getBrandId(), price.getProductId())));
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return prices;
+    }
+}
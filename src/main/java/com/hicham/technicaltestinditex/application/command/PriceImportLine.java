@@ -0,0 +1,25 @@
+package com.hicham.technicaltestinditex.application.command;
+
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+
+/**
+ * One parsed line of a bulk price import: either a valid price or the reason it was rejected.
+ *
+ * @param lineNumber 1-based line number in the source, header included
+ * @param price      the parsed price, null when the line is invalid
+ * @param error      why the line is invalid, null when it is valid
+ */
+public record PriceImportLine(long lineNumber, NewPrice price, String error) {
+
+    public static PriceImportLine valid(long lineNumber, NewPrice price) {
+        return new PriceImportLine(lineNumber, price, null);
+    }
+
+    public static PriceImportLine invalid(long lineNumber, String error) {
+        return new PriceImportLine(lineNumber, null, error);
+    }
+
+    public boolean isValid() {
+        return price != null;
+    }
+}
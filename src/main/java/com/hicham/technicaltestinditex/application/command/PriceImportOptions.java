@@ -0,0 +1,23 @@
+package com.hicham.technicaltestinditex.application.command;
+
+/**
+ * Tuning of a bulk price import.
+ *
+ * @param batchSize         rows sent to the store in a single batch statement
+ * @param commitInterval    rows written between two commits; a commit happens after the batch that reaches it
+ * @param maxReportedErrors rejected rows listed individually in the report; every rejection is still counted
+ */
+public record PriceImportOptions(int batchSize, int commitInterval, int maxReportedErrors) {
+
+    public PriceImportOptions {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (commitInterval < batchSize) {
+            throw new IllegalArgumentException("Commit interval cannot be smaller than the batch size");
+        }
+        if (maxReportedErrors < 0) {
+            throw new IllegalArgumentException("Maximum reported errors cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.hicham.technicaltestinditex.application.command;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk price import.
+ *
+ * @param rowsRead     data lines read from the source
+ * @param rowsImported rows committed to the store
+ * @param rowsRejected rows rejected by validation or by the store
+ * @param errors       the first rejected rows with their reason
+ * @param elapsed      wall-clock duration of the import
+ */
+public record PriceImportReport(
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        List<PriceImportError> errors,
+        Duration elapsed
+) {
+
+    public PriceImportReport {
+        errors = List.copyOf(errors);
+    }
+
+    /**
+     * Data lines processed per second, imported and rejected alike.
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rowsRead * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * A rejected row.
+     *
+     * @param lineNumber 1-based line number in the source
+     * @param message    why the row was rejected
+     */
+    public record PriceImportError(long lineNumber, String message) {}
+}
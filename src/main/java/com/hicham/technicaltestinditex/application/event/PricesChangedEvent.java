@@ -0,0 +1,20 @@
+package com.hicham.technicaltestinditex.application.event;
+
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+
+import java.util.Set;
+
+/**
+ * Application event published when the stored prices of one or more (brand, product) pairs change.
+ * Listeners holding derived read models rebuild the affected keys.
+ */
+public record PricesChangedEvent(Set<PriceKey> keys) {
+
+    public PricesChangedEvent {
+        keys = Set.copyOf(keys);
+    }
+
+    public static PricesChangedEvent of(Set<PriceKey> keys) {
+        return new PricesChangedEvent(keys);
+    }
+}
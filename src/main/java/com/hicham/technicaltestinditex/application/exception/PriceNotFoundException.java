@@ -1,16 +1,43 @@
 package com.hicham.technicaltestinditex.application.exception;
 
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+
 /**
  * Exception thrown when no applicable price is found for the given criteria.
+ * Instances created with {@link #forQuery(GetPriceQuery)} are an expected outcome rather than a failure:
+ * they carry no stack trace and only format their message when it is read.
  */
 public class PriceNotFoundException extends RuntimeException {
 
+    private final transient GetPriceQuery query;
+
     public PriceNotFoundException(String message) {
         super(message);
+        this.query = null;
     }
 
     public PriceNotFoundException(String message, Throwable cause) {
         super(message, cause);
+        this.query = null;
+    }
+
+    private PriceNotFoundException(GetPriceQuery query) {
+        super(null, null, false, false);
+        this.query = query;
     }
-}
 
+    public static PriceNotFoundException forQuery(GetPriceQuery query) {
+        return new PriceNotFoundException(query);
+    }
+
+    @Override
+    public String getMessage() {
+        if (query == null) {
+            return super.getMessage();
+        }
+        return String.format("No price found for product %d, brand %d at %s",
+                query.productId().value(),
+                query.brandId().value(),
+                query.at());
+    }
+}
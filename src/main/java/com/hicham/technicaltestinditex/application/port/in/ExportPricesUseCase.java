@@ -0,0 +1,22 @@
+package com.hicham.technicaltestinditex.application.port.in;
+
+import com.hicham.technicaltestinditex.application.query.PriceExportQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.util.function.Consumer;
+
+/**
+ * Input port for the price export use case.
+ * Streams the stored prices to a consumer one at a time, so the catalog is never held in memory.
+ */
+public interface ExportPricesUseCase {
+
+    /**
+     * Hands every price matching the query to the consumer, ordered by id.
+     *
+     * @param query    the brand and validity window to export
+     * @param consumer receives each price as soon as it is read
+     * @return the number of exported prices
+     */
+    long exportPrices(PriceExportQuery query, Consumer<Price> consumer);
+}
@@ -0,0 +1,21 @@
+package com.hicham.technicaltestinditex.application.port.in;
+
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceLookupResult;
+
+import java.util.List;
+
+/**
+ * Input port for the batch get price use case.
+ * Resolves several price queries in a single call, reporting not-found entries individually.
+ */
+public interface GetPriceBatchUseCase {
+
+    /**
+     * Gets the applicable price for every given query.
+     *
+     * @param requests the price queries to resolve
+     * @return one result per query, in the same order
+     */
+    List<PriceLookupResult> getPrices(List<GetPriceQuery> requests);
+}
@@ -0,0 +1,21 @@
+package com.hicham.technicaltestinditex.application.port.in;
+
+import com.hicham.technicaltestinditex.application.query.GetPriceTimelineQuery;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
+
+import java.util.List;
+
+/**
+ * Input port for the price timeline use case.
+ * Resolves when the winning price of a product changes across a date range.
+ */
+public interface GetPriceTimelineUseCase {
+
+    /**
+     * Gets the non-overlapping sequence of winning prices within the query window.
+     *
+     * @param query the product, brand and window
+     * @return the winning segments in chronological order, clipped to the window; empty if no price applies
+     */
+    List<PriceSegment> getTimeline(GetPriceTimelineQuery query);
+}
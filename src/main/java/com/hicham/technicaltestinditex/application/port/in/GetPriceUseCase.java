@@ -1,21 +1,55 @@
 package com.hicham.technicaltestinditex.application.port.in;
 
+import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
 import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceSegmentLookup;
 import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
+
+import java.util.Optional;
 
 /**
  * Input port for the get price use case.
  * This interface defines the contract for querying prices from the application perspective.
+ * Implementations report a missing price as a value; the throwing variants are derived from them.
  */
 public interface GetPriceUseCase {
 
+    /**
+     * Finds the applicable price for the given query parameters.
+     *
+     * @param request the price query request containing application date, product ID, and brand ID
+     * @return the applicable price, or empty if no price applies
+     */
+    Optional<Price> findPrice(GetPriceQuery request);
+
+    /**
+     * Resolves the application date against the timeline of the requested product.
+     *
+     * @param request the price query request containing application date, product ID, and brand ID
+     * @return the segment holding the applicable price, or the gap in which no price applies
+     */
+    PriceSegmentLookup lookupSegment(GetPriceQuery request);
+
     /**
      * Gets the applicable price for the given query parameters.
      *
      * @param request the price query request containing application date, product ID, and brand ID
      * @return the applicable price response
-     * @throws com.hicham.technicaltestinditex.application.exception.PriceNotFoundException if no applicable price is found
+     * @throws PriceNotFoundException if no applicable price is found
      */
-    Price getPrice(GetPriceQuery request);
-}
+    default Price getPrice(GetPriceQuery request) {
+        return findPrice(request).orElseThrow(() -> PriceNotFoundException.forQuery(request));
+    }
 
+    /**
+     * Gets the applicable price together with the time window in which it keeps winning.
+     *
+     * @param request the price query request containing application date, product ID, and brand ID
+     * @return the segment containing the application date and holding the applicable price
+     * @throws PriceNotFoundException if no applicable price is found
+     */
+    default PriceSegment getPriceSegment(GetPriceQuery request) {
+        return lookupSegment(request).findSegment().orElseThrow(() -> PriceNotFoundException.forQuery(request));
+    }
+}
@@ -0,0 +1,23 @@
+package com.hicham.technicaltestinditex.application.port.in;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportLine;
+import com.hicham.technicaltestinditex.application.command.PriceImportOptions;
+import com.hicham.technicaltestinditex.application.command.PriceImportReport;
+
+import java.util.Iterator;
+
+/**
+ * Input port for the bulk price import use case.
+ */
+public interface ImportPricesUseCase {
+
+    /**
+     * Stores every valid line, consuming them one by one so memory does not grow with the input.
+     * Invalid lines and rows rejected by the store are reported without stopping the import.
+     *
+     * @param lines   the parsed lines of the source
+     * @param options batch and commit sizes
+     * @return counts, rejected rows and throughput of the import
+     */
+    PriceImportReport importPrices(Iterator<PriceImportLine> lines, PriceImportOptions options);
+}
@@ -0,0 +1,49 @@
+package com.hicham.technicaltestinditex.application.port.out;
+
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+
+import java.util.List;
+
+/**
+ * Output port writing large amounts of new prices.
+ */
+public interface PriceBulkWriterPort {
+
+    /**
+     * Opens a write session. Rows inserted through it only become visible once committed.
+     *
+     * @return the session, to be closed by the caller
+     */
+    Session openSession();
+
+    interface Session extends AutoCloseable {
+
+        /**
+         * Inserts the given prices as a single batch. Rows the store rejects are reported
+         * and left out while the other rows of the batch are kept.
+         *
+         * @param prices the prices to insert
+         * @return the rejected rows, empty when the whole batch was inserted
+         */
+        List<RejectedPrice> insert(List<NewPrice> prices);
+
+        /**
+         * Commits every row inserted since the previous commit.
+         */
+        void commit();
+
+        /**
+         * Rolls back uncommitted rows and releases the session.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * A row the store refused to insert.
+     *
+     * @param index  position of the row in the inserted batch
+     * @param reason why the store refused it
+     */
+    record RejectedPrice(int index, String reason) {}
+}
@@ -0,0 +1,22 @@
+package com.hicham.technicaltestinditex.application.port.out;
+
+import com.hicham.technicaltestinditex.application.query.PriceExportQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.util.function.Consumer;
+
+/**
+ * Output port reading the stored prices as a stream.
+ * Implementations must read forward over the store instead of loading the matching rows first.
+ */
+public interface PriceExportPort {
+
+    /**
+     * Reads every price matching the query, ordered by id, handing each one to the consumer as it arrives.
+     *
+     * @param query    the brand and validity window to read
+     * @param consumer receives each price; an exception it throws stops the read
+     * @return the number of prices read
+     */
+    long exportPrices(PriceExportQuery query, Consumer<Price> consumer);
+}
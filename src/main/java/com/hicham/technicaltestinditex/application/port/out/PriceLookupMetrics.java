@@ -0,0 +1,20 @@
+package com.hicham.technicaltestinditex.application.port.out;
+
+/**
+ * Output port recording the time the application spends selecting the winning price
+ * once the candidate prices have been loaded.
+ */
+public interface PriceLookupMetrics {
+
+    /**
+     * Discards every measurement.
+     */
+    PriceLookupMetrics NOOP = nanos -> { };
+
+    /**
+     * Records one selection.
+     *
+     * @param nanos elapsed time in nanoseconds
+     */
+    void recordSelection(long nanos);
+}
@@ -2,10 +2,17 @@ package com.hicham.technicaltestinditex.application.port.out;
 
 import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
 import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.service.PriceSelector;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
 import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Output port for price repository operations.
@@ -22,5 +29,56 @@ public interface PriceRepositoryPort {
      * @return list of applicable prices
      */
     List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId);
+
+    /**
+     * Finds the applicable price with the highest priority for the given criteria.
+     * Adapters able to push the selection down to the store override this method.
+     *
+     * @param applicationDate the date for which to find the price
+     * @param productId       the product identifier
+     * @param brandId         the brand identifier
+     * @return the highest priority applicable price, or empty if none applies
+     */
+    default Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return PriceSelector.selectApplicable(findApplicablePrices(applicationDate, productId, brandId), applicationDate);
+    }
+
+    /**
+     * Finds every price of a product for a brand, regardless of its validity range.
+     *
+     * @param productId the product identifier
+     * @param brandId   the brand identifier
+     * @return list of prices
+     */
+    List<Price> findPrices(ProductId productId, BrandId brandId);
+
+    /**
+     * Finds the prices of several (brand, product) pairs whose validity range overlaps the given window.
+     *
+     * @param keys the (brand, product) pairs
+     * @param from the start of the window (inclusive)
+     * @param to   the end of the window (inclusive)
+     * @return prices grouped by (brand, product); pairs without prices are absent
+     */
+    Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds every stored price.
+     *
+     * @return list of all prices
+     */
+    List<Price> findAllPrices();
+
+    /**
+     * Finds every (brand, product) pair having at least one stored price.
+     * Adapters able to read the distinct pairs without loading the prices override this method.
+     *
+     * @return the stored pairs
+     */
+    default Set<PriceKey> findAllKeys() {
+        return findAllPrices().stream()
+                .map(price -> PriceKey.of(price.getBrandId(), price.getProductId()))
+                .collect(Collectors.toSet());
+    }
 }
 
@@ -0,0 +1,21 @@
+package com.hicham.technicaltestinditex.application.query;
+
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query for the winning prices of a product between two dates, both inclusive.
+ */
+public record GetPriceTimelineQuery(ProductId productId, BrandId brandId, LocalDateTime from, LocalDateTime to) {
+
+    public GetPriceTimelineQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to dates cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hicham.technicaltestinditex.application.query;
+
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter of a price export. Every criterion is optional: without brand every brand is exported,
+ * and only prices valid at some point between {@code from} and {@code to}, both inclusive, are kept.
+ */
+public record PriceExportQuery(BrandId brandId, LocalDateTime from, LocalDateTime to) {
+
+    public PriceExportQuery {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+    }
+
+    public static PriceExportQuery all() {
+        return new PriceExportQuery(null, null, null);
+    }
+}
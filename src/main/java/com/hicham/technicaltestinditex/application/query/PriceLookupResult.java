@@ -0,0 +1,28 @@
+package com.hicham.technicaltestinditex.application.query;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.util.Optional;
+
+/**
+ * Result of resolving a single price query inside a batch.
+ * The price is null when no applicable price was found.
+ */
+public record PriceLookupResult(GetPriceQuery query, Price price) {
+
+    public static PriceLookupResult found(GetPriceQuery query, Price price) {
+        return new PriceLookupResult(query, price);
+    }
+
+    public static PriceLookupResult notFound(GetPriceQuery query) {
+        return new PriceLookupResult(query, null);
+    }
+
+    public boolean isFound() {
+        return price != null;
+    }
+
+    public Optional<Price> findPrice() {
+        return Optional.ofNullable(price);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hicham.technicaltestinditex.application.query;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceGap;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceTimeline;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Result of resolving a single price query against the timeline of its (brand, product) pair.
+ * Holds either the segment in which the winning price applies or the gap in which no price applies,
+ * so a miss can be answered, and cached, without throwing.
+ */
+public record PriceSegmentLookup(PriceSegment segment, PriceGap gap) {
+
+    public PriceSegmentLookup {
+        if ((segment == null) == (gap == null)) {
+            throw new IllegalArgumentException("Exactly one of segment and gap must be set");
+        }
+    }
+
+    public static PriceSegmentLookup found(PriceSegment segment) {
+        return new PriceSegmentLookup(segment, null);
+    }
+
+    public static PriceSegmentLookup missing(PriceGap gap) {
+        return new PriceSegmentLookup(null, gap);
+    }
+
+    /**
+     * Resolves the given date against a timeline.
+     *
+     * @param timeline the timeline of the queried (brand, product) pair
+     * @param date     the application date
+     * @return the segment containing the date, or the gap containing it
+     */
+    public static PriceSegmentLookup in(PriceTimeline timeline, LocalDateTime date) {
+        return timeline.findSegment(date)
+                .map(PriceSegmentLookup::found)
+                .orElseGet(() -> missing(timeline.findGap(date).orElseThrow()));
+    }
+
+    /**
+     * Resolves the given date against the prices of a pair without building their whole timeline.
+     *
+     * @param prices the prices of the queried (brand, product) pair
+     * @param date   the application date
+     * @return the segment containing the date, or the gap containing it
+     */
+    public static PriceSegmentLookup at(Collection<Price> prices, LocalDateTime date) {
+        return PriceTimeline.segmentAt(prices, date)
+                .map(PriceSegmentLookup::found)
+                .orElseGet(() -> missing(PriceTimeline.gapAt(prices, date)));
+    }
+
+    public boolean isFound() {
+        return segment != null;
+    }
+
+    public Optional<PriceSegment> findSegment() {
+        return Optional.ofNullable(segment);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hicham.technicaltestinditex.application.service;
+
+import com.hicham.technicaltestinditex.application.port.in.GetPriceBatchUseCase;
+import com.hicham.technicaltestinditex.application.port.out.PriceLookupMetrics;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceLookupResult;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceTimeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application service implementing the batch get price use case.
+ * Loads the prices of every requested (brand, product) pair with a single repository call
+ * and resolves each query against the timeline of its pair.
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceBatchService implements GetPriceBatchUseCase {
+
+    private final PriceRepositoryPort priceRepositoryPort;
+    private final PriceLookupMetrics priceLookupMetrics;
+
+    @Override
+    public List<PriceLookupResult> getPrices(List<GetPriceQuery> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        LocalDateTime from = requests.get(0).at();
+        LocalDateTime to = from;
+        for (GetPriceQuery request : requests) {
+            keys.add(PriceKey.of(request.brandId(), request.productId()));
+            if (request.at().isBefore(from)) from = request.at();
+            if (request.at().isAfter(to)) to = request.at();
+        }
+
+        Map<PriceKey, List<Price>> pricesByKey = priceRepositoryPort.findPrices(keys, from, to);
+
+        long start = System.nanoTime();
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>();
+        List<PriceLookupResult> results = new ArrayList<>(requests.size());
+        for (GetPriceQuery request : requests) {
+            PriceTimeline timeline = timelines.computeIfAbsent(
+                    PriceKey.of(request.brandId(), request.productId()),
+                    key -> PriceTimeline.of(pricesByKey.getOrDefault(key, List.of())));
+
+            results.add(timeline.findPrice(request.at())
+                    .map(price -> PriceLookupResult.found(request, price))
+                    .orElseGet(() -> PriceLookupResult.notFound(request)));
+        }
+        priceLookupMetrics.recordSelection(System.nanoTime() - start);
+        return results;
+    }
+}
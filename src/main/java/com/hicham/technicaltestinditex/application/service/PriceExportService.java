@@ -0,0 +1,32 @@
+package com.hicham.technicaltestinditex.application.service;
+
+import com.hicham.technicaltestinditex.application.port.in.ExportPricesUseCase;
+import com.hicham.technicaltestinditex.application.port.out.PriceExportPort;
+import com.hicham.technicaltestinditex.application.query.PriceExportQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Application service implementing the price export use case.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriceExportService implements ExportPricesUseCase {
+
+    private final PriceExportPort priceExportPort;
+
+    @Override
+    public long exportPrices(PriceExportQuery query, Consumer<Price> consumer) {
+        long start = System.nanoTime();
+        long rows = priceExportPort.exportPrices(query, consumer);
+        long nanos = Math.max(1, System.nanoTime() - start);
+        log.info("Price export finished: {} rows in {} ms ({} rows/s)",
+                rows, nanos / 1_000_000, Math.round(rows * 1e9 / nanos));
+        return rows;
+    }
+}
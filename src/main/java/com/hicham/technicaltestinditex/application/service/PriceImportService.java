@@ -0,0 +1,136 @@
+package com.hicham.technicaltestinditex.application.service;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportLine;
+import com.hicham.technicaltestinditex.application.command.PriceImportOptions;
+import com.hicham.technicaltestinditex.application.command.PriceImportReport;
+import com.hicham.technicaltestinditex.application.command.PriceImportReport.PriceImportError;
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.in.ImportPricesUseCase;
+import com.hicham.technicaltestinditex.application.port.out.PriceBulkWriterPort;
+import com.hicham.technicaltestinditex.application.port.out.PriceBulkWriterPort.RejectedPrice;
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Application service implementing the bulk price import use case.
+ * Valid lines are buffered into batches and written through the bulk writer; only the current
+ * batch and the keys touched since the last commit are kept in memory. After every commit the
+ * changed (brand, product) pairs are published, so read models and caches catch up incrementally.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriceImportService implements ImportPricesUseCase {
+
+    private final PriceBulkWriterPort priceBulkWriterPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public PriceImportReport importPrices(Iterator<PriceImportLine> lines, PriceImportOptions options) {
+        Run run = new Run(options);
+        try (PriceBulkWriterPort.Session session = priceBulkWriterPort.openSession()) {
+            while (lines.hasNext()) {
+                PriceImportLine line = lines.next();
+                run.rowsRead++;
+                if (!line.isValid()) {
+                    run.reject(line.lineNumber(), line.error());
+                    continue;
+                }
+                run.batch.add(line.price());
+                run.batchLines.add(line.lineNumber());
+                if (run.batch.size() == options.batchSize()) {
+                    run.flush(session);
+                    if (run.uncommitted >= options.commitInterval()) {
+                        run.commit(session);
+                    }
+                }
+            }
+            run.flush(session);
+            run.commit(session);
+        }
+
+        PriceImportReport report = new PriceImportReport(
+                run.rowsRead, run.rowsImported, run.rowsRejected, run.errors, run.elapsed());
+        log.info("Price import finished: {} read, {} imported, {} rejected in {} ms ({} rows/s)",
+                report.rowsRead(), report.rowsImported(), report.rowsRejected(),
+                report.elapsed().toMillis(), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * Mutable state of a single import.
+     */
+    private final class Run {
+
+        private final PriceImportOptions options;
+        private final long start = System.nanoTime();
+        private final List<NewPrice> batch;
+        private final List<Long> batchLines;
+        private final Set<PriceKey> uncommittedKeys = new HashSet<>();
+        private final List<PriceImportError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long rowsImported;
+        private long rowsRejected;
+        private long uncommitted;
+
+        private Run(PriceImportOptions options) {
+            this.options = options;
+            this.batch = new ArrayList<>(options.batchSize());
+            this.batchLines = new ArrayList<>(options.batchSize());
+        }
+
+        private void flush(PriceBulkWriterPort.Session session) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<RejectedPrice> rejected = session.insert(batch);
+            boolean[] refused = new boolean[batch.size()];
+            for (RejectedPrice rejection : rejected) {
+                refused[rejection.index()] = true;
+                reject(batchLines.get(rejection.index()), rejection.reason());
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                if (!refused[i]) {
+                    uncommittedKeys.add(batch.get(i).key());
+                    uncommitted++;
+                }
+            }
+            batch.clear();
+            batchLines.clear();
+        }
+
+        private void commit(PriceBulkWriterPort.Session session) {
+            session.commit();
+            rowsImported += uncommitted;
+            uncommitted = 0;
+            if (!uncommittedKeys.isEmpty()) {
+                eventPublisher.publishEvent(PricesChangedEvent.of(uncommittedKeys));
+                uncommittedKeys.clear();
+            }
+            log.debug("Price import committed {} rows so far ({} rows/s)",
+                    rowsImported, Math.round(rowsRead * 1e9 / Math.max(1, System.nanoTime() - start)));
+        }
+
+        private void reject(long lineNumber, String message) {
+            rowsRejected++;
+            if (errors.size() < options.maxReportedErrors()) {
+                errors.add(new PriceImportError(lineNumber, message));
+            }
+        }
+
+        private Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - start);
+        }
+    }
+}
@@ -1,48 +1,62 @@
 package com.hicham.technicaltestinditex.application.service;
 
 import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
-import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
+import com.hicham.technicaltestinditex.application.query.PriceSegmentLookup;
 import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
 import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.application.port.out.PriceLookupMetrics;
 import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Application service implementing the get price use case.
  * Contains the business logic for finding and selecting the applicable price.
+ * Default lookup strategy, selected with {@code prices.lookup.strategy=scan}.
  */
 @Service
+@ConditionalOnProperty(name = "prices.lookup.strategy", havingValue = "scan", matchIfMissing = true)
+@Qualifier("priceLookup")
 @RequiredArgsConstructor
 public class PriceService implements GetPriceUseCase {
 
     private final PriceRepositoryPort priceRepositoryPort;
+    private final PriceLookupMetrics priceLookupMetrics;
 
     @Override
-    public Price getPrice(GetPriceQuery request) {
+    public Optional<Price> findPrice(GetPriceQuery request) {
 
-        List<Price> applicablePrices = priceRepositoryPort.findApplicablePrices(
+        // The highest priority selection is pushed down to the repository when the adapter supports it
+        Optional<Price> candidate = priceRepositoryPort.findHighestPriorityPrice(
                 request.at(),
                 request.productId(),
                 request.brandId()
         );
 
-        Price selectedPrice = applicablePrices.stream()
+        long start = System.nanoTime();
         //Ambiguous filtering since it's already filtered in the infrastructure layer
         //but we want to apply best practices (domain rules in domain layer) by filtering in the Domain layer we keep both just for demo purposes.
-                .filter(price -> price.isApplicableFor(request.at()))
-                .max(Comparator.comparing(Price::getPriority))
-                .orElseThrow(() -> new PriceNotFoundException(
-                        String.format("No price found for product %d, brand %d at %s",
-                                request.productId().value(),
-                                request.brandId().value(),
-                                request.at())
-                ));
-
-        return selectedPrice;
+        Optional<Price> price = candidate.filter(found -> found.isApplicableFor(request.at()));
+        priceLookupMetrics.recordSelection(System.nanoTime() - start);
+
+        return price;
     }
-}
 
+    @Override
+    public PriceSegmentLookup lookupSegment(GetPriceQuery request) {
+        // The segment bounds depend on every price of the product, not only the applicable ones,
+        // but only the segment around the date is resolved, not the whole timeline
+        List<Price> prices = priceRepositoryPort.findPrices(request.productId(), request.brandId());
+
+        long start = System.nanoTime();
+        PriceSegmentLookup lookup = PriceSegmentLookup.at(prices, request.at());
+        priceLookupMetrics.recordSelection(System.nanoTime() - start);
+
+        return lookup;
+    }
+}
@@ -0,0 +1,40 @@
+package com.hicham.technicaltestinditex.application.service;
+
+import com.hicham.technicaltestinditex.application.port.in.GetPriceTimelineUseCase;
+import com.hicham.technicaltestinditex.application.port.out.PriceLookupMetrics;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.application.query.GetPriceTimelineQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceTimeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Application service implementing the price timeline use case.
+ * Loads the prices overlapping the window with a single repository call and resolves them
+ * into winning segments with one sweep, applying the same priority rule as single lookups.
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceTimelineQueryService implements GetPriceTimelineUseCase {
+
+    private final PriceRepositoryPort priceRepositoryPort;
+    private final PriceLookupMetrics priceLookupMetrics;
+
+    @Override
+    public List<PriceSegment> getTimeline(GetPriceTimelineQuery query) {
+        PriceKey key = PriceKey.of(query.brandId(), query.productId());
+        List<Price> prices = priceRepositoryPort.findPrices(Set.of(key), query.from(), query.to())
+                .getOrDefault(key, List.of());
+
+        long start = System.nanoTime();
+        List<PriceSegment> segments = PriceTimeline.of(prices).segmentsBetween(query.from(), query.to());
+        priceLookupMetrics.recordSelection(System.nanoTime() - start);
+        return segments;
+    }
+}
@@ -0,0 +1,100 @@
+package com.hicham.technicaltestinditex.application.service;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.application.port.out.PriceLookupMetrics;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceSegmentLookup;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceTimeline;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Application service implementing the get price use case over precomputed price timelines.
+ * Priority resolution is done once per (brand, product) when prices are loaded, so a lookup
+ * is a single binary search. Selected with {@code prices.lookup.strategy=timeline}.
+ */
+@Service
+@ConditionalOnProperty(name = "prices.lookup.strategy", havingValue = "timeline")
+@Qualifier("priceLookup")
+@RequiredArgsConstructor
+@Slf4j
+public class TimelinePriceService implements GetPriceUseCase {
+
+    private final PriceRepositoryPort priceRepositoryPort;
+    private final PriceLookupMetrics priceLookupMetrics;
+
+    private volatile Map<PriceKey, PriceTimeline> timelines = Map.of();
+
+    @Override
+    public Optional<Price> findPrice(GetPriceQuery request) {
+        return lookupSegment(request).findSegment().map(PriceSegment::price);
+    }
+
+    @Override
+    public PriceSegmentLookup lookupSegment(GetPriceQuery request) {
+        long start = System.nanoTime();
+        PriceTimeline timeline = timelines.getOrDefault(
+                PriceKey.of(request.brandId(), request.productId()),
+                PriceTimeline.empty());
+        PriceSegmentLookup lookup = PriceSegmentLookup.in(timeline, request.at());
+        priceLookupMetrics.recordSelection(System.nanoTime() - start);
+
+        return lookup;
+    }
+
+    /**
+     * Resolves the timelines of every stored (brand, product) pair.
+     */
+    @PostConstruct
+    public synchronized void rebuildAll() {
+        Map<PriceKey, List<Price>> pricesByKey = priceRepositoryPort.findAllPrices().stream()
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getBrandId(), price.getProductId())));
+
+        timelines = pricesByKey.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        entry -> PriceTimeline.of(entry.getValue())));
+
+        log.info("Resolved {} price timelines", timelines.size());
+    }
+
+    /**
+     * Resolves again the timelines of the given keys, leaving the others untouched.
+     *
+     * @param keys the (brand, product) pairs whose prices changed
+     */
+    public synchronized void rebuild(Collection<PriceKey> keys) {
+        Map<PriceKey, PriceTimeline> next = new HashMap<>(timelines);
+        for (PriceKey key : keys) {
+            List<Price> prices = priceRepositoryPort.findPrices(key.productId(), key.brandId());
+            if (prices.isEmpty()) {
+                next.remove(key);
+            } else {
+                next.put(key, PriceTimeline.of(prices));
+            }
+        }
+        timelines = Map.copyOf(next);
+    }
+
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        rebuild(event.keys());
+    }
+}
@@ -0,0 +1,31 @@
+package com.hicham.technicaltestinditex.domain.entity;
+
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+
+import java.math.BigDecimal;
+
+/**
+ * Price that is not stored yet, so it has no identifier.
+ * It enforces the same invariants as {@link Price}.
+ */
+public record NewPrice(
+        BrandId brandId,
+        ProductId productId,
+        PriceRange priceRange,
+        Integer priceList,
+        Integer priority,
+        BigDecimal price,
+        String currency
+) {
+
+    public NewPrice {
+        Price.checkAttributes(brandId, productId, priceRange, priceList, priority, price, currency);
+    }
+
+    public PriceKey key() {
+        return PriceKey.of(brandId, productId);
+    }
+}
@@ -29,23 +29,37 @@ public class Price {
                  Integer priceList, Integer priority, BigDecimal price, String currency) {
 
         this.id = Objects.requireNonNull(id, "id cannot be null");
-        this.brandId = Objects.requireNonNull(brandId, "brandId cannot be null");
-        this.productId = Objects.requireNonNull(productId, "productId cannot be null");
-        this.priceRange = Objects.requireNonNull(priceRange, "priceRange cannot be null");
+        checkAttributes(brandId, productId, priceRange, priceList, priority, price, currency);
+        this.brandId = brandId;
+        this.productId = productId;
+        this.priceRange = priceRange;
+        this.priceList = priceList;
+        this.priority = priority;
+        this.price = price;
+        this.currency = currency;
+    }
+
+    /**
+     * Checks the invariants shared by stored prices and prices not yet stored.
+     */
+    static void checkAttributes(BrandId brandId, ProductId productId, PriceRange priceRange,
+                                Integer priceList, Integer priority, BigDecimal price, String currency) {
+        Objects.requireNonNull(brandId, "brandId cannot be null");
+        Objects.requireNonNull(productId, "productId cannot be null");
+        Objects.requireNonNull(priceRange, "priceRange cannot be null");
 
         // Invariantes mínimas para tipos primitivos/“no VO”
-        this.priceList = Objects.requireNonNull(priceList, "priceList cannot be null");
+        Objects.requireNonNull(priceList, "priceList cannot be null");
         if (priceList <= 0) throw new IllegalArgumentException("priceList must be > 0");
 
-        this.priority = Objects.requireNonNull(priority, "priority cannot be null");
+        Objects.requireNonNull(priority, "priority cannot be null");
         if (priority < 0) throw new IllegalArgumentException("priority must be >= 0");
 
-        this.price = Objects.requireNonNull(price, "price cannot be null");
+        Objects.requireNonNull(price, "price cannot be null");
         if (price.signum() <= 0) throw new IllegalArgumentException("price must be > 0");
 
-        this.currency = Objects.requireNonNull(currency, "currency cannot be null");
+        Objects.requireNonNull(currency, "currency cannot be null");
         if (currency.isBlank()) throw new IllegalArgumentException("currency cannot be blank");
-
     }
 
     public static Price of(
@@ -0,0 +1,34 @@
+package com.hicham.technicaltestinditex.domain.service;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Domain rule for choosing the price that applies at a given date.
+ * Shared by every lookup path, blocking or reactive, so the rule lives in one place.
+ */
+public final class PriceSelector {
+
+    private static final Comparator<Price> BY_PRIORITY = Comparator.comparing(Price::getPriority);
+
+    private PriceSelector() {
+    }
+
+    /**
+     * Selects the applicable price with the highest priority.
+     * Ties keep the price that comes first in the given collection.
+     *
+     * @param prices          the candidate prices
+     * @param applicationDate the date to check
+     * @return the winning price, or empty if none applies
+     */
+    public static Optional<Price> selectApplicable(Collection<Price> prices, LocalDateTime applicationDate) {
+        return prices.stream()
+                .filter(price -> price.isApplicableFor(applicationDate))
+                .max(BY_PRIORITY);
+    }
+}
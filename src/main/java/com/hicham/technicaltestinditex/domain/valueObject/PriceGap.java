@@ -0,0 +1,33 @@
+package com.hicham.technicaltestinditex.domain.valueObject;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object representing a time window of a (brand, product) pair in which no price applies.
+ * The start date is inclusive and the end date is exclusive; a gap with no price before or after
+ * it is bounded by {@link LocalDateTime#MIN} or {@link LocalDateTime#MAX}.
+ */
+public record PriceGap(LocalDateTime startDate, LocalDateTime endDate) implements TimeWindow {
+
+    private static final PriceGap UNBOUNDED = new PriceGap(LocalDateTime.MIN, LocalDateTime.MAX);
+
+    public PriceGap {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date cannot be null");
+        }
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+    }
+
+    public static PriceGap of(LocalDateTime startDate, LocalDateTime endDate) {
+        return new PriceGap(startDate, endDate);
+    }
+
+    /**
+     * Gap of a (brand, product) pair that has no price at all.
+     */
+    public static PriceGap unbounded() {
+        return UNBOUNDED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.hicham.technicaltestinditex.domain.valueObject;
+
+/**
+ * Value Object identifying the price set of a product for a brand.
+ */
+public record PriceKey(BrandId brandId, ProductId productId) {
+
+    public PriceKey {
+        if (brandId == null || productId == null) {
+            throw new IllegalArgumentException("Brand ID and product ID cannot be null");
+        }
+    }
+
+    public static PriceKey of(BrandId brandId, ProductId productId) {
+        return new PriceKey(brandId, productId);
+    }
+}
@@ -0,0 +1,28 @@
+package com.hicham.technicaltestinditex.domain.valueObject;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object representing a time window in which a single price wins.
+ * The start date is inclusive and the end date is exclusive.
+ */
+public record PriceSegment(LocalDateTime startDate, LocalDateTime endDate, Price price) implements TimeWindow {
+
+    public PriceSegment {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date cannot be null");
+        }
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        if (price == null) {
+            throw new IllegalArgumentException("Price cannot be null");
+        }
+    }
+
+    public static PriceSegment of(LocalDateTime startDate, LocalDateTime endDate, Price price) {
+        return new PriceSegment(startDate, endDate, price);
+    }
+}
@@ -0,0 +1,262 @@
+package com.hicham.technicaltestinditex.domain.valueObject;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Value Object holding the resolved price timeline of a single (brand, product) pair.
+ * Overlapping prices are flattened into sorted, non-overlapping segments that already
+ * carry the winning price, so a lookup is a single binary search over segment start dates.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(new PriceSegment[0]);
+
+    private final PriceSegment[] segments;
+    private final LocalDateTime[] startDates;
+
+    private PriceTimeline(PriceSegment[] segments) {
+        this.segments = segments;
+        this.startDates = new LocalDateTime[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            startDates[i] = segments[i].startDate();
+        }
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Resolves the given prices into a timeline of winning segments.
+     * Within every segment the applicable price with the highest priority wins;
+     * ties keep the price that comes first in the given collection.
+     *
+     * @param prices the prices of a single (brand, product) pair
+     * @return the resolved timeline
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+        Price[] input = prices.toArray(new Price[0]);
+
+        // Every start and every exclusive end is a point where the winner may change
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        for (Price price : input) {
+            boundaries.add(price.getPriceRange().startDate());
+            boundaries.add(exclusiveEnd(price));
+        }
+
+        Integer[] byStart = new Integer[input.length];
+        for (int i = 0; i < input.length; i++) {
+            byStart[i] = i;
+        }
+        Arrays.sort(byStart, Comparator.comparing(i -> input[i].getPriceRange().startDate()));
+
+        PriorityQueue<Integer> active = new PriorityQueue<>(
+                Comparator.<Integer, Integer>comparing(i -> input[i].getPriority()).reversed()
+                        .thenComparing(Comparator.naturalOrder()));
+
+        List<PriceSegment> resolved = new ArrayList<>();
+        LocalDateTime[] points = boundaries.toArray(new LocalDateTime[0]);
+        int next = 0;
+        for (int k = 0; k < points.length - 1; k++) {
+            LocalDateTime from = points[k];
+            LocalDateTime to = points[k + 1];
+
+            while (next < byStart.length && !input[byStart[next]].getPriceRange().startDate().isAfter(from)) {
+                active.add(byStart[next++]);
+            }
+            // Expired prices are only discarded once they reach the top of the queue
+            while (!active.isEmpty() && !exclusiveEnd(input[active.peek()]).isAfter(from)) {
+                active.poll();
+            }
+            if (active.isEmpty()) {
+                continue;
+            }
+
+            Price winner = input[active.peek()];
+            int last = resolved.size() - 1;
+            if (last >= 0 && resolved.get(last).price().equals(winner) && resolved.get(last).endDate().equals(from)) {
+                resolved.set(last, PriceSegment.of(resolved.get(last).startDate(), to, winner));
+            } else {
+                resolved.add(PriceSegment.of(from, to, winner));
+            }
+        }
+        return new PriceTimeline(resolved.toArray(new PriceSegment[0]));
+    }
+
+    /**
+     * Resolves only the segment containing the given date, in a single pass over the prices.
+     * Gives the same segment as {@code of(prices).findSegment(date)} without sorting every boundary,
+     * for callers that need one lookup rather than the whole timeline.
+     *
+     * @param prices the prices of a single (brand, product) pair
+     * @param date   the date to check
+     * @return the segment holding the winning price, or empty if no price applies
+     */
+    public static Optional<PriceSegment> segmentAt(Collection<Price> prices, LocalDateTime date) {
+        Price[] input = prices.toArray(new Price[0]);
+        int winner = -1;
+        for (int i = 0; i < input.length; i++) {
+            if (input[i].isApplicableFor(date) && (winner < 0 || input[i].getPriority() > input[winner].getPriority())) {
+                winner = i;
+            }
+        }
+        if (winner < 0) {
+            return Optional.empty();
+        }
+
+        // The segment only ends early where a price beating the winner starts or ends
+        LocalDateTime start = input[winner].getPriceRange().startDate();
+        LocalDateTime end = exclusiveEnd(input[winner]);
+        for (int i = 0; i < input.length; i++) {
+            int byPriority = Integer.compare(input[i].getPriority(), input[winner].getPriority());
+            if (byPriority < 0 || (byPriority == 0 && i >= winner)) {
+                continue;
+            }
+            LocalDateTime otherStart = input[i].getPriceRange().startDate();
+            LocalDateTime otherEnd = exclusiveEnd(input[i]);
+            if (otherStart.isAfter(date) && otherStart.isBefore(end)) {
+                end = otherStart;
+            } else if (!otherEnd.isAfter(date) && otherEnd.isAfter(start)) {
+                start = otherEnd;
+            }
+        }
+        return Optional.of(PriceSegment.of(start, end, input[winner]));
+    }
+
+    /**
+     * Resolves only the gap containing the given date, in a single pass over the prices.
+     * Gives the same gap as {@code of(prices).findGap(date)} when no price applies at that date.
+     *
+     * @param prices the prices of a single (brand, product) pair, none of them applicable at the date
+     * @param date   the date to check
+     * @return the gap between the surrounding prices
+     */
+    public static PriceGap gapAt(Collection<Price> prices, LocalDateTime date) {
+        LocalDateTime from = LocalDateTime.MIN;
+        LocalDateTime to = LocalDateTime.MAX;
+        for (Price price : prices) {
+            LocalDateTime start = price.getPriceRange().startDate();
+            LocalDateTime end = exclusiveEnd(price);
+            if (start.isAfter(date) && start.isBefore(to)) {
+                to = start;
+            } else if (!end.isAfter(date) && end.isAfter(from)) {
+                from = end;
+            }
+        }
+        return PriceGap.of(from, to);
+    }
+
+    /**
+     * Finds the segment containing the given date.
+     *
+     * @param date the date to check
+     * @return the segment holding the winning price, or empty if no price applies
+     */
+    public Optional<PriceSegment> findSegment(LocalDateTime date) {
+        if (date == null) {
+            return Optional.empty();
+        }
+        int index = Arrays.binarySearch(startDates, date);
+        if (index < 0) {
+            // Insertion point minus one is the last segment starting before the date
+            index = -index - 2;
+        }
+        if (index < 0 || !segments[index].contains(date)) {
+            return Optional.empty();
+        }
+        return Optional.of(segments[index]);
+    }
+
+    /**
+     * Finds the window without any price that contains the given date.
+     *
+     * @param date the date to check
+     * @return the gap between the surrounding segments, or empty if a price applies at that date
+     */
+    public Optional<PriceGap> findGap(LocalDateTime date) {
+        if (date == null) {
+            return Optional.empty();
+        }
+        int index = Arrays.binarySearch(startDates, date);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index >= 0 && segments[index].contains(date)) {
+            return Optional.empty();
+        }
+        LocalDateTime from = index >= 0 ? segments[index].endDate() : LocalDateTime.MIN;
+        LocalDateTime to = index + 1 < segments.length ? segments[index + 1].startDate() : LocalDateTime.MAX;
+        return Optional.of(PriceGap.of(from, to));
+    }
+
+    /**
+     * Finds the winning price for the given date.
+     *
+     * @param date the date to check
+     * @return the winning price, or empty if no price applies
+     */
+    public Optional<Price> findPrice(LocalDateTime date) {
+        return findSegment(date).map(PriceSegment::price);
+    }
+
+    /**
+     * Lists the segments overlapping the given window, clipped to it.
+     *
+     * @param from first instant of the window, inclusive
+     * @param to   last instant of the window, inclusive
+     * @return the overlapping segments in chronological order
+     */
+    public List<PriceSegment> segmentsBetween(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to.equals(LocalDateTime.MAX) ? to : to.plusNanos(1);
+        int index = Arrays.binarySearch(startDates, from);
+        if (index < 0) {
+            index = Math.max(-index - 2, 0);
+        }
+        List<PriceSegment> result = new ArrayList<>();
+        for (int i = index; i < segments.length && segments[i].startDate().isBefore(end); i++) {
+            PriceSegment segment = segments[i];
+            if (!segment.endDate().isAfter(from)) {
+                continue;
+            }
+            if (segment.startDate().isBefore(from) || segment.endDate().isAfter(end)) {
+                segment = PriceSegment.of(
+                        segment.startDate().isBefore(from) ? from : segment.startDate(),
+                        segment.endDate().isAfter(end) ? end : segment.endDate(),
+                        segment.price());
+            }
+            result.add(segment);
+        }
+        return result;
+    }
+
+    public List<PriceSegment> segments() {
+        return List.of(segments);
+    }
+
+    public int size() {
+        return segments.length;
+    }
+
+    public boolean isEmpty() {
+        return segments.length == 0;
+    }
+
+    private static LocalDateTime exclusiveEnd(Price price) {
+        // Price ranges are inclusive, segments are half-open; LocalDateTime.MAX stays an unbounded end
+        LocalDateTime endDate = price.getPriceRange().endDate();
+        return endDate.equals(LocalDateTime.MAX) ? endDate : endDate.plusNanos(1);
+    }
+}
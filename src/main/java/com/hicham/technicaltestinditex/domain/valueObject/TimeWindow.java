@@ -0,0 +1,37 @@
+package com.hicham.technicaltestinditex.domain.valueObject;
+
+import java.time.LocalDateTime;
+
+/**
+ * A time window whose start date is inclusive and whose end date is exclusive.
+ * An end date of {@link LocalDateTime#MAX} is unbounded and also contains that instant.
+ */
+public interface TimeWindow {
+
+    LocalDateTime startDate();
+
+    LocalDateTime endDate();
+
+    /**
+     * Checks if the given date falls within this window.
+     *
+     * @param date the date to check
+     * @return true if the date is within the window, false otherwise
+     */
+    default boolean contains(LocalDateTime date) {
+        if (date == null) {
+            return false;
+        }
+        return !date.isBefore(startDate()) && (date.isBefore(endDate()) || endDate().equals(LocalDateTime.MAX));
+    }
+
+    /**
+     * Checks if this window shares at least one instant with the given one.
+     *
+     * @param other the window to compare with
+     * @return true if both windows overlap, false otherwise
+     */
+    default boolean overlaps(TimeWindow other) {
+        return startDate().isBefore(other.endDate()) && other.startDate().isBefore(endDate());
+    }
+}
@@ -0,0 +1,48 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.cli;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportReport;
+import com.hicham.technicaltestinditex.application.port.in.ImportPricesUseCase;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceImportProperties;
+import com.hicham.technicaltestinditex.infrastructure.importer.PriceImportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports the file named by {@code prices.import.file} once the application has started.
+ * Combined with {@code spring.main.web-application-type=none} the application exits when the import is done.
+ */
+@Component
+@ConditionalOnProperty(name = "prices.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class PriceImportRunner implements ApplicationRunner {
+
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceImportProperties priceImportProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path file = Path.of(priceImportProperties.file());
+        PriceImportFormat format = PriceImportFormat.fromFileName(file.getFileName().toString());
+        log.info("Importing {} prices from {}", format, file);
+
+        PriceImportReport report;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            report = importPricesUseCase.importPrices(format.read(reader), priceImportProperties.toOptions(null, null));
+        }
+
+        report.errors().forEach(error -> log.warn("Line {} rejected: {}", error.lineNumber(), error.message()));
+        if (report.rowsRejected() > report.errors().size()) {
+            log.warn("{} more rejected lines not listed", report.rowsRejected() - report.errors().size());
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest;
 
+import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
 import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.port.in.GetPriceBatchUseCase;
+import com.hicham.technicaltestinditex.application.port.in.GetPriceTimelineUseCase;
 import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.application.query.GetPriceTimelineQuery;
+import com.hicham.technicaltestinditex.application.query.PriceLookupResult;
 import com.hicham.technicaltestinditex.domain.entity.Price;
 import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
 import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
 import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.ErrorResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceBatchItemDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceBatchRequestDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceBatchResponseDto;
 import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceTimelineResponseDto;
 import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceBatchProperties;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceEndpointMetrics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,20 +27,28 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * REST controller for price queries.
  * Exposes endpoints for querying applicable prices based on date, product, and brand.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/prices")
 @RequiredArgsConstructor
@@ -37,7 +57,13 @@ import java.time.LocalDateTime;
 public class PriceController {
 
     private final GetPriceUseCase getPriceUseCase;
+    private final GetPriceBatchUseCase getPriceBatchUseCase;
+    private final GetPriceTimelineUseCase getPriceTimelineUseCase;
     private final PriceRestMapper priceRestMapper;
+    private final PriceBatchProperties priceBatchProperties;
+    private final PriceEndpointMetrics priceEndpointMetrics;
+    private final PriceHttpCachePolicy priceHttpCachePolicy;
+    private final PriceResponseBodyCache priceResponseBodyCache;
 
     /**
      * Gets the applicable price for the given query parameters.
@@ -45,7 +71,8 @@ public class PriceController {
      * @param applicationDate the date to check price applicability
      * @param productId       the product identifier
      * @param brandId         the brand identifier
-     * @return the applicable price response
+     * @param accept          the Accept header, which selects the cached encoding when the response cache is enabled
+     * @return the applicable price response, as a DTO or as bytes already encoded for the negotiated format
      */
     @GetMapping
     @Operation(
@@ -61,6 +88,10 @@ public class PriceController {
                             schema = @Schema(implementation = PriceResponseDto.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Price unchanged since the ETag sent in If-None-Match (HTTP caching enabled)"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid request parameters",
@@ -86,7 +117,7 @@ public class PriceController {
                     )
             )
     })
-    public ResponseEntity<PriceResponseDto> getPrice(
+    public ResponseEntity<?> getPrice(
             @Parameter(
                     description = "Application date and time (ISO format)",
                     example = "2020-06-14T10:00:00",
@@ -115,17 +146,214 @@ public class PriceController {
             @RequestParam
             @NotNull(message = "Brand ID is required")
             @Positive(message = "Brand ID must be positive")
-            Long brandId
+            Long brandId,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+            String accept
     ) {
         GetPriceQuery request = new GetPriceQuery(
                 ProductId.of(productId),
                 BrandId.of(brandId),
                 applicationDate);
 
-        Price response = getPriceUseCase.getPrice(request);
-        PriceResponseDto dto = priceRestMapper.toRestResponse(response);
+        long start = System.nanoTime();
+        // Cacheable responses need the window in which the price keeps winning, not only the price
+        PriceSegment segment = null;
+        Optional<Price> response;
+        if (priceHttpCachePolicy.isEnabled()) {
+            segment = getPriceUseCase.lookupSegment(request).segment();
+            response = Optional.ofNullable(segment).map(PriceSegment::price);
+        } else {
+            response = getPriceUseCase.findPrice(request);
+        }
+        if (response.isEmpty()) {
+            priceEndpointMetrics.recordNotFound(System.nanoTime() - start);
+            // Stackless, and its message is only formatted by the exception handler
+            throw PriceNotFoundException.forQuery(request);
+        }
+        long mappingStart = System.nanoTime();
+        priceEndpointMetrics.recordFound(mappingStart - start);
 
-        return ResponseEntity.ok(dto);
+        // The ETag depends on the format, so it is negotiated here whenever the response is cacheable
+        MediaType format = priceResponseBodyCache.isEnabled() || segment != null ? priceResponseBodyCache.negotiate(accept) : null;
+        ResponseEntity.BodyBuilder ok = segment == null ? ResponseEntity.ok() : priceHttpCachePolicy.ok(segment, applicationDate, format);
+        if (format != null && priceResponseBodyCache.isEnabled()) {
+            // Already encoded for the negotiated format, written as is
+            byte[] body = priceResponseBodyCache.body(response.get(), format);
+            priceEndpointMetrics.recordRestMapping(System.nanoTime() - mappingStart);
+            return ok.contentType(format).body(body);
+        }
+        PriceResponseDto dto = priceRestMapper.toRestResponse(response.get());
+        priceEndpointMetrics.recordRestMapping(System.nanoTime() - mappingStart);
+
+        // Written in the format the ETag was computed for
+        return format == null ? ok.body(dto) : ok.contentType(format).body(dto);
     }
-}
 
+    /**
+     * Gets the applicable price for every entry of the batch.
+     *
+     * @param request the batch of price queries
+     * @return one result per entry, reporting found and not-found entries individually
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Get applicable prices in batch",
+            description = "Resolves several (application date, product, brand) queries in a single call. "
+                    + "Entries without an applicable price are reported as NOT_FOUND instead of failing the whole batch"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch resolved",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceBatchResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body or batch too large",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    public ResponseEntity<PriceBatchResponseDto> getPrices(
+            @RequestBody
+            @Valid
+            PriceBatchRequestDto request
+    ) {
+        if (request.getItems().size() > priceBatchProperties.maxSize()) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch size %d exceeds the maximum of %d", request.getItems().size(), priceBatchProperties.maxSize()));
+        }
+
+        List<GetPriceQuery> queries = request.getItems().stream()
+                .map(priceRestMapper::toQuery)
+                .toList();
+
+        long start = System.nanoTime();
+        List<PriceLookupResult> results = getPriceBatchUseCase.getPrices(queries);
+        long mappingStart = System.nanoTime();
+
+        List<PriceBatchItemDto> items = new ArrayList<>(results.size());
+        int found = 0;
+        for (int i = 0; i < results.size(); i++) {
+            items.add(priceRestMapper.toBatchItem(i, results.get(i)));
+            if (results.get(i).isFound()) {
+                found++;
+            }
+        }
+
+        PriceBatchResponseDto response = PriceBatchResponseDto.builder()
+                .items(items)
+                .found(found)
+                .notFound(results.size() - found)
+                .build();
+        priceEndpointMetrics.recordBatch(mappingStart - start, found, results.size() - found);
+        priceEndpointMetrics.recordRestMapping(System.nanoTime() - mappingStart);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gets the sequence of winning prices of a product across a date range.
+     *
+     * @param productId the product identifier
+     * @param brandId   the brand identifier
+     * @param from      the window start date, inclusive
+     * @param to        the window end date, inclusive
+     * @return the non-overlapping winning segments within the window
+     */
+    @GetMapping("/timeline")
+    @Operation(
+            summary = "Get price timeline",
+            description = "Resolves when the applicable price of a product changes between two dates. "
+                    + "Returns the non-overlapping winning prices in chronological order, clipped to the window; "
+                    + "periods without any price are left out"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Timeline resolved, possibly without segments",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceTimelineResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    public ResponseEntity<PriceTimelineResponseDto> getTimeline(
+            @Parameter(description = "Product identifier", example = "35455", required = true)
+            @RequestParam
+            @NotNull(message = "Product ID is required")
+            @Positive(message = "Product ID must be positive")
+            Long productId,
+
+            @Parameter(description = "Brand identifier (1 = ZARA)", example = "1", required = true)
+            @RequestParam
+            @NotNull(message = "Brand ID is required")
+            @Positive(message = "Brand ID must be positive")
+            Long brandId,
+
+            @Parameter(description = "Window start date, inclusive (ISO format)", example = "2020-06-14T00:00:00", required = true)
+            @RequestParam
+            @NotNull(message = "From date is required")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+
+            @Parameter(description = "Window end date, inclusive (ISO format)", example = "2020-06-15T23:59:59", required = true)
+            @RequestParam
+            @NotNull(message = "To date is required")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to
+    ) {
+        GetPriceTimelineQuery query = new GetPriceTimelineQuery(
+                ProductId.of(productId),
+                BrandId.of(brandId),
+                from,
+                to);
+
+        long start = System.nanoTime();
+        List<PriceSegment> segments = getPriceTimelineUseCase.getTimeline(query);
+        long mappingStart = System.nanoTime();
+        priceEndpointMetrics.recordTimeline(mappingStart - start);
+
+        PriceTimelineResponseDto response = PriceTimelineResponseDto.builder()
+                .productId(productId)
+                .brandId(brandId)
+                .from(from)
+                .to(to)
+                .segments(priceRestMapper.toTimelineSegments(segments))
+                .build();
+        priceEndpointMetrics.recordRestMapping(System.nanoTime() - mappingStart);
+
+        return ResponseEntity.ok(response);
+    }
+}
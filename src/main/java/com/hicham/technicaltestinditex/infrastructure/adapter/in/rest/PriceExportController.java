@@ -0,0 +1,145 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest;
+
+import com.hicham.technicaltestinditex.application.port.in.ExportPricesUseCase;
+import com.hicham.technicaltestinditex.application.query.PriceExportQuery;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.ErrorResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceExportProperties;
+import com.hicham.technicaltestinditex.infrastructure.exporter.PriceExportFormat;
+import com.hicham.technicaltestinditex.infrastructure.exporter.PriceLineWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * REST controller for price exports.
+ * Prices are written to the response while the database cursor advances, so the response size
+ * is not limited by the heap. Streaming runs as async request processing, bounded by
+ * {@code prices.export.timeout} rather than the container's default async timeout, which would cut large exports short.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping("/api/prices")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Prices", description = "Price query API")
+public class PriceExportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportPricesUseCase exportPricesUseCase;
+    private final PriceExportProperties priceExportProperties;
+
+    /**
+     * Streams the stored prices matching the filters.
+     *
+     * @param brandId the brand to export, every brand when absent
+     * @param from    keeps prices still valid at or after this date
+     * @param to      keeps prices already valid at or before this date
+     * @param format  {@code ndjson} or {@code csv}
+     * @return the streamed prices, ordered by id
+     */
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export prices",
+            description = "Streams the stored prices as NDJSON (REST field names plus id) or CSV (PRICES column names), "
+                    + "optionally filtered by brand and validity window. Both formats can be fed back to the import"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Prices streamed",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request parameters",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportPrices(
+            @Parameter(description = "Brand identifier, every brand when absent", example = "1")
+            @RequestParam(required = false)
+            @Positive(message = "Brand ID must be positive")
+            Long brandId,
+
+            @Parameter(description = "Keeps prices valid at or after this date (ISO format)", example = "2020-06-14T00:00:00")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+
+            @Parameter(description = "Keeps prices valid at or before this date (ISO format)", example = "2020-12-31T23:59:59")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to,
+
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson")
+            String format,
+
+            @Parameter(hidden = true)
+            HttpServletRequest request
+    ) {
+        // Validated before the response is committed, so bad parameters still get a 400
+        PriceExportFormat exportFormat = PriceExportFormat.fromName(format);
+        PriceExportQuery query = new PriceExportQuery(brandId != null ? BrandId.of(brandId) : null, from, to);
+        // Read by the async processing started for the body, instead of spring.mvc.async.request-timeout
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(priceExportProperties.timeout().toMillis());
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            PriceLineWriter lines = exportFormat.open(writer);
+            try {
+                exportPricesUseCase.exportPrices(query, price -> {
+                    try {
+                        lines.write(price);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            lines.flush();
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"prices." + exportFormat.extension() + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,86 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceHttpCacheProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.zip.CRC32C;
+
+/**
+ * HTTP caching of price responses, driven by the validity of the winning price.
+ * The response for an application date stays correct until the end of the segment in which its price wins:
+ * the end of the price itself or the start of a higher priority one. Freshness is the time left in that
+ * segment from the application date, capped by {@code prices.http-cache.max-age}.
+ * The strong ETag combines the price id with a version hashed from every attribute in the response,
+ * so a price changed in place gets a new tag and a conditional GET answers 304 only for identical bodies.
+ * Responses vary by Accept, so shared caches keep the JSON, CBOR and Smile representations apart, and the
+ * ETag ends with the subtype of the negotiated format, as the bytes of each representation differ.
+ */
+@Component
+public class PriceHttpCachePolicy {
+
+    private final boolean enabled;
+    private final Duration maxAge;
+
+    public PriceHttpCachePolicy(PriceHttpCacheProperties properties) {
+        this.enabled = properties.enabled();
+        this.maxAge = properties.maxAge();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a 200 response carrying the caching headers of the segment.
+     * Spring answers 304 with the same headers when the request's If-None-Match matches the ETag.
+     *
+     * @param segment         the segment holding the returned price
+     * @param applicationDate the requested application date, inside the segment
+     * @param format          the negotiated format of the body, null when left to the message converters
+     * @return the response builder
+     */
+    public ResponseEntity.BodyBuilder ok(PriceSegment segment, LocalDateTime applicationDate, MediaType format) {
+        Duration freshness = freshness(segment, applicationDate);
+        return ResponseEntity.ok()
+                .eTag(etag(segment.price(), format))
+                .cacheControl(CacheControl.maxAge(freshness).cachePublic())
+                .varyBy(HttpHeaders.ACCEPT)
+                .headers(headers -> headers.setExpires(ZonedDateTime.now(ZoneOffset.UTC).plus(freshness)));
+    }
+
+    /**
+     * @return the time left in the segment from the application date, in whole seconds, capped by the maximum age
+     */
+    public Duration freshness(PriceSegment segment, LocalDateTime applicationDate) {
+        if (segment.endDate().equals(LocalDateTime.MAX)) {
+            return maxAge;
+        }
+        Duration left = Duration.between(applicationDate, segment.endDate()).withNanos(0);
+        return left.isNegative() ? Duration.ZERO : (left.compareTo(maxAge) > 0 ? maxAge : left);
+    }
+
+    /**
+     * @return the strong ETag of the price: its id, the version of the attributes in the response and the
+     * subtype of the format they are written in
+     */
+    public String etag(Price price, MediaType format) {
+        String attributes = price.getBrandId().value() + "|" + price.getProductId().value() + "|"
+                + price.getPriceList() + "|" + price.getPriority() + "|" + price.getPrice().toPlainString() + "|"
+                + price.getCurrency() + "|" + price.getPriceRange().startDate() + "|" + price.getPriceRange().endDate();
+        CRC32C version = new CRC32C();
+        version.update(attributes.getBytes(StandardCharsets.UTF_8));
+        String representation = format == null ? "" : "-" + format.getSubtype();
+        return "\"" + price.getId().value() + "-" + Long.toHexString(version.getValue()) + representation + "\"";
+    }
+}
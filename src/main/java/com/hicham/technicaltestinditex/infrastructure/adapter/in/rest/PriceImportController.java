@@ -0,0 +1,125 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportReport;
+import com.hicham.technicaltestinditex.application.port.in.ImportPricesUseCase;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.ErrorResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceImportResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceImportProperties;
+import com.hicham.technicaltestinditex.infrastructure.importer.PriceImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST controller for bulk price imports.
+ * The request body is parsed while it is received, so its size is not limited by the heap.
+ * The endpoint writes PRICES without authentication, so it is only registered with
+ * {@code prices.import.enabled=true}.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "prices.import", name = "enabled", havingValue = "true")
+@RestController
+@RequestMapping("/api/prices")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Prices", description = "Price query API")
+public class PriceImportController {
+
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceImportProperties priceImportProperties;
+
+    /**
+     * Imports the prices contained in the request body.
+     *
+     * @param request        the request whose body holds the prices, as CSV or NDJSON
+     * @param batchSize      rows per JDBC batch, overriding {@code prices.import.batch-size}
+     * @param commitInterval rows per commit, overriding {@code prices.import.commit-interval}
+     * @return counts, rejected rows and throughput of the import
+     */
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(
+            summary = "Import prices in bulk",
+            description = "Streams CSV (header with the PRICES column names) or NDJSON (one price per line, "
+                    + "REST field names) into the PRICES table. Invalid rows are reported and skipped"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished, possibly with rejected rows",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceImportResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or unreadable source, such as a CSV without header",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    public ResponseEntity<PriceImportResponseDto> importPrices(
+            HttpServletRequest request,
+
+            @Parameter(description = "Rows per JDBC batch", example = "1000")
+            @RequestParam(required = false)
+            @Positive(message = "Batch size must be positive")
+            Integer batchSize,
+
+            @Parameter(description = "Rows per commit", example = "50000")
+            @RequestParam(required = false)
+            @Positive(message = "Commit interval must be positive")
+            Integer commitInterval
+    ) throws IOException {
+        PriceImportFormat format = PriceImportFormat.fromMediaType(request.getContentType());
+
+        PriceImportReport report;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            report = importPricesUseCase.importPrices(
+                    format.read(reader),
+                    priceImportProperties.toOptions(batchSize, commitInterval));
+        }
+
+        return ResponseEntity.ok(PriceImportResponseDto.builder()
+                .rowsRead(report.rowsRead())
+                .rowsImported(report.rowsImported())
+                .rowsRejected(report.rowsRejected())
+                .elapsedMillis(report.elapsed().toMillis())
+                .rowsPerSecond(Math.round(report.rowsPerSecond()))
+                .errors(report.errors().stream()
+                        .map(error -> new PriceImportResponseDto.ErrorDto(error.lineNumber(), error.message()))
+                        .toList())
+                .build());
+    }
+}
@@ -0,0 +1,189 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceResponseCacheProperties;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Encoded GET /api/prices bodies, kept per (price id, wire format).
+ * The body only depends on the winning price, not on the application date, so every lookup that
+ * resolves to the same price writes the same bytes: a hit skips the DTO and the Jackson traversal.
+ * Bytes are encoded by the mappers of the registered message converters, so they are identical to
+ * what the converters would write. Entries of changed (brand, product) pairs are dropped on
+ * PricesChangedEvent, and a hit is only served when the cached price has the same attributes as the
+ * one just looked up, so an entry encoded from a lookup that raced with a change is replaced on next use.
+ * Bounded by {@code prices.response-cache.maximum-size} bytes.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class PriceResponseBodyCache {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * Formats in the order Spring MVC prefers them for wildcard Accept headers.
+     */
+    private static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, SMILE);
+
+    // Key, entry and array headers around the encoded bytes
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private static final Comparator<MediaType> PREFERENCE = Comparator
+            .comparingDouble(MediaType::getQualityValue).reversed()
+            .thenComparing(MediaType::isWildcardType)
+            .thenComparing(MediaType::isWildcardSubtype);
+
+    private final boolean enabled;
+    private final PriceRestMapper priceRestMapper;
+    private final List<ObjectMapper> mappers;
+    private final Cache<Key, Body> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PriceResponseBodyCache(PriceResponseCacheProperties properties, PriceRestMapper priceRestMapper,
+                                  MappingJackson2HttpMessageConverter json, MappingJackson2CborHttpMessageConverter cbor,
+                                  MappingJackson2SmileHttpMessageConverter smile, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.priceRestMapper = priceRestMapper;
+        this.mappers = List.of(json.getObjectMapper(), cbor.getObjectMapper(), smile.getObjectMapper());
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .weigher((Key key, Body body) -> body.bytes().length + ENTRY_OVERHEAD_BYTES)
+                .build();
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        Gauge.builder(PriceMetricNames.RESPONSE_CACHE_BYTES, cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Bytes held by the encoded price response cache, entry overhead included")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(PriceMetricNames.RESPONSE_CACHE)
+                .description("Encoded price response lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Picks the format of the response from the Accept header: the highest quality, most specific
+     * accepted type that matches JSON, CBOR or Smile, JSON when the header is missing.
+     *
+     * @param accept the Accept header, may be null
+     * @return the format, or null when none is acceptable and the regular negotiation must decide
+     */
+    public MediaType negotiate(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        accepted.sort(PREFERENCE);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType format : FORMATS) {
+                if (type.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the encoded response body of the price, encoding it on a miss.
+     *
+     * @param price  the winning price
+     * @param format one of the formats returned by {@link #negotiate(String)}
+     * @return the bytes to write, not to be modified
+     */
+    public byte[] body(Price price, MediaType format) {
+        int index = FORMATS.indexOf(format);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unsupported format " + format);
+        }
+        Key key = new Key(PriceKey.of(price.getBrandId(), price.getProductId()), price.getId().value(), index);
+        Body cached = cache.getIfPresent(key);
+        if (cached != null && sameResponse(cached.price(), price)) {
+            hits.increment();
+            return cached.bytes();
+        }
+        misses.increment();
+        Body encoded = new Body(price, encode(price, mappers.get(index)));
+        cache.put(key, encoded);
+        return encoded.bytes();
+    }
+
+    /**
+     * Drops the bodies of every price of the changed pairs.
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        Set<PriceKey> changed = event.keys();
+        cache.asMap().keySet().removeIf(key -> changed.contains(key.priceKey()));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private byte[] encode(Price price, ObjectMapper mapper) {
+        try {
+            return mapper.writeValueAsBytes(priceRestMapper.toRestResponse(price));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compares the attributes written to the response, which Price.equals does not since it only compares ids.
+     */
+    private static boolean sameResponse(Price cached, Price current) {
+        return cached == current
+                || (Objects.equals(cached.getPriceList(), current.getPriceList())
+                && cached.getPriceRange().equals(current.getPriceRange())
+                && cached.getPrice().equals(current.getPrice()));
+    }
+
+    private record Key(PriceKey priceKey, long priceId, int format) {
+    }
+
+    private record Body(Price price, byte[] bytes) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the result of a single entry of a batch price query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a single batch entry")
+public class PriceBatchItemDto {
+
+    @Schema(description = "Position of the entry in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Resolution status", example = "FOUND", allowableValues = {"FOUND", "NOT_FOUND"})
+    private String status;
+
+    @Schema(description = "Requested application date", example = "2020-06-14T10:00:00")
+    private LocalDateTime applicationDate;
+
+    @Schema(description = "Requested product identifier", example = "35455")
+    private Long productId;
+
+    @Schema(description = "Requested brand identifier", example = "1")
+    private Long brandId;
+
+    @Schema(description = "Applicable price, present when status is FOUND")
+    private PriceResponseDto price;
+
+    @Schema(description = "Reason, present when status is NOT_FOUND", example = "No applicable price found")
+    private String message;
+}
@@ -0,0 +1,29 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for batch price query request from REST API.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch of price queries resolved in a single call")
+public class PriceBatchRequestDto {
+
+    @NotEmpty(message = "Items are required")
+    @ArraySchema(schema = @Schema(implementation = PriceQueryRequestDto.class),
+            arraySchema = @Schema(description = "Price queries to resolve"))
+    private List<@NotNull(message = "Item must not be null") @Valid PriceQueryRequestDto> items;
+}
@@ -0,0 +1,29 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for batch price response from REST API.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch price response with one result per requested entry")
+public class PriceBatchResponseDto {
+
+    @Schema(description = "Results in request order")
+    private List<PriceBatchItemDto> items;
+
+    @Schema(description = "Number of entries with an applicable price", example = "2")
+    private int found;
+
+    @Schema(description = "Number of entries without an applicable price", example = "1")
+    private int notFound;
+}
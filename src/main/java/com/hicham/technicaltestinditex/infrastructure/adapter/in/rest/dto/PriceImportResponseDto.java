@@ -0,0 +1,52 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the bulk price import response from REST API.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk price import")
+public class PriceImportResponseDto {
+
+    @Schema(description = "Data lines read from the body", example = "1000000")
+    private long rowsRead;
+
+    @Schema(description = "Rows committed to the database", example = "999998")
+    private long rowsImported;
+
+    @Schema(description = "Rows rejected by validation or by the database", example = "2")
+    private long rowsRejected;
+
+    @Schema(description = "Import duration in milliseconds", example = "8450")
+    private long elapsedMillis;
+
+    @Schema(description = "Data lines processed per second", example = "118343")
+    private long rowsPerSecond;
+
+    @Schema(description = "First rejected rows with their reason")
+    private List<ErrorDto> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "A rejected row")
+    public static class ErrorDto {
+
+        @Schema(description = "1-based line number in the body, header included", example = "42")
+        private long line;
+
+        @Schema(description = "Why the row was rejected", example = "priority must be >= 0")
+        private String message;
+    }
+}
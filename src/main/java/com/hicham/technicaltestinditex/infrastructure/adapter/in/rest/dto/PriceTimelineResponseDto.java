@@ -0,0 +1,36 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for price timeline response from REST API.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Winning prices of a product across a date range")
+public class PriceTimelineResponseDto {
+
+    @Schema(description = "Product identifier", example = "35455")
+    private Long productId;
+
+    @Schema(description = "Brand identifier", example = "1")
+    private Long brandId;
+
+    @Schema(description = "Window start date, inclusive", example = "2020-06-14T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "Window end date, inclusive", example = "2020-06-15T23:59:59")
+    private LocalDateTime to;
+
+    @Schema(description = "Non-overlapping winning prices in chronological order, clipped to the window")
+    private List<PriceTimelineSegmentDto> segments;
+}
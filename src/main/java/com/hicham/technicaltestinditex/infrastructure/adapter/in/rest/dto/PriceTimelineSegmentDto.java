@@ -0,0 +1,33 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a segment of the price timeline in which a single price wins.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Time window in which a single price wins")
+public class PriceTimelineSegmentDto {
+
+    @Schema(description = "Segment start date, inclusive, to the second", example = "2020-06-14T15:00:00")
+    private LocalDateTime startDate;
+
+    @Schema(description = "Segment end date, inclusive, to the second", example = "2020-06-14T18:30:00")
+    private LocalDateTime endDate;
+
+    @Schema(description = "Price list of the winning price", example = "2")
+    private Integer priceList;
+
+    @Schema(description = "Winning price", example = "25.45")
+    private BigDecimal price;
+}
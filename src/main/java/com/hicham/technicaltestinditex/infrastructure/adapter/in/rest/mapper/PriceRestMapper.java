@@ -1,16 +1,24 @@
 package com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.mapper;
 
 import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceLookupResult;
 import com.hicham.technicaltestinditex.domain.entity.Price;
 import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
 import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceBatchItemDto;
 import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceQueryRequestDto;
 import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceTimelineSegmentDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ObjectFactory;
 import org.mapstruct.ReportingPolicy;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * MapStruct mapper for converting between REST DTOs and application DTOs.
  */
@@ -29,5 +37,67 @@ public interface PriceRestMapper {
     @Mapping(target = "startDate",  source = "priceRange.startDate")
     @Mapping(target = "endDate",    source = "priceRange.endDate")
     PriceResponseDto toRestResponse(Price response);
-}
 
+    /**
+     * Converts a REST query DTO to the application query.
+     *
+     * @param request the REST DTO
+     * @return the application query
+     */
+    default GetPriceQuery toQuery(PriceQueryRequestDto request) {
+        return new GetPriceQuery(
+                ProductId.of(request.getProductId()),
+                BrandId.of(request.getBrandId()),
+                request.getApplicationDate());
+    }
+
+    /**
+     * Converts a batch lookup result to the REST item DTO.
+     *
+     * @param index  the position of the entry in the request
+     * @param result the lookup result
+     * @return the REST DTO
+     */
+    default PriceBatchItemDto toBatchItem(int index, PriceLookupResult result) {
+        GetPriceQuery query = result.query();
+        return PriceBatchItemDto.builder()
+                .index(index)
+                .status(result.isFound() ? "FOUND" : "NOT_FOUND")
+                .applicationDate(query.at())
+                .productId(query.productId().value())
+                .brandId(query.brandId().value())
+                .price(result.isFound() ? toRestResponse(result.price()) : null)
+                .message(result.isFound() ? null : "No applicable price found")
+                .build();
+    }
+
+    /**
+     * Converts timeline segments to REST DTOs at the second precision of PRICES.
+     * Segments end exclusively while the API reports inclusive end dates, like PRICES does: a segment
+     * cut short at 15:00:00 ends at 14:59:59 and one following a price ending at 18:30:00 starts at 18:30:01.
+     * A segment shorter than a second, only possible with sub-second stored dates, is left out.
+     *
+     * @param segments the winning segments, in chronological order
+     * @return the REST DTOs
+     */
+    default List<PriceTimelineSegmentDto> toTimelineSegments(List<PriceSegment> segments) {
+        List<PriceTimelineSegmentDto> result = new ArrayList<>(segments.size());
+        for (PriceSegment segment : segments) {
+            LocalDateTime start = segment.startDate().getNano() == 0
+                    ? segment.startDate()
+                    : segment.startDate().withNano(0).plusSeconds(1);
+            LocalDateTime end = segment.endDate().equals(LocalDateTime.MAX)
+                    ? LocalDateTime.MAX
+                    : segment.endDate().minusNanos(1).withNano(0);
+            if (!start.isAfter(end)) {
+                result.add(PriceTimelineSegmentDto.builder()
+                        .startDate(start)
+                        .endDate(end)
+                        .priceList(segment.price().getPriceList())
+                        .price(segment.price().getPrice())
+                        .build());
+            }
+        }
+        return result;
+    }
+}
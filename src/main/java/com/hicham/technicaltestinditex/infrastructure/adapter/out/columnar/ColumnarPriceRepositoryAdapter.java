@@ -0,0 +1,263 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.columnar;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.service.PriceSelector;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Columnar in-memory implementation of PriceRepositoryPort.
+ * PRICES is streamed straight from JDBC into primitive columns, without creating an entity
+ * or domain object per row, and only the rows returned to callers are materialized as Price.
+ * A product with a row the columns cannot hold exactly (sub-second dates, more than
+ * {@link ColumnarPriceStore#PRICE_SCALE} decimals) is kept as boxed prices instead, with a warning.
+ * Changes reload only the changed pairs and copy every other row from the current store; reloads
+ * run one at a time, so the state published last always reflects the latest change.
+ * Enabled with {@code prices.repository.adapter=columnar}.
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.adapter", havingValue = "columnar")
+@Qualifier("priceRepositoryAdapter")
+@RequiredArgsConstructor
+@Slf4j
+public class ColumnarPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    private static final String SELECT_ALL =
+            "SELECT ID, BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR " +
+            "FROM PRICES ORDER BY BRAND_ID, PRODUCT_ID, ID";
+
+    private static final String SELECT_PRODUCT =
+            "SELECT ID, BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR " +
+            "FROM PRICES WHERE BRAND_ID = ? AND PRODUCT_ID = ? ORDER BY ID";
+
+    private static final int FETCH_SIZE = 10_000;
+
+    /**
+     * Above this many changed pairs, one full scan is cheaper than a query per pair.
+     */
+    static final int MAX_INCREMENTAL_KEYS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile State state = new State(ColumnarPriceStore.builder().build(), Map.of());
+
+    /**
+     * Streams every price from the database into a new store and swaps it in.
+     * Rows arrive grouped by product, so when a row does not fit the columns the rows of its product
+     * already added are moved out of the builder and the whole product is kept boxed.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder();
+        Map<PriceKey, List<Price>> boxed = new HashMap<>();
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        streaming.query(SELECT_ALL, new RowCallbackHandler() {
+            private long brandId;
+            private long productId;
+            private int productStart = -1;
+
+            @Override
+            public void processRow(ResultSet rs) throws SQLException {
+                long id = rs.getLong(1);
+                long rowBrandId = rs.getLong(2);
+                long rowProductId = rs.getLong(3);
+                LocalDateTime startDate = rs.getObject(4, LocalDateTime.class);
+                LocalDateTime endDate = rs.getObject(5, LocalDateTime.class);
+                int priceList = rs.getInt(6);
+                int priority = rs.getInt(7);
+                BigDecimal price = rs.getBigDecimal(8);
+                String currency = rs.getString(9);
+                if (productStart < 0 || rowBrandId != brandId || rowProductId != productId) {
+                    brandId = rowBrandId;
+                    productId = rowProductId;
+                    productStart = builder.size();
+                }
+                PriceKey key = PriceKey.of(BrandId.of(rowBrandId), ProductId.of(rowProductId));
+                List<Price> product = boxed.get(key);
+                if (product == null && !ColumnarPriceStore.Builder.fits(startDate, endDate, price)) {
+                    log.warn("Price {} of brand {} product {} does not fit the columnar store ({} to {}, {}), keeping the product boxed",
+                            id, rowBrandId, rowProductId, startDate, endDate, price);
+                    product = new ArrayList<>(builder.removeFrom(productStart));
+                    boxed.put(key, product);
+                }
+                if (product != null) {
+                    product.add(toPrice(id, rowBrandId, rowProductId, startDate, endDate, priceList, priority, price, currency));
+                } else {
+                    builder.add(id, rowBrandId, rowProductId, startDate, endDate, priceList, priority, price, currency);
+                }
+            }
+        });
+        State loaded = new State(builder.build(), boxed);
+        state = loaded;
+
+        log.info("Loaded {} prices into columnar store: {} KiB, {} MiB per million prices, {} currencies, {} products boxed",
+                loaded.store().size(),
+                loaded.store().heapBytes() / 1024,
+                loaded.store().heapBytesPerMillion() / (1024 * 1024),
+                loaded.store().currencyCount(),
+                boxed.size());
+    }
+
+    /**
+     * Reloads the prices of the given pairs and publishes a store with them replaced,
+     * copying the rows of every other pair from the current one.
+     *
+     * @param keys the (brand, product) pairs whose prices changed
+     */
+    public synchronized void reload(Set<PriceKey> keys) {
+        if (keys.size() > MAX_INCREMENTAL_KEYS) {
+            reload();
+            return;
+        }
+        State current = state;
+        Map<PriceKey, List<Price>> replacements = new HashMap<>();
+        Map<PriceKey, List<Price>> boxed = new HashMap<>(current.boxed());
+        for (PriceKey key : keys) {
+            List<Price> prices = jdbcTemplate.query(SELECT_PRODUCT, (rs, rowNum) -> toPrice(
+                            rs.getLong(1),
+                            rs.getLong(2),
+                            rs.getLong(3),
+                            rs.getObject(4, LocalDateTime.class),
+                            rs.getObject(5, LocalDateTime.class),
+                            rs.getInt(6),
+                            rs.getInt(7),
+                            rs.getBigDecimal(8),
+                            rs.getString(9)),
+                    key.brandId().value(), key.productId().value());
+            Optional<Price> misfit = prices.stream()
+                    .filter(price -> !ColumnarPriceStore.Builder.fits(
+                            price.getPriceRange().startDate(), price.getPriceRange().endDate(), price.getPrice()))
+                    .findFirst();
+            if (misfit.isPresent()) {
+                log.warn("Price {} of brand {} product {} does not fit the columnar store ({}, {}), keeping the product boxed",
+                        misfit.get().getId().value(), key.brandId().value(), key.productId().value(),
+                        misfit.get().getPriceRange(), misfit.get().getPrice());
+                replacements.put(key, List.of());
+                boxed.put(key, prices);
+            } else {
+                replacements.put(key, prices);
+                boxed.remove(key);
+            }
+        }
+        State next = new State(current.store().withProducts(replacements), boxed);
+        state = next;
+
+        log.debug("Reloaded {} price sets into columnar store, {} prices, {} products boxed",
+                keys.size(), next.store().size(), boxed.size());
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        State current = state;
+        List<Price> boxed = current.boxed().get(PriceKey.of(brandId, productId));
+        if (boxed != null) {
+            return boxed.stream().filter(price -> price.getPriceRange().contains(applicationDate)).toList();
+        }
+        return current.store().findApplicable(brandId.value(), productId.value(), applicationDate);
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        State current = state;
+        List<Price> boxed = current.boxed().get(PriceKey.of(brandId, productId));
+        if (boxed != null) {
+            return PriceSelector.selectApplicable(boxed, applicationDate);
+        }
+        return Optional.ofNullable(current.store().findHighestPriority(brandId.value(), productId.value(), applicationDate));
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        State current = state;
+        List<Price> boxed = current.boxed().get(PriceKey.of(brandId, productId));
+        if (boxed != null) {
+            return List.copyOf(boxed);
+        }
+        return current.store().findProduct(brandId.value(), productId.value());
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        State current = state;
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        for (PriceKey key : keys) {
+            List<Price> boxed = current.boxed().get(key);
+            List<Price> overlapping = boxed != null
+                    ? boxed.stream()
+                            .filter(price -> !price.getPriceRange().startDate().isAfter(to)
+                                    && !price.getPriceRange().endDate().isBefore(from))
+                            .toList()
+                    : current.store().findOverlapping(key.brandId().value(), key.productId().value(), from, to);
+            if (!overlapping.isEmpty()) {
+                result.put(key, overlapping);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        State current = state;
+        List<Price> prices = current.store().prices();
+        current.boxed().values().forEach(prices::addAll);
+        return prices;
+    }
+
+    public ColumnarPriceStore store() {
+        return state.store();
+    }
+
+    /**
+     * Keys of the products kept as boxed prices because a row did not fit the columns.
+     */
+    public Set<PriceKey> boxedKeys() {
+        return state.boxed().keySet();
+    }
+
+    /**
+     * Reloads the changed pairs when stored prices change, before any read model derived from it.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        reload(event.keys());
+    }
+
+    private static Price toPrice(long id, long brandId, long productId, LocalDateTime startDate, LocalDateTime endDate,
+                                 int priceList, int priority, BigDecimal price, String currency) {
+        return new Price(PriceId.of(id), BrandId.of(brandId), ProductId.of(productId),
+                PriceRange.of(startDate, endDate), priceList, priority, price, currency);
+    }
+
+    private record State(ColumnarPriceStore store, Map<PriceKey, List<Price>> boxed) {
+    }
+}
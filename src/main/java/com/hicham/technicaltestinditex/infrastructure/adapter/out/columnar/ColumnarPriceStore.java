@@ -0,0 +1,467 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.columnar;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable columnar store of prices kept in parallel primitive arrays.
+ * Rows are grouped by (brand, product), so the rows of a product are one contiguous run found
+ * by binary search. Dates are epoch seconds (UTC), amounts are longs in minor units at a fixed
+ * scale and currencies are indexes into a small dictionary. A domain Price is only created
+ * for the rows a caller actually asks for, usually just the winning one.
+ */
+public final class ColumnarPriceStore {
+
+    /**
+     * Decimal places of stored amounts, matching the PRICE DECIMAL(10, 2) column.
+     */
+    public static final int PRICE_SCALE = 2;
+
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    // Six long, two int and one short column entries per price
+    private static final int ROW_BYTES = Long.BYTES * 6 + Integer.BYTES * 2 + Short.BYTES;
+
+    private final int size;
+    private final long[] ids;
+    private final long[] brandIds;
+    private final long[] productIds;
+    private final long[] startSeconds;
+    private final long[] endSeconds;
+    private final int[] priorities;
+    private final int[] priceLists;
+    private final long[] amounts;
+    private final short[] currencyCodes;
+    private final String[] currencies;
+
+    private ColumnarPriceStore(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.brandIds = Arrays.copyOf(builder.brandIds, size);
+        this.productIds = Arrays.copyOf(builder.productIds, size);
+        this.startSeconds = Arrays.copyOf(builder.startSeconds, size);
+        this.endSeconds = Arrays.copyOf(builder.endSeconds, size);
+        this.priorities = Arrays.copyOf(builder.priorities, size);
+        this.priceLists = Arrays.copyOf(builder.priceLists, size);
+        this.amounts = Arrays.copyOf(builder.amounts, size);
+        this.currencyCodes = Arrays.copyOf(builder.currencyCodes, size);
+        this.currencies = builder.currencies.toArray(new String[0]);
+    }
+
+    public static Builder builder() {
+        return new Builder(1024);
+    }
+
+    /**
+     * Builds a store from domain prices, keeping their relative order within each product.
+     *
+     * @param prices the prices to store
+     * @return the columnar store
+     */
+    public static ColumnarPriceStore of(Collection<Price> prices) {
+        List<Price> sorted = new ArrayList<>(prices);
+        sorted.sort(Comparator.<Price, Long>comparing(price -> price.getBrandId().value())
+                .thenComparing(price -> price.getProductId().value()));
+        Builder builder = new Builder(Math.max(sorted.size(), 1));
+        sorted.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Builds the next store with the rows of the given products replaced, copying every other row
+     * from this one instead of reading it again. A product mapped to an empty list is removed.
+     *
+     * @param replacements the new prices of each changed (brand, product) pair, all fitting the columns
+     * @return the next store
+     */
+    public ColumnarPriceStore withProducts(Map<PriceKey, List<Price>> replacements) {
+        List<PriceKey> keys = new ArrayList<>(replacements.keySet());
+        keys.sort(Comparator.<PriceKey, Long>comparing(key -> key.brandId().value())
+                .thenComparing(key -> key.productId().value()));
+        int added = replacements.values().stream().mapToInt(List::size).sum();
+        Builder builder = new Builder(Math.max(size + added, 1));
+        int next = 0;
+        int row = 0;
+        while (row < size) {
+            long brandId = brandIds[row];
+            long productId = productIds[row];
+            for (; next < keys.size() && precedes(keys.get(next), brandId, productId); next++) {
+                replacements.get(keys.get(next)).forEach(builder::add);
+            }
+            boolean replaced = next < keys.size()
+                    && keys.get(next).brandId().value() == brandId
+                    && keys.get(next).productId().value() == productId;
+            int end = row;
+            while (end < size && isRow(end, brandId, productId)) {
+                end++;
+            }
+            if (replaced) {
+                replacements.get(keys.get(next++)).forEach(builder::add);
+            } else {
+                builder.copy(this, row, end);
+            }
+            row = end;
+        }
+        for (; next < keys.size(); next++) {
+            replacements.get(keys.get(next)).forEach(builder::add);
+        }
+        return builder.build();
+    }
+
+    private static boolean precedes(PriceKey key, long brandId, long productId) {
+        return key.brandId().value() < brandId
+                || (key.brandId().value() == brandId && key.productId().value() < productId);
+    }
+
+    /**
+     * Finds the applicable row with the highest priority and materializes only that one.
+     * Ties keep the row stored first.
+     *
+     * @param brandId         the brand identifier
+     * @param productId       the product identifier
+     * @param applicationDate the date to check
+     * @return the winning price, or null if no price applies
+     */
+    public Price findHighestPriority(long brandId, long productId, LocalDateTime applicationDate) {
+        if (applicationDate == null) {
+            return null;
+        }
+        int winner = -1;
+        long second = toEpochSecond(applicationDate);
+        boolean wholeSecond = applicationDate.getNano() == 0;
+        for (int row = firstRow(brandId, productId); row < size && isRow(row, brandId, productId); row++) {
+            if (applies(row, second, wholeSecond) && (winner < 0 || priorities[row] > priorities[winner])) {
+                winner = row;
+            }
+        }
+        return winner < 0 ? null : materialize(winner);
+    }
+
+    /**
+     * Finds every row of the product whose validity range contains the date.
+     *
+     * @param brandId         the brand identifier
+     * @param productId       the product identifier
+     * @param applicationDate the date to check
+     * @return the applicable prices, in storage order
+     */
+    public List<Price> findApplicable(long brandId, long productId, LocalDateTime applicationDate) {
+        List<Price> result = new ArrayList<>(2);
+        if (applicationDate == null) {
+            return result;
+        }
+        long second = toEpochSecond(applicationDate);
+        boolean wholeSecond = applicationDate.getNano() == 0;
+        for (int row = firstRow(brandId, productId); row < size && isRow(row, brandId, productId); row++) {
+            if (applies(row, second, wholeSecond)) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds every row of the product overlapping the inclusive [from, to] window.
+     */
+    public List<Price> findOverlapping(long brandId, long productId, LocalDateTime from, LocalDateTime to) {
+        List<Price> result = new ArrayList<>();
+        long fromSecond = toEpochSecond(from);
+        long toSecond = toEpochSecond(to);
+        for (int row = firstRow(brandId, productId); row < size && isRow(row, brandId, productId); row++) {
+            // Stored bounds are whole seconds, so truncating the window keeps the comparison exact
+            if (startSeconds[row] <= toSecond && endSeconds[row] >= fromSecond
+                    && (endSeconds[row] > fromSecond || from.getNano() == 0)) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    public List<Price> findProduct(long brandId, long productId) {
+        List<Price> result = new ArrayList<>();
+        for (int row = firstRow(brandId, productId); row < size && isRow(row, brandId, productId); row++) {
+            result.add(materialize(row));
+        }
+        return result;
+    }
+
+    public List<Price> prices() {
+        List<Price> result = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            result.add(materialize(row));
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int currencyCount() {
+        return currencies.length;
+    }
+
+    /**
+     * Estimates the heap retained by the columns, including array headers and the currency dictionary.
+     *
+     * @return the estimated size in bytes
+     */
+    public long heapBytes() {
+        return (long) size * ROW_BYTES + fixedBytes();
+    }
+
+    /**
+     * Heap cost of one million prices at the current layout. The array headers and the currency
+     * dictionary are counted once, not scaled with the rows.
+     *
+     * @return the estimated bytes per million prices
+     */
+    public long heapBytesPerMillion() {
+        return size == 0 ? 0 : 1_000_000L * ROW_BYTES + fixedBytes();
+    }
+
+    private long fixedBytes() {
+        long headers = 10L * ARRAY_HEADER_BYTES;
+        long dictionary = ARRAY_HEADER_BYTES + (long) currencies.length * (Integer.BYTES + 48);
+        return headers + dictionary;
+    }
+
+    private boolean applies(int row, long second, boolean wholeSecond) {
+        // Range is inclusive on both ends; past the end second only the exact end instant still applies
+        return startSeconds[row] <= second
+                && (second < endSeconds[row] || (second == endSeconds[row] && wholeSecond));
+    }
+
+    private boolean isRow(int row, long brandId, long productId) {
+        return brandIds[row] == brandId && productIds[row] == productId;
+    }
+
+    /**
+     * Lower bound of the (brand, product) run.
+     */
+    private int firstRow(long brandId, long productId) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (brandIds[mid] < brandId || (brandIds[mid] == brandId && productIds[mid] < productId)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private Price materialize(int row) {
+        return price(ids[row], brandIds[row], productIds[row], startSeconds[row], endSeconds[row],
+                priceLists[row], priorities[row], amounts[row], currencies[currencyCodes[row]]);
+    }
+
+    private static Price price(long id, long brandId, long productId, long startSecond, long endSecond,
+                               int priceList, int priority, long amount, String currency) {
+        return new Price(
+                PriceId.of(id),
+                BrandId.of(brandId),
+                ProductId.of(productId),
+                PriceRange.of(toDateTime(startSecond), toDateTime(endSecond)),
+                priceList,
+                priority,
+                BigDecimal.valueOf(amount, PRICE_SCALE),
+                currency
+        );
+    }
+
+    static long toEpochSecond(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Appends rows to growing columns. Rows must arrive grouped by brand, then product.
+     */
+    public static final class Builder {
+
+        private int size;
+        private long[] ids;
+        private long[] brandIds;
+        private long[] productIds;
+        private long[] startSeconds;
+        private long[] endSeconds;
+        private int[] priorities;
+        private int[] priceLists;
+        private long[] amounts;
+        private short[] currencyCodes;
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Short> currencyIndex = new HashMap<>();
+
+        private Builder(int capacity) {
+            ids = new long[capacity];
+            brandIds = new long[capacity];
+            productIds = new long[capacity];
+            startSeconds = new long[capacity];
+            endSeconds = new long[capacity];
+            priorities = new int[capacity];
+            priceLists = new int[capacity];
+            amounts = new long[capacity];
+            currencyCodes = new short[capacity];
+        }
+
+        public Builder add(Price price) {
+            return add(
+                    price.getId().value(),
+                    price.getBrandId().value(),
+                    price.getProductId().value(),
+                    price.getPriceRange().startDate(),
+                    price.getPriceRange().endDate(),
+                    price.getPriceList(),
+                    price.getPriority(),
+                    price.getPrice(),
+                    price.getCurrency());
+        }
+
+        /**
+         * Appends one row.
+         *
+         * @throws IllegalArgumentException if rows are out of (brand, product) order, a date has
+         *                                  sub-second precision or the amount has more than {@link #PRICE_SCALE} decimals
+         */
+        public Builder add(long id, long brandId, long productId, LocalDateTime startDate, LocalDateTime endDate,
+                           int priceList, int priority, BigDecimal price, String currency) {
+            if (size > 0 && (brandIds[size - 1] > brandId
+                    || (brandIds[size - 1] == brandId && productIds[size - 1] > productId))) {
+                throw new IllegalArgumentException("Rows must be ordered by brand and product");
+            }
+            if (startDate.getNano() != 0 || endDate.getNano() != 0) {
+                throw new IllegalArgumentException("Columnar store keeps dates at second precision");
+            }
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            brandIds[size] = brandId;
+            productIds[size] = productId;
+            startSeconds[size] = toEpochSecond(startDate);
+            endSeconds[size] = toEpochSecond(endDate);
+            priceLists[size] = priceList;
+            priorities[size] = priority;
+            amounts[size] = toMinorUnits(price);
+            currencyCodes[size] = currencyCode(currency);
+            size++;
+            return this;
+        }
+
+        public ColumnarPriceStore build() {
+            return new ColumnarPriceStore(this);
+        }
+
+        /**
+         * Appends the rows [from, to) of another store, translating their currency codes.
+         */
+        private void copy(ColumnarPriceStore store, int from, int to) {
+            for (int row = from; row < to; row++) {
+                if (size == ids.length) {
+                    grow();
+                }
+                ids[size] = store.ids[row];
+                brandIds[size] = store.brandIds[row];
+                productIds[size] = store.productIds[row];
+                startSeconds[size] = store.startSeconds[row];
+                endSeconds[size] = store.endSeconds[row];
+                priceLists[size] = store.priceLists[row];
+                priorities[size] = store.priorities[row];
+                amounts[size] = store.amounts[row];
+                currencyCodes[size] = currencyCode(store.currencies[store.currencyCodes[row]]);
+                size++;
+            }
+        }
+
+        /**
+         * Tells whether a row can be stored without losing precision: dates at second precision
+         * and an amount with at most {@link #PRICE_SCALE} decimals.
+         */
+        public static boolean fits(LocalDateTime startDate, LocalDateTime endDate, BigDecimal price) {
+            if (startDate.getNano() != 0 || endDate.getNano() != 0) {
+                return false;
+            }
+            try {
+                price.movePointRight(PRICE_SCALE).longValueExact();
+                return true;
+            } catch (ArithmeticException e) {
+                return false;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Removes the rows from the given one to the last, for a caller that stores them elsewhere.
+         *
+         * @param row the first row to remove
+         * @return the removed rows as domain prices, in insertion order
+         */
+        public List<Price> removeFrom(int row) {
+            List<Price> removed = new ArrayList<>(size - row);
+            for (int i = row; i < size; i++) {
+                removed.add(price(ids[i], brandIds[i], productIds[i], startSeconds[i], endSeconds[i],
+                        priceLists[i], priorities[i], amounts[i], currencies.get(currencyCodes[i])));
+            }
+            size = row;
+            return removed;
+        }
+
+        private static long toMinorUnits(BigDecimal price) {
+            try {
+                return price.movePointRight(PRICE_SCALE).longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Price " + price + " does not fit in " + PRICE_SCALE + " decimals", e);
+            }
+        }
+
+        private short currencyCode(String currency) {
+            Short code = currencyIndex.get(currency);
+            if (code == null) {
+                if (currencies.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct currencies");
+                }
+                code = (short) currencies.size();
+                currencies.add(currency);
+                currencyIndex.put(currency, code);
+            }
+            return code;
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1) + 1;
+            ids = Arrays.copyOf(ids, capacity);
+            brandIds = Arrays.copyOf(brandIds, capacity);
+            productIds = Arrays.copyOf(productIds, capacity);
+            startSeconds = Arrays.copyOf(startSeconds, capacity);
+            endSeconds = Arrays.copyOf(endSeconds, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            priceLists = Arrays.copyOf(priceLists, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            currencyCodes = Arrays.copyOf(currencyCodes, capacity);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceBulkWriterPort;
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Plain JDBC implementation of PriceBulkWriterPort, used whatever adapter serves the lookups.
+ * A session holds one connection with auto-commit off and a single prepared INSERT reused for every batch.
+ * A batch is guarded by a savepoint: when the store rejects it, the batch is rolled back to the savepoint
+ * and replayed row by row, each row under its own savepoint, so only the offending rows are lost.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcPriceBulkWriter implements PriceBulkWriterPort {
+
+    private static final String INSERT = "INSERT INTO PRICES " +
+            "(BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Session openSession() {
+        Connection connection = null;
+        try {
+            connection = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+            connection.setAutoCommit(false);
+            return new JdbcSession(connection, connection.prepareStatement(INSERT));
+        } catch (SQLException ex) {
+            closeQuietly(connection);
+            throw translate("openSession", ex);
+        }
+    }
+
+    private final class JdbcSession implements Session {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+
+        private JdbcSession(Connection connection, PreparedStatement statement) {
+            this.connection = connection;
+            this.statement = statement;
+        }
+
+        @Override
+        public List<RejectedPrice> insert(List<NewPrice> prices) {
+            try {
+                Savepoint batchSavepoint = connection.setSavepoint();
+                try {
+                    for (NewPrice price : prices) {
+                        bind(price);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    return List.of();
+                } catch (SQLException ex) {
+                    statement.clearBatch();
+                    connection.rollback(batchSavepoint);
+                    return insertOneByOne(prices);
+                }
+            } catch (SQLException ex) {
+                throw translate("insert", ex);
+            }
+        }
+
+        private List<RejectedPrice> insertOneByOne(List<NewPrice> prices) throws SQLException {
+            List<RejectedPrice> rejected = new ArrayList<>();
+            for (int i = 0; i < prices.size(); i++) {
+                Savepoint rowSavepoint = connection.setSavepoint();
+                try {
+                    bind(prices.get(i));
+                    statement.executeUpdate();
+                } catch (SQLException ex) {
+                    connection.rollback(rowSavepoint);
+                    rejected.add(new RejectedPrice(i, firstLine(ex.getMessage())));
+                }
+            }
+            return rejected;
+        }
+
+        private void bind(NewPrice price) throws SQLException {
+            statement.setLong(1, price.brandId().value());
+            statement.setLong(2, price.productId().value());
+            statement.setTimestamp(3, Timestamp.valueOf(price.priceRange().startDate()));
+            statement.setTimestamp(4, Timestamp.valueOf(price.priceRange().endDate()));
+            statement.setInt(5, price.priceList());
+            statement.setInt(6, price.priority());
+            statement.setBigDecimal(7, price.price());
+            statement.setString(8, price.currency());
+        }
+
+        @Override
+        public void commit() {
+            try {
+                connection.commit();
+            } catch (SQLException ex) {
+                throw translate("commit", ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                connection.rollback();
+            } catch (SQLException ex) {
+                log.warn("Could not roll back the bulk price session: {}", ex.getMessage());
+            }
+            try {
+                statement.close();
+            } catch (SQLException ex) {
+                log.warn("Could not close the bulk price statement: {}", ex.getMessage());
+            }
+            closeQuietly(connection);
+        }
+    }
+
+    private DataAccessException translate(String task, SQLException ex) {
+        DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate(task, INSERT, ex);
+        return translated != null ? translated : new UncategorizedSQLException(task, INSERT, ex);
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "Rejected by the database";
+        }
+        int end = message.indexOf('\n');
+        return end < 0 ? message : message.substring(0, end);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.setAutoCommit(true);
+            connection.close();
+        } catch (SQLException ex) {
+            log.warn("Could not release the bulk price connection: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceExportPort;
+import com.hicham.technicaltestinditex.application.query.PriceExportQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceExportProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC implementation of PriceExportPort, used whatever adapter serves the lookups.
+ * Rows are read through a forward-only, read-only cursor fetched {@code prices.export.fetch-size} rows
+ * at a time and mapped one by one, so only the current fetch is held in memory. The read runs in a
+ * read-only transaction because some drivers, PostgreSQL among them, only stream results inside one.
+ */
+@Component
+public class JdbcPriceExporter implements PriceExportPort {
+
+    private static final String SELECT_PRICES = "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES WHERE 1 = 1";
+
+    private final JdbcTemplate cursorTemplate;
+
+    public JdbcPriceExporter(JdbcTemplate jdbcTemplate, PriceExportProperties priceExportProperties) {
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(priceExportProperties.fetchSize());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPrices(PriceExportQuery query, Consumer<Price> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_PRICES);
+        List<Object> args = new ArrayList<>(3);
+        if (query.brandId() != null) {
+            sql.append(" AND BRAND_ID = ?");
+            args.add(query.brandId().value());
+        }
+        if (query.from() != null) {
+            sql.append(" AND END_DATE >= ?");
+            args.add(Timestamp.valueOf(query.from()));
+        }
+        if (query.to() != null) {
+            sql.append(" AND START_DATE <= ?");
+            args.add(Timestamp.valueOf(query.to()));
+        }
+        sql.append(" ORDER BY ID");
+
+        long[] rows = {0};
+        cursorTemplate.query(sql.toString(),
+                (RowCallbackHandler) rs -> consumer.accept(PriceRowMapper.INSTANCE.mapRow(rs, (int) rows[0]++)),
+                args.toArray());
+        return rows[0];
+    }
+}
@@ -0,0 +1,129 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Plain JDBC implementation of PriceRepositoryPort.
+ * Prices are read-only here, so rows are mapped straight into domain objects without
+ * going through Hibernate's persistence context, dirty-check snapshots or entity mapping.
+ * Statement factories are built once, so the SQL and parameter types are not redeclared per call;
+ * they cache nothing else, and each call still prepares a new JDBC statement. Parsing is saved by
+ * the database instead: H2 keeps the last {@code QUERY_CACHE_SIZE} (8) parsed commands of each
+ * connection, keyed by SQL text, which the constant SQL below hits. Other drivers need their own
+ * statement cache enabled (e.g. {@code cachePrepStmts} on MySQL).
+ * Enabled with {@code prices.repository.adapter=jdbc}.
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.adapter", havingValue = "jdbc")
+@Qualifier("priceRepositoryAdapter")
+@RequiredArgsConstructor
+public class JdbcPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    private static final String SELECT_PRICES = "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES ";
+
+    private static final String APPLICABLE = SELECT_PRICES +
+            "WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND START_DATE <= ? AND END_DATE >= ?";
+
+    private static final String HIGHEST_PRIORITY = APPLICABLE +
+            " ORDER BY PRIORITY DESC, ID ASC FETCH FIRST 1 ROWS ONLY";
+
+    private static final String BY_PRODUCT = SELECT_PRICES +
+            "WHERE BRAND_ID = ? AND PRODUCT_ID = ?";
+
+    private static final String OVERLAPPING = SELECT_PRICES +
+            "WHERE BRAND_ID IN (:brandIds) AND PRODUCT_ID IN (:productIds) " +
+            "AND START_DATE <= :to AND END_DATE >= :from";
+
+    private static final String ALL = SELECT_PRICES + "ORDER BY ID";
+
+    private static final String ALL_KEYS = "SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // SQL and parameter type declarations only, not prepared statements
+    private final PreparedStatementCreatorFactory applicableStatement =
+            statement(APPLICABLE, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP);
+    private final PreparedStatementCreatorFactory highestPriorityStatement =
+            statement(HIGHEST_PRIORITY, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP);
+    private final PreparedStatementCreatorFactory byProductStatement =
+            statement(BY_PRODUCT, Types.BIGINT, Types.BIGINT);
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return jdbcTemplate.query(
+                applicableStatement.newPreparedStatementCreator(List.of(
+                        brandId.value(), productId.value(), applicationDate, applicationDate)),
+                PriceRowMapper.INSTANCE);
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return jdbcTemplate.query(
+                        highestPriorityStatement.newPreparedStatementCreator(List.of(
+                                brandId.value(), productId.value(), applicationDate, applicationDate)),
+                        PriceRowMapper.INSTANCE)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return jdbcTemplate.query(
+                byProductStatement.newPreparedStatementCreator(List.of(brandId.value(), productId.value())),
+                PriceRowMapper.INSTANCE);
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Set<PriceKey> requested = Set.copyOf(keys);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("brandIds", keys.stream().map(key -> key.brandId().value()).collect(Collectors.toSet()))
+                .addValue("productIds", keys.stream().map(key -> key.productId().value()).collect(Collectors.toSet()))
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return namedParameterJdbcTemplate.query(OVERLAPPING, parameters, PriceRowMapper.INSTANCE).stream()
+                .filter(price -> requested.contains(PriceKey.of(price.getBrandId(), price.getProductId())))
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getBrandId(), price.getProductId())));
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return jdbcTemplate.query(ALL, PriceRowMapper.INSTANCE);
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        return Set.copyOf(jdbcTemplate.query(ALL_KEYS,
+                (rs, rowNum) -> PriceKey.of(BrandId.of(rs.getLong(1)), ProductId.of(rs.getLong(2)))));
+    }
+
+    private static PreparedStatementCreatorFactory statement(String sql, int... types) {
+        return new PreparedStatementCreatorFactory(sql, types);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Builds domain Price objects straight from a PRICES result set.
+ * Columns are read by position, so every query must select {@link #COLUMNS} in this order.
+ */
+public final class PriceRowMapper implements RowMapper<Price> {
+
+    public static final PriceRowMapper INSTANCE = new PriceRowMapper();
+
+    public static final String COLUMNS =
+            "ID, BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR";
+
+    private PriceRowMapper() {
+    }
+
+    @Override
+    public Price mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Price(
+                PriceId.of(rs.getLong(1)),
+                BrandId.of(rs.getLong(2)),
+                ProductId.of(rs.getLong(3)),
+                PriceRange.of(
+                        rs.getObject(4, LocalDateTime.class),
+                        rs.getObject(5, LocalDateTime.class)
+                ),
+                rs.getInt(6),
+                rs.getInt(7),
+                rs.getBigDecimal(8),
+                rs.getString(9)
+        );
+    }
+}
@@ -0,0 +1,265 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc.JdbcPriceRepositoryAdapter;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc.PriceRowMapper;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceMappedSnapshotProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Memory-mapped implementation of PriceRepositoryPort.
+ * Lookups read a binary snapshot file mapped with {@link MappedPriceSnapshot}, so a restart only
+ * maps the file instead of loading PRICES into the heap. The snapshot is trusted while the row count,
+ * highest id and content hash of PRICES match the ones recorded in its header; otherwise it is rewritten
+ * from the database, and when it cannot be written every lookup falls back to the database. The content
+ * hash sums a hash of every column of every row, so in-place updates and rows deleted and inserted below
+ * the highest id are detected too, including changes made while the application was down.
+ * Pairs changed after the snapshot was written are read from the database until there are more than
+ * {@code prices.mapped-snapshot.max-stale-keys} of them, which rewrites the snapshot.
+ * Enabled with {@code prices.repository.adapter=mapped}.
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.adapter", havingValue = "mapped")
+@Qualifier("priceRepositoryAdapter")
+@Slf4j
+public class MappedPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    private static final String FINGERPRINT = "SELECT COUNT(*), COALESCE(MAX(ID), 0), " +
+            "COALESCE(SUM(ORA_HASH(CONCAT_WS('|', ID, BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, " +
+            "PRICE_LIST, PRIORITY, PRICE, CURR))), 0) FROM PRICES";
+
+    private static final String SELECT_ALL = "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES " +
+            "ORDER BY BRAND_ID, PRODUCT_ID, ID";
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcPriceRepositoryAdapter database;
+    private final Path path;
+    private final boolean verifyChecksum;
+    private final int maxStaleKeys;
+
+    private volatile MappedPriceSnapshot snapshot;
+    private volatile Set<PriceKey> staleKeys = Set.of();
+
+    public MappedPriceRepositoryAdapter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                        PriceMappedSnapshotProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.database = new JdbcPriceRepositoryAdapter(jdbcTemplate, namedParameterJdbcTemplate);
+        this.path = Path.of(properties.path());
+        this.verifyChecksum = properties.verifyChecksum();
+        this.maxStaleKeys = properties.maxStaleKeys();
+    }
+
+    /**
+     * Maps the snapshot file, rewriting it first when it is missing, corrupt or stale.
+     */
+    @PostConstruct
+    public synchronized void open() {
+        long start = System.nanoTime();
+        Fingerprint fingerprint = fingerprint();
+        try {
+            MappedPriceSnapshot existing = MappedPriceSnapshot.open(path, verifyChecksum);
+            if (fingerprint.matches(existing)) {
+                publish(existing, Set.of());
+                log.info("Mapped price snapshot {} with {} prices in {} ms",
+                        path, existing.size(), (System.nanoTime() - start) / 1_000_000);
+                return;
+            }
+            log.info("Price snapshot {} is stale: written from {} rows up to id {} with hash {}, "
+                            + "PRICES has {} rows up to id {} with hash {}",
+                    path, existing.sourceRows(), existing.sourceMaxId(), existing.sourceHash(),
+                    fingerprint.rows(), fingerprint.maxId(), fingerprint.hash());
+        } catch (NoSuchFileException e) {
+            log.info("Price snapshot {} does not exist yet", path);
+        } catch (IOException e) {
+            log.warn("Discarding price snapshot {}: {}", path, e.getMessage());
+        }
+        rebuild();
+    }
+
+    /**
+     * Rewrites the snapshot file from the database and maps it. Lookups keep reading the
+     * previous mapping meanwhile; if writing fails, they are served from the database.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        try {
+            write();
+            MappedPriceSnapshot written = MappedPriceSnapshot.open(path, false);
+            publish(written, Set.of());
+            log.info("Wrote price snapshot {} with {} prices ({} KiB) in {} ms",
+                    path, written.size(), written.fileBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            publish(null, Set.of());
+            log.warn("Could not write price snapshot {}, serving prices from the database", path, e);
+        }
+    }
+
+    /**
+     * @return the mapped snapshot, or {@code null} when prices are served from the database
+     */
+    public MappedPriceSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return the pairs changed since the snapshot was written, served from the database
+     */
+    public Set<PriceKey> staleKeys() {
+        return staleKeys;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        MappedPriceSnapshot current = snapshot;
+        if (current == null || staleKeys.contains(PriceKey.of(brandId, productId))) {
+            return database.findApplicablePrices(applicationDate, productId, brandId);
+        }
+        return current.findApplicable(brandId.value(), productId.value(), applicationDate);
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        MappedPriceSnapshot current = snapshot;
+        if (current == null || staleKeys.contains(PriceKey.of(brandId, productId))) {
+            return database.findHighestPriorityPrice(applicationDate, productId, brandId);
+        }
+        return Optional.ofNullable(current.findHighestPriority(brandId.value(), productId.value(), applicationDate));
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        MappedPriceSnapshot current = snapshot;
+        if (current == null || staleKeys.contains(PriceKey.of(brandId, productId))) {
+            return database.findPrices(productId, brandId);
+        }
+        return current.findProduct(brandId.value(), productId.value());
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        MappedPriceSnapshot current = snapshot;
+        if (current == null) {
+            return database.findPrices(keys, from, to);
+        }
+        Set<PriceKey> stale = staleKeys;
+        List<PriceKey> fromDatabase = new ArrayList<>();
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        for (PriceKey key : keys) {
+            if (stale.contains(key)) {
+                fromDatabase.add(key);
+                continue;
+            }
+            List<Price> overlapping = current.findOverlapping(key.brandId().value(), key.productId().value(), from, to);
+            if (!overlapping.isEmpty()) {
+                result.put(key, overlapping);
+            }
+        }
+        if (!fromDatabase.isEmpty()) {
+            result.putAll(database.findPrices(fromDatabase, from, to));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        MappedPriceSnapshot current = snapshot;
+        return current == null || !staleKeys.isEmpty() ? database.findAllPrices() : current.prices();
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        MappedPriceSnapshot current = snapshot;
+        return current == null || !staleKeys.isEmpty() ? database.findAllKeys() : current.keys();
+    }
+
+    /**
+     * Routes the changed pairs to the database, before any read model derived from this adapter,
+     * and rewrites the snapshot once too many pairs are stale.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onPricesChanged(PricesChangedEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+        Set<PriceKey> next = new HashSet<>(staleKeys);
+        next.addAll(event.keys());
+        if (next.size() > maxStaleKeys) {
+            rebuild();
+        } else {
+            staleKeys = Set.copyOf(next);
+        }
+    }
+
+    private void publish(MappedPriceSnapshot next, Set<PriceKey> stale) {
+        // Mapping first: a reader in between still routes the old stale pairs to the database
+        snapshot = next;
+        staleKeys = stale;
+    }
+
+    /**
+     * Streams PRICES in (brand, product, id) order into a new snapshot file. The fingerprint is read
+     * first, so rows committed while the file is written make it stale rather than silently missing.
+     */
+    private void write() throws IOException {
+        Fingerprint fingerprint = fingerprint();
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        try (PriceSnapshotWriter writer = PriceSnapshotWriter.create(path)) {
+            streaming.query(SELECT_ALL, (RowCallbackHandler) rs -> {
+                try {
+                    writer.add(PriceRowMapper.INSTANCE.mapRow(rs, 0));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish(fingerprint.rows(), fingerprint.maxId(), fingerprint.hash());
+        }
+    }
+
+    private Fingerprint fingerprint() {
+        return jdbcTemplate.queryForObject(FINGERPRINT,
+                (rs, rowNum) -> new Fingerprint(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    /**
+     * Row count, highest id and content hash of PRICES.
+     */
+    private record Fingerprint(long rows, long maxId, long hash) {
+
+        boolean matches(MappedPriceSnapshot snapshot) {
+            return snapshot.sourceRows() == rows && snapshot.sourceMaxId() == maxId && snapshot.sourceHash() == hash;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+import static com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped.PriceSnapshotFile.*;
+
+/**
+ * Read-only view of a price snapshot file mapped into memory.
+ * Nothing is copied onto the heap when the file is opened: the operating system pages records in
+ * on first access and shares those pages with every process mapping the same file. Reads use
+ * absolute positions only, so one instance serves concurrent callers without locking, and a
+ * Price is only created for the records a caller asks for.
+ */
+public final class MappedPriceSnapshot {
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int recordCount;
+    private final int keyCount;
+    private final int directoryOffset;
+    private final String[] currencies;
+    private final long sourceRows;
+    private final long sourceMaxId;
+    private final long sourceHash;
+    private final Instant createdAt;
+
+    private MappedPriceSnapshot(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getLong(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException(path + " is not a price snapshot");
+        }
+        int version = buffer.getInt(VERSION_OFFSET);
+        if (version != FORMAT_VERSION || buffer.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+            throw new IOException(path + " has snapshot format " + version + ", expected " + FORMAT_VERSION);
+        }
+        this.recordCount = buffer.getInt(RECORD_COUNT_OFFSET);
+        this.keyCount = buffer.getInt(KEY_COUNT_OFFSET);
+        int currencyCount = buffer.getInt(CURRENCY_COUNT_OFFSET);
+        long expectedSize = HEADER_SIZE + (long) recordCount * RECORD_SIZE
+                + (long) keyCount * DIRECTORY_ENTRY_SIZE + (long) currencyCount * CURRENCY_SIZE;
+        if (recordCount < 0 || keyCount < 0 || currencyCount < 0 || expectedSize != buffer.capacity()) {
+            throw new IOException(path + " is truncated or has an inconsistent header");
+        }
+        this.directoryOffset = HEADER_SIZE + recordCount * RECORD_SIZE;
+        this.currencies = readCurrencies(directoryOffset + keyCount * DIRECTORY_ENTRY_SIZE, currencyCount);
+        this.sourceRows = buffer.getLong(SOURCE_ROWS_OFFSET);
+        this.sourceMaxId = buffer.getLong(SOURCE_MAX_ID_OFFSET);
+        this.sourceHash = buffer.getLong(SOURCE_HASH_OFFSET);
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(CREATED_AT_OFFSET));
+    }
+
+    /**
+     * Maps a snapshot file and checks its header.
+     *
+     * @param path   the snapshot file
+     * @param verify whether to check the body against the header checksum, which reads the whole file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read, has another format or fails the checksum
+     */
+    public static MappedPriceSnapshot open(Path path, boolean verify) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is larger than a single mapping");
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        MappedPriceSnapshot snapshot = new MappedPriceSnapshot(path, buffer);
+        if (verify && !snapshot.checksumMatches()) {
+            throw new IOException(path + " does not match its checksum");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Finds the applicable record with the highest priority and materializes only that one.
+     * Ties keep the lowest id.
+     *
+     * @param brandId         the brand identifier
+     * @param productId       the product identifier
+     * @param applicationDate the date to check
+     * @return the winning price, or null if no price applies
+     */
+    public Price findHighestPriority(long brandId, long productId, LocalDateTime applicationDate) {
+        int entry = findEntry(brandId, productId);
+        if (entry < 0 || applicationDate == null) {
+            return null;
+        }
+        long second = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        int nano = applicationDate.getNano();
+        int winner = -1;
+        int end = first(entry) + count(entry);
+        for (int record = first(entry); record < end; record++) {
+            if (applies(record, second, nano)
+                    && (winner < 0 || intAt(record, PRIORITY) > intAt(winner, PRIORITY))) {
+                winner = record;
+            }
+        }
+        return winner < 0 ? null : materialize(winner, brandId, productId);
+    }
+
+    /**
+     * Finds every record of the product whose validity range contains the date.
+     */
+    public List<Price> findApplicable(long brandId, long productId, LocalDateTime applicationDate) {
+        List<Price> result = new ArrayList<>(2);
+        int entry = findEntry(brandId, productId);
+        if (entry < 0 || applicationDate == null) {
+            return result;
+        }
+        long second = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        int nano = applicationDate.getNano();
+        int end = first(entry) + count(entry);
+        for (int record = first(entry); record < end; record++) {
+            if (applies(record, second, nano)) {
+                result.add(materialize(record, brandId, productId));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds every record of the product overlapping the inclusive [from, to] window.
+     */
+    public List<Price> findOverlapping(long brandId, long productId, LocalDateTime from, LocalDateTime to) {
+        List<Price> result = new ArrayList<>();
+        int entry = findEntry(brandId, productId);
+        if (entry < 0) {
+            return result;
+        }
+        long fromSecond = from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to.toEpochSecond(ZoneOffset.UTC);
+        int end = first(entry) + count(entry);
+        for (int record = first(entry); record < end; record++) {
+            if (compare(record, START_SECOND, START_NANO, toSecond, to.getNano()) <= 0
+                    && compare(record, END_SECOND, END_NANO, fromSecond, from.getNano()) >= 0) {
+                result.add(materialize(record, brandId, productId));
+            }
+        }
+        return result;
+    }
+
+    public List<Price> findProduct(long brandId, long productId) {
+        List<Price> result = new ArrayList<>();
+        int entry = findEntry(brandId, productId);
+        if (entry < 0) {
+            return result;
+        }
+        int end = first(entry) + count(entry);
+        for (int record = first(entry); record < end; record++) {
+            result.add(materialize(record, brandId, productId));
+        }
+        return result;
+    }
+
+    public List<Price> prices() {
+        List<Price> result = new ArrayList<>(recordCount);
+        for (int entry = 0; entry < keyCount; entry++) {
+            long brandId = brandId(entry);
+            long productId = productId(entry);
+            int end = first(entry) + count(entry);
+            for (int record = first(entry); record < end; record++) {
+                result.add(materialize(record, brandId, productId));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return every (brand, product) pair of the directory, without reading any record
+     */
+    public Set<PriceKey> keys() {
+        Set<PriceKey> keys = new HashSet<>(keyCount * 2);
+        for (int entry = 0; entry < keyCount; entry++) {
+            keys.add(PriceKey.of(BrandId.of(brandId(entry)), ProductId.of(productId(entry))));
+        }
+        return keys;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    public int keyCount() {
+        return keyCount;
+    }
+
+    public long fileBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @return the PRICES row count the snapshot was written from
+     */
+    public long sourceRows() {
+        return sourceRows;
+    }
+
+    /**
+     * @return the PRICES highest id the snapshot was written from
+     */
+    public long sourceMaxId() {
+        return sourceMaxId;
+    }
+
+    /**
+     * @return the PRICES content hash the snapshot was written from
+     */
+    public long sourceHash() {
+        return sourceHash;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    private boolean checksumMatches() {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(HEADER_SIZE));
+        return crc.getValue() == buffer.getLong(CHECKSUM_OFFSET);
+    }
+
+    private boolean applies(int record, long second, int nano) {
+        // Range is inclusive on both ends
+        return compare(record, START_SECOND, START_NANO, second, nano) <= 0
+                && compare(record, END_SECOND, END_NANO, second, nano) >= 0;
+    }
+
+    private int compare(int record, int secondField, int nanoField, long second, int nano) {
+        int order = Long.compare(longAt(record, secondField), second);
+        return order != 0 ? order : Integer.compare(intAt(record, nanoField), nano);
+    }
+
+    /**
+     * Binary search over the directory.
+     *
+     * @return the directory entry of the pair, or -1 when the pair has no prices
+     */
+    private int findEntry(long brandId, long productId) {
+        int lo = 0;
+        int hi = keyCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int order = Long.compare(brandId(mid), brandId);
+            if (order == 0) {
+                order = Long.compare(productId(mid), productId);
+            }
+            if (order < 0) {
+                lo = mid + 1;
+            } else if (order > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private long brandId(int entry) {
+        return buffer.getLong(directoryOffset + entry * DIRECTORY_ENTRY_SIZE);
+    }
+
+    private long productId(int entry) {
+        return buffer.getLong(directoryOffset + entry * DIRECTORY_ENTRY_SIZE + 8);
+    }
+
+    private int first(int entry) {
+        return buffer.getInt(directoryOffset + entry * DIRECTORY_ENTRY_SIZE + 16);
+    }
+
+    private int count(int entry) {
+        return buffer.getInt(directoryOffset + entry * DIRECTORY_ENTRY_SIZE + 20);
+    }
+
+    private long longAt(int record, int field) {
+        return buffer.getLong(HEADER_SIZE + record * RECORD_SIZE + field);
+    }
+
+    private int intAt(int record, int field) {
+        return buffer.getInt(HEADER_SIZE + record * RECORD_SIZE + field);
+    }
+
+    private Price materialize(int record, long brandId, long productId) {
+        return new Price(
+                PriceId.of(longAt(record, ID)),
+                BrandId.of(brandId),
+                ProductId.of(productId),
+                PriceRange.of(
+                        LocalDateTime.ofEpochSecond(longAt(record, START_SECOND), intAt(record, START_NANO), ZoneOffset.UTC),
+                        LocalDateTime.ofEpochSecond(longAt(record, END_SECOND), intAt(record, END_NANO), ZoneOffset.UTC)),
+                intAt(record, PRICE_LIST),
+                intAt(record, PRIORITY),
+                BigDecimal.valueOf(longAt(record, UNSCALED_PRICE), intAt(record, PRICE_SCALE)),
+                currencies[intAt(record, CURRENCY)]
+        );
+    }
+
+    private String[] readCurrencies(int offset, int count) {
+        String[] result = new String[count];
+        byte[] code = new byte[CURRENCY_SIZE];
+        for (int index = 0; index < count; index++) {
+            buffer.get(offset + index * CURRENCY_SIZE, code);
+            int length = 0;
+            while (length < CURRENCY_SIZE && code[length] != 0) {
+                length++;
+            }
+            result[index] = new String(code, 0, length, StandardCharsets.US_ASCII);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped;
+
+/**
+ * Layout of the binary price snapshot file. Every number is big-endian.
+ * <pre>
+ * header     72 bytes
+ *   0  long  magic "PRICESNP"
+ *   8  int   format version
+ *  12  int   record size
+ *  16  int   record count
+ *  20  int   (brand, product) key count
+ *  24  int   currency count
+ *  28  int   reserved
+ *  32  long  PRICES row count when written
+ *  40  long  PRICES highest id when written
+ *  48  long  creation time, epoch milliseconds
+ *  56  long  CRC32C of every byte after the header
+ *  64  long  PRICES content hash when written
+ * records    record count x 56 bytes, sorted by brand, product and id
+ *   0  long  id
+ *   8  long  start date, epoch second (UTC)
+ *  16  long  end date, epoch second (UTC)
+ *  24  int   start date, nanosecond
+ *  28  int   end date, nanosecond
+ *  32  int   price list
+ *  36  int   priority
+ *  40  long  price, unscaled value
+ *  48  int   price, scale
+ *  52  int   currency index
+ * directory  key count x 24 bytes, sorted by brand and product
+ *   0  long  brand id
+ *   8  long  product id
+ *  16  int   first record
+ *  20  int   record count
+ * currencies currency count x 8 bytes, US-ASCII code padded with zeros
+ * </pre>
+ */
+final class PriceSnapshotFile {
+
+    static final long MAGIC = 0x5052494345534E50L;
+    static final int FORMAT_VERSION = 2;
+
+    static final int HEADER_SIZE = 72;
+    static final int RECORD_SIZE = 56;
+    static final int DIRECTORY_ENTRY_SIZE = 24;
+    static final int CURRENCY_SIZE = 8;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 8;
+    static final int RECORD_SIZE_OFFSET = 12;
+    static final int RECORD_COUNT_OFFSET = 16;
+    static final int KEY_COUNT_OFFSET = 20;
+    static final int CURRENCY_COUNT_OFFSET = 24;
+    static final int SOURCE_ROWS_OFFSET = 32;
+    static final int SOURCE_MAX_ID_OFFSET = 40;
+    static final int CREATED_AT_OFFSET = 48;
+    static final int CHECKSUM_OFFSET = 56;
+    static final int SOURCE_HASH_OFFSET = 64;
+
+    static final int ID = 0;
+    static final int START_SECOND = 8;
+    static final int END_SECOND = 16;
+    static final int START_NANO = 24;
+    static final int END_NANO = 28;
+    static final int PRICE_LIST = 32;
+    static final int PRIORITY = 36;
+    static final int UNSCALED_PRICE = 40;
+    static final int PRICE_SCALE = 48;
+    static final int CURRENCY = 52;
+
+    private PriceSnapshotFile() {
+    }
+}
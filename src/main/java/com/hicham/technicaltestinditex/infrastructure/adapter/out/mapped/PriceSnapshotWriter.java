@@ -0,0 +1,213 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import static com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped.PriceSnapshotFile.*;
+
+/**
+ * Writes a price snapshot file from prices received in (brand, product, id) order.
+ * Records are streamed to a temporary file next to the target, which only replaces the target
+ * once complete, so a reader never maps a half-written snapshot. Only the directory and the
+ * currency table are kept in memory.
+ */
+public final class PriceSnapshotWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C checksum = new CRC32C();
+    private final Map<String, Integer> currencyIndexes = new HashMap<>();
+    private final List<String> currencies = new ArrayList<>();
+
+    private ByteBuffer directoryEntries = ByteBuffer.allocate(DIRECTORY_ENTRY_SIZE * 1024);
+    private int records;
+    private int keys;
+    private long brandId = Long.MIN_VALUE;
+    private long productId = Long.MIN_VALUE;
+    private long lastId = Long.MIN_VALUE;
+    private int keyFirstRecord;
+    private boolean finished;
+
+    private PriceSnapshotWriter(Path target) throws IOException {
+        this.target = target.toAbsolutePath();
+        Path directoryPath = this.target.getParent();
+        if (directoryPath != null) {
+            Files.createDirectories(directoryPath);
+        }
+        this.temporary = Files.createTempFile(directoryPath, this.target.getFileName().toString(), ".tmp");
+        this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(HEADER_SIZE);
+    }
+
+    /**
+     * Starts a snapshot that will replace the given file.
+     *
+     * @param target the snapshot file
+     * @return the writer
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static PriceSnapshotWriter create(Path target) throws IOException {
+        return new PriceSnapshotWriter(target);
+    }
+
+    /**
+     * Appends a price, which must follow the previous one in (brand, product, id) order.
+     *
+     * @param price the price
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if the price is out of order or cannot be encoded
+     */
+    public void add(Price price) throws IOException {
+        long brand = price.getBrandId().value();
+        long product = price.getProductId().value();
+        long id = price.getId().value();
+        int order = brand != brandId ? Long.compare(brand, brandId) : Long.compare(product, productId);
+        if (order < 0 || (order == 0 && id <= lastId)) {
+            throw new IllegalArgumentException("Prices must be added in (brand, product, id) order, got price " + id);
+        }
+        if (order > 0) {
+            closeKey();
+            brandId = brand;
+            productId = product;
+            keyFirstRecord = records;
+        }
+        lastId = id;
+
+        BigDecimal amount = price.getPrice();
+        if (amount.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException("Price " + id + " does not fit a 64-bit unscaled value");
+        }
+        if (buffer.remaining() < RECORD_SIZE) {
+            drain();
+        }
+        buffer.putLong(id)
+                .putLong(price.getPriceRange().startDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(price.getPriceRange().endDate().toEpochSecond(ZoneOffset.UTC))
+                .putInt(price.getPriceRange().startDate().getNano())
+                .putInt(price.getPriceRange().endDate().getNano())
+                .putInt(price.getPriceList())
+                .putInt(price.getPriority())
+                .putLong(amount.unscaledValue().longValueExact())
+                .putInt(amount.scale())
+                .putInt(currencyIndex(price.getCurrency()));
+        records++;
+    }
+
+    /**
+     * Writes the directory, currencies and header, then moves the file over the target.
+     *
+     * @param sourceRows  PRICES row count the snapshot was written from
+     * @param sourceMaxId PRICES highest id the snapshot was written from
+     * @param sourceHash  PRICES content hash the snapshot was written from
+     * @throws IOException if the file cannot be written or moved
+     */
+    public void finish(long sourceRows, long sourceMaxId, long sourceHash) throws IOException {
+        closeKey();
+        drain();
+
+        ByteBuffer entries = directoryEntries.flip();
+        checksum.update(entries.duplicate());
+        writeFully(entries);
+
+        ByteBuffer table = ByteBuffer.allocate(currencies.size() * CURRENCY_SIZE);
+        for (String currency : currencies) {
+            byte[] code = currency.getBytes(StandardCharsets.US_ASCII);
+            table.put(code).position(table.position() + CURRENCY_SIZE - code.length);
+        }
+        table.flip();
+        checksum.update(table.duplicate());
+        writeFully(table);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putLong(MAGIC_OFFSET, MAGIC)
+                .putInt(VERSION_OFFSET, FORMAT_VERSION)
+                .putInt(RECORD_SIZE_OFFSET, RECORD_SIZE)
+                .putInt(RECORD_COUNT_OFFSET, records)
+                .putInt(KEY_COUNT_OFFSET, keys)
+                .putInt(CURRENCY_COUNT_OFFSET, currencies.size())
+                .putLong(SOURCE_ROWS_OFFSET, sourceRows)
+                .putLong(SOURCE_MAX_ID_OFFSET, sourceMaxId)
+                .putLong(CREATED_AT_OFFSET, System.currentTimeMillis())
+                .putLong(CHECKSUM_OFFSET, checksum.getValue())
+                .putLong(SOURCE_HASH_OFFSET, sourceHash);
+        channel.position(0);
+        writeFully(header);
+        channel.force(true);
+        channel.close();
+
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+    }
+
+    /**
+     * Discards the temporary file unless the snapshot was finished.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void closeKey() {
+        if (records == keyFirstRecord) {
+            return;
+        }
+        if (directoryEntries.remaining() < DIRECTORY_ENTRY_SIZE) {
+            ByteBuffer larger = ByteBuffer.allocate(directoryEntries.capacity() * 2);
+            directoryEntries = larger.put(directoryEntries.flip());
+        }
+        directoryEntries.putLong(brandId)
+                .putLong(productId)
+                .putInt(keyFirstRecord)
+                .putInt(records - keyFirstRecord);
+        keys++;
+        keyFirstRecord = records;
+    }
+
+    private int currencyIndex(String currency) {
+        Integer index = currencyIndexes.get(currency);
+        if (index != null) {
+            return index;
+        }
+        if (currency.length() > CURRENCY_SIZE || !StandardCharsets.US_ASCII.newEncoder().canEncode(currency)) {
+            throw new IllegalArgumentException("Currency '" + currency + "' does not fit the snapshot format");
+        }
+        currencies.add(currency);
+        currencyIndexes.put(currency, currencies.size() - 1);
+        return currencies.size() - 1;
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The prices of one brand held by {@link BrandPartitionedPriceRepositoryAdapter}: a {@link PriceSnapshot}
+ * of the brand, or none while the partition is not loaded, with its own heap estimate and last access time.
+ * The snapshot is read without a lock; loading, rebuilding and unloading hold the lock of the partition,
+ * so they never block the partitions of other brands.
+ */
+public final class BrandPartition {
+
+    /**
+     * Heap of a price, its value objects and its slot in the interval index, measured with PriceFootprintBenchmark.
+     */
+    static final long PRICE_BYTES = 340;
+
+    /**
+     * Heap of a (brand, product) pair: the map entry, the key and the index arrays.
+     */
+    static final long PAIR_BYTES = 160;
+
+    final ReentrantLock lock = new ReentrantLock();
+
+    private final BrandId brandId;
+
+    private volatile PriceSnapshot snapshot;
+    private volatile long heapBytes;
+    private volatile long lastAccessNanos;
+
+    BrandPartition(BrandId brandId, long now) {
+        this.brandId = brandId;
+        this.lastAccessNanos = now;
+    }
+
+    public BrandId brandId() {
+        return brandId;
+    }
+
+    /**
+     * @return the snapshot of the brand, or {@code null} when the partition is not loaded
+     */
+    public PriceSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * @return the estimated heap of the loaded snapshot, 0 when not loaded
+     */
+    public long heapBytes() {
+        return heapBytes;
+    }
+
+    public long priceCount() {
+        PriceSnapshot current = snapshot;
+        return current == null ? 0 : current.priceCount();
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch(long now) {
+        lastAccessNanos = now;
+    }
+
+    /**
+     * Replaces the snapshot, to be called while holding the lock.
+     *
+     * @return the change of the heap estimate
+     */
+    long publish(PriceSnapshot next) {
+        long previous = heapBytes;
+        long bytes = next.priceCount() * PRICE_BYTES + next.size() * PAIR_BYTES;
+        snapshot = next;
+        heapBytes = bytes;
+        return bytes - previous;
+    }
+
+    /**
+     * Drops the snapshot, to be called while holding the lock.
+     * Lookups already holding it keep reading it.
+     *
+     * @return the change of the heap estimate
+     */
+    long unload() {
+        long previous = heapBytes;
+        snapshot = null;
+        heapBytes = 0;
+        return -previous;
+    }
+}
@@ -0,0 +1,398 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import com.hicham.technicaltestinditex.infrastructure.config.PricePartitionProperties;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of PriceRepositoryPort partitioned by brand.
+ * Each brand has its own {@link BrandPartition}: a {@link PriceSnapshot} of the brand's prices, loaded on
+ * the first lookup of the brand, rebuilt and published independently and accounted for separately, so a
+ * reload of a large brand only holds the lock of that brand while lookups of the others go on.
+ * Loaded partitions are unloaded, least recently used first, when their estimated heap exceeds
+ * {@code prices.partitioned.max-heap}, and once nobody looked them up for {@code prices.partitioned.idle-timeout};
+ * heap therefore follows the brands in use rather than the whole table. Changes reload only the changed
+ * pairs of loaded brands. Listing every price or pair reads the database, since most brands may not be loaded.
+ * Enabled with {@code prices.repository.adapter=partitioned}.
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.adapter", havingValue = "partitioned")
+@Qualifier("priceRepositoryAdapter")
+@Slf4j
+public class BrandPartitionedPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    private final PriceJpaRepository priceJpaRepository;
+    private final PriceEntityMapper priceEntityMapper;
+    private final MeterRegistry meterRegistry;
+    private final long maxHeapBytes;
+    private final long idleNanos;
+    private final Timer fullBuilds;
+    private final Timer incrementalBuilds;
+    private final Counter heapEvictions;
+    private final Counter idleEvictions;
+    private final Counter manualEvictions;
+
+    private final Map<Long, BrandPartition> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong heapBytes = new AtomicLong();
+    private final AtomicLong nextIdleSweep = new AtomicLong();
+    private final Set<Long> metered = ConcurrentHashMap.newKeySet();
+
+    public BrandPartitionedPriceRepositoryAdapter(PriceJpaRepository priceJpaRepository, PriceEntityMapper priceEntityMapper,
+                                                  PricePartitionProperties properties, MeterRegistry meterRegistry) {
+        this.priceJpaRepository = priceJpaRepository;
+        this.priceEntityMapper = priceEntityMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxHeapBytes = properties.maxHeap().toBytes();
+        this.idleNanos = properties.idleTimeout().toNanos();
+        this.fullBuilds = builds(meterRegistry, "full");
+        this.incrementalBuilds = builds(meterRegistry, "incremental");
+        this.heapEvictions = evictions(meterRegistry, "heap");
+        this.idleEvictions = evictions(meterRegistry, "idle");
+        this.manualEvictions = evictions(meterRegistry, "manual");
+        this.nextIdleSweep.set(System.nanoTime() + idleNanos);
+    }
+
+    /**
+     * @return the partition of every brand with prices looked up so far, loaded or not
+     */
+    public Collection<BrandPartition> partitions() {
+        return Collections.unmodifiableCollection(partitions.values());
+    }
+
+    /**
+     * @return the estimated heap of every loaded partition
+     */
+    public long heapBytes() {
+        return heapBytes.get();
+    }
+
+    /**
+     * Loads every price of the brand from the database and publishes it as the next snapshot of its
+     * partition. Lookups of the brand keep reading the current snapshot meanwhile, if it is loaded.
+     *
+     * @param brandId the brand to reload
+     */
+    public void reload(BrandId brandId) {
+        BrandPartition partition = partition(brandId, System.nanoTime());
+        partition.lock.lock();
+        try {
+            load(partition);
+        } finally {
+            partition.lock.unlock();
+        }
+        evictOverBudget(partition);
+    }
+
+    /**
+     * Unloads the partition of the brand; its next lookup loads it again.
+     *
+     * @param brandId the brand to unload
+     */
+    public void evict(BrandId brandId) {
+        BrandPartition partition = partitions.get(brandId.value());
+        if (partition == null) {
+            return;
+        }
+        partition.lock.lock();
+        try {
+            unload(partition, manualEvictions);
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    /**
+     * Unloads every partition not looked up for {@code prices.partitioned.idle-timeout}.
+     * Runs on lookups at most twice per timeout; partitions being loaded or rebuilt are skipped.
+     */
+    public void evictIdle() {
+        if (idleNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        nextIdleSweep.set(now + idleNanos / 2);
+        for (BrandPartition partition : partitions.values()) {
+            if (partition.isLoaded() && now - partition.lastAccessNanos() >= idleNanos && partition.lock.tryLock()) {
+                try {
+                    if (now - partition.lastAccessNanos() >= idleNanos) {
+                        unload(partition, idleEvictions);
+                    }
+                } finally {
+                    partition.lock.unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        PriceIntervalIndex index = snapshot(brandId).index(PriceKey.of(brandId, productId));
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return index.findApplicable(applicationDate);
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        PriceIntervalIndex index = snapshot(brandId).index(PriceKey.of(brandId, productId));
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return index.prices();
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        Map<BrandId, PriceSnapshot> snapshots = new HashMap<>();
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        for (PriceKey key : keys) {
+            PriceIntervalIndex index = snapshots.computeIfAbsent(key.brandId(), this::snapshot).index(key);
+            if (index == null) {
+                continue;
+            }
+            List<Price> overlapping = index.prices().stream()
+                    .filter(price -> !price.getPriceRange().startDate().isAfter(to)
+                            && !price.getPriceRange().endDate().isBefore(from))
+                    .collect(Collectors.toList());
+            if (!overlapping.isEmpty()) {
+                result.put(key, overlapping);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return priceJpaRepository.findAll().stream()
+                .map(priceEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        return priceJpaRepository.findAllKeys().stream()
+                .map(row -> PriceKey.of(BrandId.of(row.brandId()), ProductId.of(row.productId())))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Reloads the changed pairs of the loaded brands, before any read model derived from this adapter.
+     * Brands that are not loaded read the change when they are. Each brand is rebuilt under its own lock.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        Map<BrandId, Set<PriceKey>> keysByBrand = new HashMap<>();
+        for (PriceKey key : event.keys()) {
+            keysByBrand.computeIfAbsent(key.brandId(), brand -> new HashSet<>()).add(key);
+        }
+        keysByBrand.forEach((brandId, keys) -> {
+            BrandPartition partition = partitions.get(brandId.value());
+            if (partition == null) {
+                return;
+            }
+            partition.lock.lock();
+            try {
+                if (partition.isLoaded()) {
+                    reload(partition, keys);
+                }
+            } finally {
+                partition.lock.unlock();
+            }
+            evictOverBudget(partition);
+        });
+    }
+
+    /**
+     * @return the snapshot of the brand, loading its partition on first use
+     */
+    private PriceSnapshot snapshot(BrandId brandId) {
+        long now = System.nanoTime();
+        if (idleNanos > 0 && now - nextIdleSweep.get() >= 0) {
+            evictIdle();
+        }
+        BrandPartition partition = partition(brandId, now);
+        partition.touch(now);
+        PriceSnapshot current = partition.snapshot();
+        if (current != null) {
+            return current;
+        }
+        partition.lock.lock();
+        try {
+            current = partition.snapshot();
+            if (current == null) {
+                current = load(partition);
+            }
+        } finally {
+            partition.lock.unlock();
+        }
+        evictOverBudget(partition);
+        return current;
+    }
+
+    private BrandPartition partition(BrandId brandId, long now) {
+        BrandPartition partition = partitions.get(brandId.value());
+        if (partition != null) {
+            return partition;
+        }
+        return partitions.computeIfAbsent(brandId.value(), id -> new BrandPartition(brandId, now));
+    }
+
+    private void registerMeters(BrandId brandId) {
+        Long id = brandId.value();
+        String brand = String.valueOf(id);
+        Gauge.builder(PriceMetricNames.PARTITION_PRICES, partitions, map -> partitionValue(map.get(id), BrandPartition::priceCount))
+                .description("Prices held by the brand partition, 0 while not loaded")
+                .tag("brand", brand)
+                .register(meterRegistry);
+        Gauge.builder(PriceMetricNames.PARTITION_BYTES, partitions, map -> partitionValue(map.get(id), BrandPartition::heapBytes))
+                .description("Estimated heap held by the brand partition, 0 while not loaded")
+                .baseUnit("bytes")
+                .tag("brand", brand)
+                .register(meterRegistry);
+    }
+
+    private static double partitionValue(BrandPartition partition, ToLongFunction<BrandPartition> value) {
+        return partition == null ? 0 : value.applyAsLong(partition);
+    }
+
+    /**
+     * Loads every price of the partition's brand, to be called while holding its lock.
+     */
+    private PriceSnapshot load(BrandPartition partition) {
+        long start = System.nanoTime();
+        PriceSnapshot previous = partition.snapshot();
+        PriceSnapshot next = (previous == null ? PriceSnapshot.empty() : previous)
+                .replaceAll(priceJpaRepository.findByBrandId(partition.brandId().value()).stream()
+                        .map(priceEntityMapper::toDomain)
+                        .toList());
+        fullBuilds.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (next.size() == 0) {
+            // Brands without prices are not kept, so lookups of unknown brands cannot fill the map
+            heapBytes.addAndGet(partition.unload());
+            partitions.remove(partition.brandId().value(), partition);
+            return next;
+        }
+        heapBytes.addAndGet(partition.publish(next));
+        if (metered.add(partition.brandId().value())) {
+            registerMeters(partition.brandId());
+        }
+
+        log.info("Loaded {} price sets of brand {} into memory, about {} KiB",
+                next.size(), partition.brandId().value(), partition.heapBytes() / 1024);
+        return next;
+    }
+
+    /**
+     * Reloads the given pairs of a loaded partition, to be called while holding its lock.
+     */
+    private void reload(BrandPartition partition, Set<PriceKey> keys) {
+        if (keys.size() > InMemoryPriceRepositoryAdapter.MAX_INCREMENTAL_KEYS) {
+            load(partition);
+            return;
+        }
+        long start = System.nanoTime();
+        Map<PriceKey, List<Price>> changes = new LinkedHashMap<>();
+        for (PriceKey key : keys) {
+            changes.put(key, priceJpaRepository.findByBrandIdAndProductId(
+                            key.brandId().value(), key.productId().value()).stream()
+                    .map(priceEntityMapper::toDomain)
+                    .toList());
+        }
+        PriceSnapshot next = partition.snapshot().withChanges(changes);
+        heapBytes.addAndGet(partition.publish(next));
+        incrementalBuilds.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        log.debug("Reloaded {} price sets of brand {}, partition version {}",
+                keys.size(), partition.brandId().value(), next.version());
+    }
+
+    /**
+     * Unloads the least recently used partitions other than the given one until the loaded ones fit in
+     * {@code prices.partitioned.max-heap}. Partitions being loaded or rebuilt are skipped, and a single
+     * partition larger than the budget stays loaded.
+     */
+    private void evictOverBudget(BrandPartition keep) {
+        if (heapBytes.get() <= maxHeapBytes) {
+            return;
+        }
+        List<BrandPartition> candidates = partitions.values().stream()
+                .filter(partition -> partition != keep && partition.isLoaded())
+                .sorted(Comparator.comparingLong(BrandPartition::lastAccessNanos))
+                .toList();
+        for (BrandPartition partition : candidates) {
+            if (heapBytes.get() <= maxHeapBytes) {
+                return;
+            }
+            if (partition.lock.tryLock()) {
+                try {
+                    unload(partition, heapEvictions);
+                } finally {
+                    partition.lock.unlock();
+                }
+            }
+        }
+        if (heapBytes.get() > maxHeapBytes) {
+            log.warn("Loaded brand partitions take about {} KiB, above prices.partitioned.max-heap ({} KiB)",
+                    heapBytes.get() / 1024, maxHeapBytes / 1024);
+        }
+    }
+
+    private void unload(BrandPartition partition, Counter reason) {
+        if (!partition.isLoaded()) {
+            return;
+        }
+        heapBytes.addAndGet(partition.unload());
+        reason.increment();
+        log.info("Unloaded the prices of brand {}", partition.brandId().value());
+    }
+
+    private static Timer builds(MeterRegistry meterRegistry, String kind) {
+        return Timer.builder(PriceMetricNames.PARTITION_BUILD)
+                .description("Time to load and publish the next snapshot of a brand partition")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(PriceMetricNames.PARTITION_EVICTIONS)
+                .description("Brand partitions unloaded, by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,184 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of PriceRepositoryPort.
+ * Lookups read the current {@link PriceSnapshot}, an immutable per-(brand, product) interval index of
+ * the PRICES table, so they are answered without touching the database or taking a lock.
+ * Changes build the next snapshot version aside, reloading only the changed pairs, and publish it
+ * with a single reference swap: a reader sees either the previous version or the next one, never a mix.
+ * Enabled with {@code prices.repository.adapter=memory}.
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.adapter", havingValue = "memory")
+@Qualifier("priceRepositoryAdapter")
+@Slf4j
+public class InMemoryPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Above this many changed pairs, one full scan is cheaper than a query per pair.
+     */
+    static final int MAX_INCREMENTAL_KEYS = 1_000;
+
+    private final PriceJpaRepository priceJpaRepository;
+    private final PriceEntityMapper priceEntityMapper;
+    private final Timer fullBuilds;
+    private final Timer incrementalBuilds;
+
+    private volatile PriceSnapshot snapshot = PriceSnapshot.empty();
+
+    public InMemoryPriceRepositoryAdapter(PriceJpaRepository priceJpaRepository, PriceEntityMapper priceEntityMapper,
+                                          MeterRegistry meterRegistry) {
+        this.priceJpaRepository = priceJpaRepository;
+        this.priceEntityMapper = priceEntityMapper;
+        this.fullBuilds = builds(meterRegistry, "full");
+        this.incrementalBuilds = builds(meterRegistry, "incremental");
+        Gauge.builder(PriceMetricNames.SNAPSHOT_VERSION, this, adapter -> adapter.snapshot.version())
+                .description("Version of the price snapshot serving lookups")
+                .register(meterRegistry);
+        Gauge.builder(PriceMetricNames.SNAPSHOT_PRICES, this, adapter -> adapter.snapshot.priceCount())
+                .description("Prices held by the current price snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every price from the database and publishes it as the next snapshot.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        PriceSnapshot next = snapshot.replaceAll(priceJpaRepository.findAll().stream()
+                .map(priceEntityMapper::toDomain)
+                .toList());
+        snapshot = next;
+        fullBuilds.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        log.info("Loaded {} price sets into memory, snapshot version {}", next.size(), next.version());
+    }
+
+    /**
+     * Reloads the prices of the given pairs and publishes them as the next snapshot,
+     * sharing the indexes of every other pair with the current one.
+     *
+     * @param keys the (brand, product) pairs whose prices changed
+     */
+    public synchronized void reload(Set<PriceKey> keys) {
+        if (keys.size() > MAX_INCREMENTAL_KEYS) {
+            reload();
+            return;
+        }
+        long start = System.nanoTime();
+        Map<PriceKey, List<Price>> changes = new LinkedHashMap<>();
+        for (PriceKey key : keys) {
+            changes.put(key, priceJpaRepository.findByBrandIdAndProductId(
+                            key.brandId().value(), key.productId().value()).stream()
+                    .map(priceEntityMapper::toDomain)
+                    .toList());
+        }
+        PriceSnapshot next = snapshot.withChanges(changes);
+        snapshot = next;
+        incrementalBuilds.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        log.debug("Reloaded {} price sets, snapshot version {}", keys.size(), next.version());
+    }
+
+    /**
+     * @return the snapshot currently serving lookups
+     */
+    public PriceSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        PriceIntervalIndex index = snapshot.index(PriceKey.of(brandId, productId));
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return index.findApplicable(applicationDate);
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        PriceIntervalIndex index = snapshot.index(PriceKey.of(brandId, productId));
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return index.prices();
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        PriceSnapshot current = snapshot;
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        for (PriceKey key : keys) {
+            PriceIntervalIndex index = current.index(key);
+            if (index == null) {
+                continue;
+            }
+            List<Price> overlapping = index.prices().stream()
+                    .filter(price -> !price.getPriceRange().startDate().isAfter(to)
+                            && !price.getPriceRange().endDate().isBefore(from))
+                    .collect(Collectors.toList());
+            if (!overlapping.isEmpty()) {
+                result.put(key, overlapping);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return snapshot.indexes().stream()
+                .flatMap(index -> index.prices().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Publishes a snapshot with the changed pairs when stored prices change, before any read model derived from it.
+     * The next version is built on the publishing thread; lookups keep reading the current one meanwhile.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        reload(event.keys());
+    }
+
+    private static Timer builds(MeterRegistry meterRegistry, String kind) {
+        return Timer.builder(PriceMetricNames.SNAPSHOT_BUILD)
+                .description("Time to load and publish the next price snapshot")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,96 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable interval index over the prices of a single (brand, product) pair.
+ * Prices are sorted by start date and laid out as an implicit balanced binary tree
+ * where every node keeps the maximum end date of its subtree, so a stabbing query
+ * runs in O(log n + k) for k matching prices.
+ */
+public final class PriceIntervalIndex {
+
+    private final Price[] prices;
+    private final LocalDateTime[] maxEnd;
+
+    private PriceIntervalIndex(Price[] prices) {
+        this.prices = prices;
+        this.maxEnd = new LocalDateTime[prices.length];
+        computeMaxEnd(0, prices.length - 1);
+    }
+
+    /**
+     * Builds an index for the given prices.
+     *
+     * @param prices the prices of a single (brand, product) pair
+     * @return the interval index
+     */
+    public static PriceIntervalIndex of(Collection<Price> prices) {
+        Price[] sorted = prices.toArray(new Price[0]);
+        Arrays.sort(sorted, Comparator.comparing(price -> price.getPriceRange().startDate()));
+        return new PriceIntervalIndex(sorted);
+    }
+
+    /**
+     * Finds all prices whose validity range contains the given date.
+     *
+     * @param applicationDate the date to check
+     * @return list of applicable prices, ordered by start date
+     */
+    public List<Price> findApplicable(LocalDateTime applicationDate) {
+        List<Price> result = new ArrayList<>(2);
+        if (applicationDate != null) {
+            collect(0, prices.length - 1, applicationDate, result);
+        }
+        return result;
+    }
+
+    public List<Price> prices() {
+        return List.of(prices);
+    }
+
+    public int size() {
+        return prices.length;
+    }
+
+    private LocalDateTime computeMaxEnd(int lo, int hi) {
+        if (lo > hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = prices[mid].getPriceRange().endDate();
+        LocalDateTime left = computeMaxEnd(lo, mid - 1);
+        LocalDateTime right = computeMaxEnd(mid + 1, hi);
+        if (left != null && left.isAfter(max)) max = left;
+        if (right != null && right.isAfter(max)) max = right;
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, LocalDateTime date, List<Price> result) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // Every interval in this subtree ends before the date
+        if (maxEnd[mid].isBefore(date)) {
+            return;
+        }
+        collect(lo, mid - 1, date, result);
+        // Nodes to the right start at or after this one, so none can contain the date
+        if (prices[mid].getPriceRange().startDate().isAfter(date)) {
+            return;
+        }
+        if (prices[mid].isApplicableFor(date)) {
+            result.add(prices[mid]);
+        }
+        collect(mid + 1, hi, date, result);
+    }
+}
@@ -0,0 +1,108 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of every stored price, indexed per (brand, product) pair.
+ * A snapshot is never modified: changes produce the next version, which shares the
+ * indexes of the untouched pairs with this one.
+ */
+public final class PriceSnapshot {
+
+    private static final PriceSnapshot EMPTY = new PriceSnapshot(0, Instant.EPOCH, Map.of(), 0);
+
+    private final long version;
+    private final Instant createdAt;
+    private final Map<PriceKey, PriceIntervalIndex> indexes;
+    private final long priceCount;
+
+    private PriceSnapshot(long version, Instant createdAt, Map<PriceKey, PriceIntervalIndex> indexes, long priceCount) {
+        this.version = version;
+        this.createdAt = createdAt;
+        this.indexes = indexes;
+        this.priceCount = priceCount;
+    }
+
+    /**
+     * @return the snapshot without prices, at version 0
+     */
+    public static PriceSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the next version holding exactly the given prices.
+     *
+     * @param prices every stored price
+     * @return the next snapshot
+     */
+    public PriceSnapshot replaceAll(Collection<Price> prices) {
+        Map<PriceKey, List<Price>> pricesByKey = new HashMap<>();
+        for (Price price : prices) {
+            pricesByKey.computeIfAbsent(PriceKey.of(price.getBrandId(), price.getProductId()), key -> new ArrayList<>())
+                    .add(price);
+        }
+        Map<PriceKey, PriceIntervalIndex> next = new HashMap<>(pricesByKey.size());
+        pricesByKey.forEach((key, keyPrices) -> next.put(key, PriceIntervalIndex.of(keyPrices)));
+        return new PriceSnapshot(version + 1, Instant.now(), Collections.unmodifiableMap(next), prices.size());
+    }
+
+    /**
+     * Builds the next version where the prices of the given pairs are replaced.
+     * Pairs mapped to an empty list are removed; every other pair keeps its index.
+     *
+     * @param changes the current prices of every changed pair
+     * @return the next snapshot
+     */
+    public PriceSnapshot withChanges(Map<PriceKey, List<Price>> changes) {
+        Map<PriceKey, PriceIntervalIndex> next = new HashMap<>(indexes);
+        long count = priceCount;
+        for (Map.Entry<PriceKey, List<Price>> change : changes.entrySet()) {
+            PriceIntervalIndex previous = change.getValue().isEmpty()
+                    ? next.remove(change.getKey())
+                    : next.put(change.getKey(), PriceIntervalIndex.of(change.getValue()));
+            count += change.getValue().size() - (previous == null ? 0 : previous.size());
+        }
+        return new PriceSnapshot(version + 1, Instant.now(), Collections.unmodifiableMap(next), count);
+    }
+
+    /**
+     * @param key the (brand, product) pair
+     * @return the index of the pair, or {@code null} when it has no prices
+     */
+    public PriceIntervalIndex index(PriceKey key) {
+        return indexes.get(key);
+    }
+
+    public Collection<PriceIntervalIndex> indexes() {
+        return indexes.values();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return the number of (brand, product) pairs with prices
+     */
+    public int size() {
+        return indexes.size();
+    }
+
+    public long priceCount() {
+        return priceCount;
+    }
+}
@@ -2,26 +2,40 @@ package com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence;
 
 import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
 import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
 import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
 import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
 import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.entity.PriceEntity;
 import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
 import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Adapter implementation of PriceRepositoryPort for persistence operations.
  * This adapter bridges the domain layer with the infrastructure persistence layer.
+ * Default adapter, selected with {@code prices.repository.adapter=jpa}.
  */
 @Component
+@ConditionalOnProperty(name = "prices.repository.adapter", havingValue = "jpa", matchIfMissing = true)
+@Qualifier("priceRepositoryAdapter")
 @RequiredArgsConstructor
 public class PricePersistenceAdapter implements PriceRepositoryPort {
 
+    private static final Pageable TOP_ONE = PageRequest.of(0, 1);
+
     private final PriceJpaRepository priceJpaRepository;
     private final PriceEntityMapper priceEntityMapper;
 
@@ -39,5 +53,50 @@ public class PricePersistenceAdapter implements PriceRepositoryPort {
                 .map(priceEntityMapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return priceJpaRepository
+                .findApplicableOrderedByPriority(brandId.value(), productId.value(), applicationDate, TOP_ONE)
+                .stream()
+                .findFirst()
+                .map(priceEntityMapper::toDomain);
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return priceJpaRepository.findByBrandIdAndProductId(brandId.value(), productId.value()).stream()
+                .map(priceEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> brandIds = keys.stream().map(key -> key.brandId().value()).collect(Collectors.toSet());
+        Set<Long> productIds = keys.stream().map(key -> key.productId().value()).collect(Collectors.toSet());
+        Set<PriceKey> requested = Set.copyOf(keys);
+
+        return priceJpaRepository.findOverlapping(brandIds, productIds, from, to).stream()
+                .map(priceEntityMapper::toDomain)
+                .filter(price -> requested.contains(PriceKey.of(price.getBrandId(), price.getProductId())))
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getBrandId(), price.getProductId())));
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return priceJpaRepository.findAll().stream()
+                .map(priceEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        return priceJpaRepository.findAllKeys().stream()
+                .map(row -> PriceKey.of(BrandId.of(row.brandId()), ProductId.of(row.productId())))
+                .collect(Collectors.toSet());
+    }
 }
 
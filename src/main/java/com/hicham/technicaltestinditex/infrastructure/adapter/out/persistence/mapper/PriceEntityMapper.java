@@ -3,6 +3,7 @@ package com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.m
 import com.hicham.technicaltestinditex.domain.entity.Price;
 import com.hicham.technicaltestinditex.domain.valueObject.*;
 import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.projection.PriceRow;
 import org.mapstruct.*;
 
 /**
@@ -28,6 +29,19 @@ public interface PriceEntityMapper {
 
     Price toDomain(PriceEntity entity);
 
+    default Price toDomain(PriceRow row) {
+        return new Price(
+                PriceId.of(row.id()),
+                BrandId.of(row.brandId()),
+                ProductId.of(row.productId()),
+                PriceRange.of(row.startDate(), row.endDate()),
+                row.priceList(),
+                row.priority(),
+                row.price(),
+                row.currency()
+        );
+    }
+
     /**
      * Converts a Price domain model to a PriceEntity.
      * MapStruct autogenerates most mappings, using helper methods for Value Objects.
@@ -0,0 +1,6 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.projection;
+
+/**
+ * Read-only projection of the (BRAND_ID, PRODUCT_ID) pair of a PRICES row.
+ */
+public record PriceKeyRow(Long brandId, Long productId) {}
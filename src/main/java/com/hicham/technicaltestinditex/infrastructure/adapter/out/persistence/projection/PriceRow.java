@@ -0,0 +1,20 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a PRICES row.
+ * Built by JPQL constructor expressions, so it is never managed by the persistence context.
+ */
+public record PriceRow(
+        Long id,
+        Long brandId,
+        Long productId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priceList,
+        Integer priority,
+        BigDecimal price,
+        String currency
+) {}
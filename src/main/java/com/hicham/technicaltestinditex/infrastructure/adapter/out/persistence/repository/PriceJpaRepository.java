@@ -1,10 +1,16 @@
 package com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.repository;
 
 import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.projection.PriceKeyRow;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.projection.PriceRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,5 +34,75 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
             LocalDateTime applicationDate,
             LocalDateTime applicationDate2
     );
+
+    /**
+     * Finds the applicable prices for a given brand and product ordered by descending priority,
+     * read straight into an unmanaged projection. Callers pass a one-row page to fetch only the winner.
+     *
+     * @param brandId         the brand identifier
+     * @param productId       the product identifier
+     * @param applicationDate the date to check
+     * @param page            the page to fetch, usually the first row only
+     * @return list of applicable price rows, highest priority first
+     */
+    @Query("SELECT new com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.projection.PriceRow(" +
+            "p.id, p.brandId, p.productId, p.startDate, p.endDate, p.priceList, p.priority, p.price, p.currency) " +
+            "FROM PriceEntity p " +
+            "WHERE p.brandId = :brandId AND p.productId = :productId " +
+            "AND p.startDate <= :applicationDate AND p.endDate >= :applicationDate " +
+            "ORDER BY p.priority DESC, p.id ASC")
+    List<PriceRow> findApplicableOrderedByPriority(
+            @Param("brandId") Long brandId,
+            @Param("productId") Long productId,
+            @Param("applicationDate") LocalDateTime applicationDate,
+            Pageable page
+    );
+
+    /**
+     * Finds all prices for a given brand and product, regardless of their validity range.
+     *
+     * @param brandId   the brand identifier
+     * @param productId the product identifier
+     * @return list of price entities
+     */
+    List<PriceEntity> findByBrandIdAndProductId(Long brandId, Long productId);
+
+    /**
+     * Finds all prices of a brand, regardless of their product and validity range.
+     *
+     * @param brandId the brand identifier
+     * @return list of price entities
+     */
+    List<PriceEntity> findByBrandId(Long brandId);
+
+    /**
+     * Finds in a single query the prices of the given brands and products whose validity
+     * range overlaps the given window. The result may include (brand, product) combinations
+     * that were not requested, callers filter them out.
+     *
+     * @param brandIds   the brand identifiers
+     * @param productIds the product identifiers
+     * @param from       the start of the window (inclusive)
+     * @param to         the end of the window (inclusive)
+     * @return list of price entities
+     */
+    @Query("SELECT p FROM PriceEntity p " +
+            "WHERE p.brandId IN :brandIds AND p.productId IN :productIds " +
+            "AND p.startDate <= :to AND p.endDate >= :from")
+    List<PriceEntity> findOverlapping(
+            @Param("brandIds") Collection<Long> brandIds,
+            @Param("productIds") Collection<Long> productIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Finds every distinct (brand, product) pair having at least one price.
+     *
+     * @return list of pairs
+     */
+    @Query("SELECT DISTINCT new com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.projection.PriceKeyRow(" +
+            "p.brandId, p.productId) FROM PriceEntity p")
+    List<PriceKeyRow> findAllKeys();
 }
 
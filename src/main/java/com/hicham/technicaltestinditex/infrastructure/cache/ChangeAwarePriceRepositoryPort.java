@@ -0,0 +1,27 @@
+package com.hicham.technicaltestinditex.infrastructure.cache;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+
+/**
+ * Decorator of PriceRepositoryPort keeping state that depends on the stored prices.
+ * Decorators are chained inside the {@code priceRepositoryPort} bean method, so only the outermost one is a
+ * bean and has its {@code @EventListener} registered. Each of them therefore passes PricesChangedEvent down
+ * to its delegate first, through {@link #forward}, and then reacts to it: the innermost state is updated first.
+ */
+public interface ChangeAwarePriceRepositoryPort extends PriceRepositoryPort {
+
+    /**
+     * Forwards the event to the delegate, then updates the state of this decorator.
+     */
+    void onPricesChanged(PricesChangedEvent event);
+
+    /**
+     * Passes the event to the delegate when it is a decorator keeping state itself.
+     */
+    static void forward(PriceRepositoryPort delegate, PricesChangedEvent event) {
+        if (delegate instanceof ChangeAwarePriceRepositoryPort changeAware) {
+            changeAware.onPricesChanged(event);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.hicham.technicaltestinditex.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.memory.PriceIntervalIndex;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decorator of PriceRepositoryPort keeping the complete price set of the most used (brand, product) pairs.
+ * The first lookup of a pair loads all of its prices from the delegate into a {@link PriceIntervalIndex};
+ * later lookups of the pair, for any date, are answered from it. Pairs without prices are kept too, so
+ * repeated lookups of unknown products stay local. The cache is bounded by the total number of price rows
+ * held (W-TinyLFU eviction, a pair without prices weighs one row), which caps its heap whatever the size of
+ * the table, and entries of changed pairs are dropped on PricesChangedEvent.
+ * Window queries only use the pairs already loaded and send the others to the delegate as one query;
+ * listing every price or pair always goes to the delegate.
+ */
+public class ProductLoadingPriceRepositoryPort implements ChangeAwarePriceRepositoryPort {
+
+    private final PriceRepositoryPort delegate;
+    private final Cache<PriceKey, PriceIntervalIndex> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductLoadingPriceRepositoryPort(PriceRepositoryPort delegate, long maximumRows, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumRows)
+                .weigher((PriceKey key, PriceIntervalIndex index) -> Math.max(1, index.size()))
+                // Evicts on the loading thread, so the row bound holds as soon as a load returns
+                .executor(Runnable::run)
+                .build();
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        Gauge.builder(PriceMetricNames.PRODUCT_CACHE_ROWS, cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Price rows held by the per-product price cache")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(PriceMetricNames.PRODUCT_CACHE)
+                .description("Per-product price cache lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return index(PriceKey.of(brandId, productId)).findApplicable(applicationDate);
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return index(PriceKey.of(brandId, productId)).prices();
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        Map<PriceKey, List<Price>> result = new HashMap<>();
+        List<PriceKey> missing = new ArrayList<>();
+        for (PriceKey key : keys) {
+            PriceIntervalIndex index = cache.getIfPresent(key);
+            if (index == null) {
+                missing.add(key);
+                continue;
+            }
+            hits.increment();
+            List<Price> overlapping = index.prices().stream()
+                    .filter(price -> !price.getPriceRange().startDate().isAfter(to)
+                            && !price.getPriceRange().endDate().isBefore(from))
+                    .collect(Collectors.toList());
+            if (!overlapping.isEmpty()) {
+                result.put(key, overlapping);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Only the window is read, so the pairs are not loaded
+            misses.increment(missing.size());
+            result.putAll(delegate.findPrices(missing, from, to));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return delegate.findAllPrices();
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        return delegate.findAllKeys();
+    }
+
+    /**
+     * Drops the changed pairs right after the adapters published them, so a reload cannot read the previous
+     * snapshot of an in-memory adapter, and before any read model derived from this port reloads them.
+     * A load of the pair in progress completes first, so its result is dropped as well.
+     */
+    @Override
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onPricesChanged(PricesChangedEvent event) {
+        ChangeAwarePriceRepositoryPort.forward(delegate, event);
+        cache.invalidateAll(event.keys());
+    }
+
+    /**
+     * @return the number of (brand, product) pairs held
+     */
+    public long cachedProducts() {
+        return cache.estimatedSize();
+    }
+
+    private PriceIntervalIndex index(PriceKey key) {
+        PriceIntervalIndex cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return cache.get(key, missing -> PriceIntervalIndex.of(
+                delegate.findPrices(missing.productId(), missing.brandId())));
+    }
+}
@@ -0,0 +1,269 @@
+package com.hicham.technicaltestinditex.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceSegmentLookup;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceGap;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceSegment;
+import com.hicham.technicaltestinditex.domain.valueObject.TimeWindow;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caching decorator for GetPriceUseCase.
+ * Entries are keyed by (brand, product) and hold the winning-price segments already resolved
+ * for that pair, so any application date falling inside a cached segment is a hit regardless
+ * of its exact value. The cache is bounded by the total number of segments (W-TinyLFU eviction)
+ * and every product entry expires a fixed time after it was first loaded.
+ * <p>
+ * Misses are cached the same way in a separate, smaller cache: the gaps without any price are kept
+ * per (brand, product), so repeated queries for unknown products or uncovered dates never reach
+ * the delegate either.
+ * <p>
+ * A load that raced with an invalidation of its product is returned but not cached: every invalidation
+ * bumps the generation of the product's stripe, and a load only merges its windows if the generation it
+ * started under is still current. Lookup outcomes are published as {@code prices.segment.cache} counters,
+ * bound by Spring Boot as for any MeterBinder bean.
+ */
+public class SegmentCachingPriceUseCase implements GetPriceUseCase, MeterBinder {
+
+    // Power of two; products sharing a stripe only skip caching a load that raced with each other's invalidation
+    private static final int GENERATION_STRIPES = 256;
+
+    private final GetPriceUseCase delegate;
+    private final Cache<PriceKey, CachedWindows<PriceSegment>> cache;
+    private final Cache<PriceKey, CachedWindows<PriceGap>> negativeCache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public SegmentCachingPriceUseCase(GetPriceUseCase delegate, long maximumSegments, Duration ttl) {
+        this(delegate, maximumSegments, ttl, 0, Duration.ZERO);
+    }
+
+    /**
+     * @param maximumGaps maximum number of cached gaps across all products, 0 disables the negative cache
+     * @param negativeTtl time a product's gaps stay cached after they are first loaded
+     */
+    public SegmentCachingPriceUseCase(GetPriceUseCase delegate, long maximumSegments, Duration ttl,
+                                      long maximumGaps, Duration negativeTtl) {
+        this.delegate = delegate;
+        this.cache = newCache(maximumSegments, ttl);
+        this.negativeCache = maximumGaps > 0 ? newCache(maximumGaps, negativeTtl) : null;
+    }
+
+    private static <T extends TimeWindow> Cache<PriceKey, CachedWindows<T>> newCache(long maximumWindows, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumWindows)
+                .weigher((PriceKey key, CachedWindows<T> value) -> value.windows().size())
+                .expireAfter(new FixedTtlExpiry<CachedWindows<T>>(ttl.toNanos()))
+                .build();
+    }
+
+    @Override
+    public Optional<Price> findPrice(GetPriceQuery request) {
+        return lookupSegment(request).findSegment().map(PriceSegment::price);
+    }
+
+    @Override
+    public PriceSegmentLookup lookupSegment(GetPriceQuery request) {
+        PriceKey key = PriceKey.of(request.brandId(), request.productId());
+
+        CachedWindows<PriceSegment> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            PriceSegment segment = cached.find(request.at());
+            if (segment != null) {
+                hits.increment();
+                return PriceSegmentLookup.found(segment);
+            }
+        }
+        if (negativeCache != null) {
+            CachedWindows<PriceGap> cachedGaps = negativeCache.getIfPresent(key);
+            if (cachedGaps != null) {
+                PriceGap gap = cachedGaps.find(request.at());
+                if (gap != null) {
+                    negativeHits.increment();
+                    return PriceSegmentLookup.missing(gap);
+                }
+            }
+        }
+
+        misses.increment();
+        int stripe = stripe(key);
+        long generation = generations.get(stripe);
+        PriceSegmentLookup loaded = delegate.lookupSegment(request);
+        if (loaded.isFound()) {
+            mergeIfCurrent(cache, key, CachedWindows.of(loaded.segment()), stripe, generation);
+        } else if (negativeCache != null) {
+            mergeIfCurrent(negativeCache, key, CachedWindows.of(loaded.gap()), stripe, generation);
+        }
+        return loaded;
+    }
+
+    /**
+     * Merges the loaded windows unless the product was invalidated since the load started. The generation is
+     * checked under the entry's lock, and invalidations bump it before removing the entry, so an invalidation
+     * either makes this merge skip or removes what it inserted.
+     */
+    private <T extends TimeWindow> void mergeIfCurrent(Cache<PriceKey, CachedWindows<T>> target, PriceKey key,
+                                                       CachedWindows<T> loaded, int stripe, long generation) {
+        target.asMap().compute(key, (k, existing) -> {
+            if (generations.get(stripe) != generation) {
+                return existing;
+            }
+            return existing == null ? loaded : existing.merge(loaded);
+        });
+    }
+
+    private static int stripe(PriceKey key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * Drops every cached segment and gap of the given product.
+     *
+     * @param key the (brand, product) pair to invalidate
+     */
+    public void invalidate(PriceKey key) {
+        generations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+        if (negativeCache != null) {
+            negativeCache.invalidate(key);
+        }
+    }
+
+    public void invalidateAll() {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        cache.invalidateAll();
+        if (negativeCache != null) {
+            negativeCache.invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        event.keys().forEach(this::invalidate);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        lookups(meterRegistry, "hit", hits);
+        lookups(meterRegistry, "negative_hit", negativeHits);
+        lookups(meterRegistry, "miss", misses);
+        Gauge.builder(PriceMetricNames.SEGMENT_CACHE_PRODUCTS, this, SegmentCachingPriceUseCase::cachedProducts)
+                .description("Products with cached price segments")
+                .register(meterRegistry);
+    }
+
+    private static void lookups(MeterRegistry meterRegistry, String outcome, LongAdder count) {
+        FunctionCounter.builder(PriceMetricNames.SEGMENT_CACHE, count, LongAdder::sum)
+                .description("Segment cache lookups by outcome: hit, negative_hit from a cached gap or miss")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups answered as not found from the cached gaps.
+     */
+    public long negativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long cachedProducts() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Windows known for a single product, sorted by start date and non-overlapping.
+     */
+    record CachedWindows<T extends TimeWindow>(List<T> windows) {
+
+        static <T extends TimeWindow> CachedWindows<T> of(T window) {
+            return new CachedWindows<>(List.of(window));
+        }
+
+        T find(LocalDateTime date) {
+            int lo = 0;
+            int hi = windows.size() - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                T window = windows.get(mid);
+                if (date.isBefore(window.startDate())) {
+                    hi = mid - 1;
+                } else if (!date.isBefore(window.endDate())) {
+                    lo = mid + 1;
+                } else {
+                    return window;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds the newly loaded windows. Overlapping older windows are dropped in favour of the new ones.
+         */
+        CachedWindows<T> merge(CachedWindows<T> loaded) {
+            List<T> merged = new ArrayList<>(windows.size() + loaded.windows.size());
+            for (T existing : windows) {
+                if (loaded.windows.stream().noneMatch(existing::overlaps)) {
+                    merged.add(existing);
+                }
+            }
+            merged.addAll(loaded.windows);
+            merged.sort(Comparator.comparing(TimeWindow::startDate));
+            return new CachedWindows<>(List.copyOf(merged));
+        }
+    }
+
+    /**
+     * Expires a product entry a fixed time after it was created; adding windows does not extend it.
+     */
+    private record FixedTtlExpiry<V>(long ttlNanos) implements Expiry<PriceKey, V> {
+
+        @Override
+        public long expireAfterCreate(PriceKey key, V value, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(PriceKey key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(PriceKey key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
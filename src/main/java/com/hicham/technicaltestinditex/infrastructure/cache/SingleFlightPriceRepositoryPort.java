@@ -0,0 +1,170 @@
+package com.hicham.technicaltestinditex.infrastructure.cache;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Decorator of PriceRepositoryPort running at most one load per (brand, product) pair at a time.
+ * The first caller of a pair loads its complete price set from the delegate; callers arriving while that
+ * load runs wait for its result instead of sending the same query, and each of them picks the prices
+ * applicable at its own date, so a burst of lookups of one product at different dates costs one query.
+ * A failed load fails every caller waiting for it. A caller that waited {@code prices.single-flight.timeout}
+ * stops waiting and queries the delegate itself, so a stuck load does not hold every request of the product.
+ * Top-1 lookups are coalesced the same way on (brand, product, date) and keep the adapter's pushed-down
+ * query instead of loading the whole price set. Window queries and listings are passed through.
+ */
+@Slf4j
+public class SingleFlightPriceRepositoryPort implements ChangeAwarePriceRepositoryPort {
+
+    private final PriceRepositoryPort delegate;
+    private final long timeoutNanos;
+    private final Map<PriceKey, CompletableFuture<List<Price>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<DatedKey, CompletableFuture<Optional<Price>>> highestInFlight = new ConcurrentHashMap<>();
+    private final Counter led;
+    private final Counter joined;
+    private final Counter timedOut;
+
+    public SingleFlightPriceRepositoryPort(PriceRepositoryPort delegate, Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        this.led = loads(meterRegistry, "led");
+        this.joined = loads(meterRegistry, "joined");
+        this.timedOut = loads(meterRegistry, "timed_out");
+        Gauge.builder(PriceMetricNames.SINGLE_FLIGHT_IN_FLIGHT, this, port -> port.inFlight.size() + port.highestInFlight.size())
+                .description("Price loads currently running, one per (brand, product) pair or top-1 lookup")
+                .register(meterRegistry);
+    }
+
+    private static Counter loads(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(PriceMetricNames.SINGLE_FLIGHT)
+                .description("Price loads by outcome: led by the caller, joined from another caller or timed out waiting")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return load(PriceKey.of(brandId, productId)).stream()
+                .filter(price -> price.getPriceRange().contains(applicationDate))
+                .toList();
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        PriceKey key = PriceKey.of(brandId, productId);
+        return coalesce(highestInFlight, new DatedKey(key, applicationDate), key,
+                () -> delegate.findHighestPriorityPrice(applicationDate, productId, brandId));
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        return load(PriceKey.of(brandId, productId));
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        return delegate.findPrices(keys, from, to);
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return delegate.findAllPrices();
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        return delegate.findAllKeys();
+    }
+
+    /**
+     * Detaches the loads of the changed pairs right after the adapters published the change, so later
+     * callers start a new load instead of joining one that may have read the previous prices.
+     */
+    @Override
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onPricesChanged(PricesChangedEvent event) {
+        ChangeAwarePriceRepositoryPort.forward(delegate, event);
+        event.keys().forEach(inFlight::remove);
+        highestInFlight.keySet().removeIf(dated -> event.keys().contains(dated.key()));
+    }
+
+    private List<Price> load(PriceKey key) {
+        return coalesce(inFlight, key, key, () -> delegate.findPrices(key.productId(), key.brandId()));
+    }
+
+    /**
+     * Runs the load of a flight key unless one is already running, in which case its result is awaited.
+     *
+     * @param flights   the loads running, by flight key
+     * @param flightKey the key loads are shared on
+     * @param key       the (brand, product) pair loaded, for logs and errors
+     * @param query     the delegate call
+     */
+    private <K, V> V coalesce(Map<K, CompletableFuture<V>> flights, K flightKey, PriceKey key, Supplier<V> query) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = flights.putIfAbsent(flightKey, flight);
+        if (running == null) {
+            led.increment();
+            try {
+                V result = query.get();
+                flight.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                flights.remove(flightKey, flight);
+            }
+        }
+        joined.increment();
+        try {
+            return running.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            log.warn("Price load of brand {} product {} still running after {} ms, querying directly",
+                    key.brandId().value(), key.productId().value(), TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            return query.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Price load of " + key + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the price load of " + key, e);
+        }
+    }
+
+    private record DatedKey(PriceKey key, LocalDateTime applicationDate) {
+    }
+}
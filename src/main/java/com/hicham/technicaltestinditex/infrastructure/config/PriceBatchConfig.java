@@ -0,0 +1,12 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the batch price endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceBatchProperties.class)
+public class PriceBatchConfig {
+}
@@ -0,0 +1,14 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the batch price endpoint.
+ *
+ * @param maxSize maximum number of entries accepted in a single batch request
+ */
+@ConfigurationProperties(prefix = "prices.batch")
+public record PriceBatchProperties(
+        @DefaultValue("100") int maxSize
+) {}
@@ -0,0 +1,18 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the Bloom filter of stored (brand, product) pairs.
+ *
+ * @param enabled           whether repository lookups of unknown pairs are answered without reaching the store
+ * @param expectedKeys      number of pairs the filter is sized for; it grows to twice the stored pairs when rebuilt
+ * @param falsePositiveRate probability that an unknown pair still reaches the store
+ */
+@ConfigurationProperties(prefix = "prices.bloom-filter")
+public record PriceBloomFilterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000000") long expectedKeys,
+        @DefaultValue("0.01") double falsePositiveRate
+) {}
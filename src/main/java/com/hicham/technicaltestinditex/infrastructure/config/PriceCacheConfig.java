@@ -0,0 +1,33 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.infrastructure.cache.SegmentCachingPriceUseCase;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration decorating the selected price lookup with the segment cache.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceCacheProperties.class)
+public class PriceCacheConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "prices.cache.enabled", havingValue = "true")
+    public SegmentCachingPriceUseCase segmentCachingPriceUseCase(
+            @Qualifier("priceLookup") GetPriceUseCase priceLookup,
+            PriceCacheProperties properties
+    ) {
+        return new SegmentCachingPriceUseCase(
+                priceLookup,
+                properties.maximumSegments(),
+                properties.ttl(),
+                properties.negativeMaximumGaps(),
+                properties.negativeTtl());
+    }
+}
@@ -0,0 +1,24 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the price segment cache.
+ *
+ * @param enabled             whether GetPriceUseCase is decorated with the segment cache
+ * @param maximumSegments     maximum number of cached segments across all products
+ * @param ttl                 time a product entry stays cached after it is first loaded
+ * @param negativeMaximumGaps maximum number of cached gaps without any price across all products, 0 disables negative caching
+ * @param negativeTtl         time the gaps of a product stay cached after they are first loaded
+ */
+@ConfigurationProperties(prefix = "prices.cache")
+public record PriceCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") long maximumSegments,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("100000") long negativeMaximumGaps,
+        @DefaultValue("1m") Duration negativeTtl
+) {}
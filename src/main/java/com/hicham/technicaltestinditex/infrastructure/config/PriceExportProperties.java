@@ -0,0 +1,29 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the price export.
+ *
+ * @param fetchSize rows the JDBC driver fetches per round trip while the export cursor advances
+ * @param timeout   time an export may stream before the container ends the response, zero for no limit;
+ *                  replaces the container's default async timeout (30s on Tomcat) for the export only
+ */
+@ConfigurationProperties(prefix = "prices.export")
+public record PriceExportProperties(
+        @DefaultValue("1000") int fetchSize,
+        @DefaultValue("30m") Duration timeout
+) {
+
+    public PriceExportProperties {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("prices.export.fetch-size must be positive");
+        }
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("prices.export.timeout must not be negative");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for HTTP caching of price responses.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceHttpCacheProperties.class)
+public class PriceHttpCacheConfig {
+}
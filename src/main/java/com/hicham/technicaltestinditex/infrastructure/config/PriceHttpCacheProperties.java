@@ -0,0 +1,25 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for HTTP caching of price responses.
+ *
+ * @param enabled whether GET /api/prices answers with Cache-Control, Expires and ETag headers and honours If-None-Match
+ * @param maxAge  upper bound of the advertised freshness, since stored prices may change before the winning price stops applying
+ */
+@ConfigurationProperties(prefix = "prices.http-cache")
+public record PriceHttpCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1h") Duration maxAge
+) {
+
+    public PriceHttpCacheProperties {
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("prices.http-cache.max-age must not be negative");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the bulk price import.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceImportProperties.class)
+public class PriceImportConfig {
+}
@@ -0,0 +1,33 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportOptions;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the bulk price import.
+ *
+ * @param batchSize         rows sent to the database in a single JDBC batch
+ * @param commitInterval    rows written between two commits
+ * @param maxReportedErrors rejected rows listed individually in the report
+ * @param file              CSV or NDJSON file imported at startup, none when unset
+ * @param enabled           whether POST /api/prices/import is exposed; it writes PRICES without authentication
+ */
+@ConfigurationProperties(prefix = "prices.import")
+public record PriceImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("50000") int commitInterval,
+        @DefaultValue("100") int maxReportedErrors,
+        String file,
+        @DefaultValue("false") boolean enabled
+) {
+
+    /**
+     * Import options, with the batch size and commit interval optionally overridden.
+     */
+    public PriceImportOptions toOptions(Integer batchSizeOverride, Integer commitIntervalOverride) {
+        int batch = batchSizeOverride != null ? batchSizeOverride : batchSize;
+        int commit = commitIntervalOverride != null ? commitIntervalOverride : Math.max(commitInterval, batch);
+        return new PriceImportOptions(batch, commit, maxReportedErrors);
+    }
+}
@@ -0,0 +1,28 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the memory-mapped price snapshot adapter.
+ *
+ * @param path           snapshot file, written from PRICES when missing, corrupt or stale
+ * @param verifyChecksum whether opening the file checks its checksum, which reads every page once
+ * @param maxStaleKeys   changed (brand, product) pairs served from the database before the snapshot is rewritten
+ */
+@ConfigurationProperties(prefix = "prices.mapped-snapshot")
+public record PriceMappedSnapshotProperties(
+        @DefaultValue("prices.snapshot") String path,
+        @DefaultValue("true") boolean verifyChecksum,
+        @DefaultValue("10000") int maxStaleKeys
+) {
+
+    public PriceMappedSnapshotProperties {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("prices.mapped-snapshot.path must not be blank");
+        }
+        if (maxStaleKeys < 0) {
+            throw new IllegalArgumentException("prices.mapped-snapshot.max-stale-keys must not be negative");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the brand-partitioned in-memory price adapter.
+ *
+ * @param maxHeap     estimated heap of the loaded brand partitions above which the least recently used ones are evicted
+ * @param idleTimeout time without lookups after which a brand partition is evicted, zero to keep idle partitions
+ */
+@ConfigurationProperties(prefix = "prices.partitioned")
+public record PricePartitionProperties(
+        @DefaultValue("256MB") DataSize maxHeap,
+        @DefaultValue("30m") Duration idleTimeout
+) {
+
+    public PricePartitionProperties {
+        if (maxHeap.isNegative()) {
+            throw new IllegalArgumentException("prices.partitioned.max-heap must not be negative");
+        }
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("prices.partitioned.idle-timeout must not be negative");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the per-product price cache in front of the repository adapter.
+ *
+ * @param enabled     whether the complete price set of each looked up (brand, product) pair is kept in memory
+ * @param maximumRows upper bound of the price rows held across all pairs
+ */
+@ConfigurationProperties(prefix = "prices.product-cache")
+public record PriceProductCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000000") long maximumRows
+) {
+
+    public PriceProductCacheProperties {
+        if (maximumRows < 0) {
+            throw new IllegalArgumentException("prices.product-cache.maximum-rows must not be negative");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.cache.ChangeAwarePriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.cache.ProductLoadingPriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.cache.SingleFlightPriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.filter.BloomFilteringPriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.metrics.MeteredPriceRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration decorating the selected price repository adapter.
+ * Adapters are qualified with {@code priceRepositoryAdapter}; every other bean receives the primary decorator.
+ * The Bloom filter and the per-product cache sit outside the metered adapter, so lookups they answer are not
+ * timed as repository calls; the Bloom filter comes first, so unknown pairs do not take cache entries.
+ * Single-flight sits right above the metered adapter, which then times only the loads actually sent.
+ * Only the outermost decorator is a bean with a registered event listener: decorators keeping state implement
+ * {@link ChangeAwarePriceRepositoryPort} and pass PricesChangedEvent down the chain.
+ */
+@Configuration
+@EnableConfigurationProperties({
+        PriceBloomFilterProperties.class,
+        PriceProductCacheProperties.class,
+        PriceSingleFlightProperties.class
+})
+public class PriceRepositoryConfig {
+
+    @Bean
+    @Primary
+    public PriceRepositoryPort priceRepositoryPort(
+            @Qualifier("priceRepositoryAdapter") PriceRepositoryPort priceRepositoryAdapter,
+            PriceBloomFilterProperties bloomFilterProperties,
+            PriceProductCacheProperties productCacheProperties,
+            PriceSingleFlightProperties singleFlightProperties,
+            MeterRegistry meterRegistry
+    ) {
+        PriceRepositoryPort port = new MeteredPriceRepositoryPort(priceRepositoryAdapter, meterRegistry);
+
+        if (singleFlightProperties.enabled()) {
+            port = new SingleFlightPriceRepositoryPort(port, singleFlightProperties.timeout(), meterRegistry);
+        }
+
+        if (productCacheProperties.enabled()) {
+            port = new ProductLoadingPriceRepositoryPort(port, productCacheProperties.maximumRows(), meterRegistry);
+        }
+
+        if (bloomFilterProperties.enabled()) {
+            BloomFilteringPriceRepositoryPort bloomFiltering = new BloomFilteringPriceRepositoryPort(
+                    port,
+                    bloomFilterProperties.expectedKeys(),
+                    bloomFilterProperties.falsePositiveRate(),
+                    meterRegistry);
+            bloomFiltering.rebuild();
+            port = bloomFiltering;
+        }
+        return port;
+    }
+}
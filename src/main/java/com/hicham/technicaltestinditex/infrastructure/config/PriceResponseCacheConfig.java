@@ -0,0 +1,12 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the cache of encoded price responses.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceResponseCacheProperties.class)
+public class PriceResponseCacheConfig {
+}
@@ -0,0 +1,24 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the cache of encoded price responses.
+ *
+ * @param enabled     whether GET /api/prices writes cached response bytes instead of serializing a DTO per request
+ * @param maximumSize upper bound of the cached bytes across all prices and formats
+ */
+@ConfigurationProperties(prefix = "prices.response-cache")
+public record PriceResponseCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64MB") DataSize maximumSize
+) {
+
+    public PriceResponseCacheProperties {
+        if (maximumSize.isNegative()) {
+            throw new IllegalArgumentException("prices.response-cache.maximum-size must not be negative");
+        }
+    }
+}
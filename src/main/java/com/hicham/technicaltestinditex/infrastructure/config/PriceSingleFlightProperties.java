@@ -0,0 +1,25 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the coalescing of concurrent price loads.
+ *
+ * @param enabled whether concurrent lookups of the same (brand, product) pair share a single load
+ * @param timeout time a lookup waits for the load of another one before querying the repository itself
+ */
+@ConfigurationProperties(prefix = "prices.single-flight")
+public record PriceSingleFlightProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2s") Duration timeout
+) {
+
+    public PriceSingleFlightProperties {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("prices.single-flight.timeout must not be negative");
+        }
+    }
+}
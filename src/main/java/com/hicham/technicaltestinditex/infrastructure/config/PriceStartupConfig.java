@@ -0,0 +1,41 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import com.hicham.technicaltestinditex.infrastructure.startup.FingerprintFlywayMigrationStrategy;
+import com.hicham.technicaltestinditex.infrastructure.startup.LazyBeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Configuration for the startup optimizations, all off unless the {@code fast-startup} profile turns them on.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceStartupProperties.class)
+public class PriceStartupConfig {
+
+    /**
+     * Bean factory post-processors run before configuration properties are bound, so the prefixes are read
+     * straight from the environment.
+     */
+    @Bean
+    public static LazyBeanFactoryPostProcessor lazyBeanFactoryPostProcessor(Environment environment) {
+        List<String> prefixes = Binder.get(environment)
+                .bind("prices.startup.lazy-bean-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return new LazyBeanFactoryPostProcessor(prefixes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "prices.startup.skip-unchanged-flyway-validation", havingValue = "true")
+    public FlywayMigrationStrategy fingerprintFlywayMigrationStrategy(PriceStartupProperties properties) {
+        return new FingerprintFlywayMigrationStrategy(Path.of(properties.flywayFingerprintFile()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Configuration properties for the startup optimizations of the {@code fast-startup} profile.
+ *
+ * @param lazyBeanPackages              package or class name prefixes whose beans are only created on first use
+ * @param skipUnchangedFlywayValidation whether Flyway skips validation when neither the migrations nor the schema history changed
+ * @param flywayFingerprintFile         file recording the migrations and schema history last validated
+ * @param trainingRun                   whether the application replays a representative workload and exits, to train a CDS archive
+ * @param trainingRounds                times the training workload is replayed
+ */
+@ConfigurationProperties(prefix = "prices.startup")
+public record PriceStartupProperties(
+        @DefaultValue List<String> lazyBeanPackages,
+        @DefaultValue("false") boolean skipUnchangedFlywayValidation,
+        @DefaultValue("flyway.fingerprint") String flywayFingerprintFile,
+        @DefaultValue("false") boolean trainingRun,
+        @DefaultValue("20") int trainingRounds
+) {
+
+    public PriceStartupProperties {
+        if (trainingRounds <= 0) {
+            throw new IllegalArgumentException("prices.startup.training-rounds must be positive");
+        }
+    }
+}
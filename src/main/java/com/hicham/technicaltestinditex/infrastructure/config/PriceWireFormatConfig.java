@@ -0,0 +1,42 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration of the binary wire formats negotiated through the Accept and Content-Type headers:
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}), next to the default JSON.
+ * Both converters are built from the application's Jackson builder, so every DTO has the same fields in
+ * any format, except that dates are written as arrays of numbers ({@code [2020,6,14,15,0]}) instead of
+ * ISO strings: formatting and parsing those strings is most of the encoding cost. ISO strings are still
+ * accepted in request bodies.
+ * The beans replace Spring MVC's default converters of the same type and keep their place after JSON,
+ * which therefore stays the answer to {@code Accept: *}{@code /*} or no Accept header.
+ */
+@Configuration
+public class PriceWireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binary(builder, new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binary(builder, new SmileFactory()));
+    }
+
+    private static ObjectMapper binary(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder.factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
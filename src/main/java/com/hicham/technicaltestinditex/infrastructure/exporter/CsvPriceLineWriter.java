@@ -0,0 +1,47 @@
+package com.hicham.technicaltestinditex.infrastructure.exporter;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes comma-separated prices under a header naming the PRICES columns, so the output
+ * can be imported again; the import ignores the ID column.
+ */
+final class CsvPriceLineWriter implements PriceLineWriter {
+
+    static final String HEADER = "ID,BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR";
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(128);
+
+    CsvPriceLineWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(Price price) throws IOException {
+        line.setLength(0);
+        line.append(price.getId().value()).append(',')
+                .append(price.getBrandId().value()).append(',')
+                .append(price.getProductId().value()).append(',');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(price.getPriceRange().startDate(), line);
+        line.append(',');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(price.getPriceRange().endDate(), line);
+        line.append(',').append(price.getPriceList())
+                .append(',').append(price.getPriority())
+                .append(',').append(price.getPrice().toPlainString())
+                .append(',').append(price.getCurrency())
+                .append('\n');
+        writer.append(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,50 @@
+package com.hicham.technicaltestinditex.infrastructure.exporter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes newline-delimited JSON prices, one object per line, with the field names of the REST API
+ * plus the price id, so the output can be imported again. Decimals are written exactly.
+ */
+final class NdjsonPriceLineWriter implements PriceLineWriter {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+
+    NdjsonPriceLineWriter(Writer writer) throws IOException {
+        this.generator = FACTORY.createGenerator(writer);
+        // Root values are separated by the newline written after each one
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(Price price) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", price.getId().value());
+        generator.writeNumberField("brandId", price.getBrandId().value());
+        generator.writeNumberField("productId", price.getProductId().value());
+        generator.writeStringField("startDate", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(price.getPriceRange().startDate()));
+        generator.writeStringField("endDate", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(price.getPriceRange().endDate()));
+        generator.writeNumberField("priceList", price.getPriceList());
+        generator.writeNumberField("priority", price.getPriority());
+        generator.writeNumberField("price", price.getPrice());
+        generator.writeStringField("currency", price.getCurrency());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
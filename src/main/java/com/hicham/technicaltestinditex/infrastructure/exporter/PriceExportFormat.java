@@ -0,0 +1,64 @@
+package com.hicham.technicaltestinditex.infrastructure.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Output formats of the price export. Both can be fed back to the bulk import.
+ */
+public enum PriceExportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        public PriceLineWriter open(Writer writer) throws IOException {
+            return new CsvPriceLineWriter(writer);
+        }
+    },
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public PriceLineWriter open(Writer writer) throws IOException {
+            return new NdjsonPriceLineWriter(writer);
+        }
+    };
+
+    private final String mediaType;
+    private final String extension;
+
+    PriceExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Starts writing prices in this format to the given sink, which is neither buffered nor closed.
+     *
+     * @param writer the sink
+     * @return the line writer
+     * @throws IOException if the sink cannot be written
+     */
+    public abstract PriceLineWriter open(Writer writer) throws IOException;
+
+    /**
+     * Picks the format with the given name, ignoring case.
+     *
+     * @param name {@code csv} or {@code ndjson}
+     * @return the matching format
+     * @throws IllegalArgumentException if no format matches
+     */
+    public static PriceExportFormat fromName(String name) {
+        for (PriceExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format '" + name + "', expected csv or ndjson");
+    }
+}
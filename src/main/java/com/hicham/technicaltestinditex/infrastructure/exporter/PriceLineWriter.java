@@ -0,0 +1,20 @@
+package com.hicham.technicaltestinditex.infrastructure.exporter;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Writes prices one line at a time to a character sink, without buffering them.
+ */
+public interface PriceLineWriter extends Flushable {
+
+    /**
+     * Writes the given price as one line.
+     *
+     * @param price the price to write
+     * @throws IOException if the sink cannot be written
+     */
+    void write(Price price) throws IOException;
+}
@@ -0,0 +1,149 @@
+package com.hicham.technicaltestinditex.infrastructure.filter;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.cache.ChangeAwarePriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorator of PriceRepositoryPort answering lookups of (brand, product) pairs that never had a price
+ * without reaching the store. The pairs are kept in a Bloom filter built from every stored pair and
+ * extended when prices change; a negative answer is certain, a positive one goes to the delegate.
+ * <p>
+ * Pairs whose prices were all deleted stay in the filter until {@link #rebuild()}, which only costs
+ * a database query for them. Rows committed before their change event is published may be reported
+ * missing until the event arrives.
+ */
+@Slf4j
+public class BloomFilteringPriceRepositoryPort implements ChangeAwarePriceRepositoryPort {
+
+    private final PriceRepositoryPort delegate;
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final Counter shortCircuited;
+    private final Counter passed;
+
+    private volatile PriceKeyBloomFilter filter;
+
+    public BloomFilteringPriceRepositoryPort(PriceRepositoryPort delegate, long expectedKeys, double falsePositiveRate,
+                                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = PriceKeyBloomFilter.create(expectedKeys, falsePositiveRate);
+        this.shortCircuited = lookups(meterRegistry, "short_circuited");
+        this.passed = lookups(meterRegistry, "passed");
+        Gauge.builder(PriceMetricNames.BLOOM_KEYS, this, port -> port.filter.insertions())
+                .description("Pairs added to the Bloom filter since it was last built")
+                .register(meterRegistry);
+        Gauge.builder(PriceMetricNames.BLOOM_FALSE_POSITIVE_RATE, this, port -> port.filter.expectedFalsePositiveRate())
+                .description("False-positive rate expected with the pairs added so far")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the filter again from every stored pair, dropping pairs that no longer have prices.
+     * The filter is sized for the configured number of keys or twice the stored ones, whichever is larger.
+     */
+    public synchronized void rebuild() {
+        Set<PriceKey> keys = delegate.findAllKeys();
+        PriceKeyBloomFilter next = PriceKeyBloomFilter.create(
+                Math.max(expectedKeys, 2L * keys.size()), falsePositiveRate);
+        keys.forEach(next::add);
+        filter = next;
+        log.info("Built price Bloom filter: {} pairs, {} bits, {} hash functions",
+                keys.size(), next.bitSize(), next.hashFunctions());
+    }
+
+    /**
+     * Adds the changed pairs right after the adapters published them, before the read models reload,
+     * so they can see the new pairs.
+     */
+    @Override
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public synchronized void onPricesChanged(PricesChangedEvent event) {
+        ChangeAwarePriceRepositoryPort.forward(delegate, event);
+        event.keys().forEach(filter::add);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        if (!mightExist(brandId, productId)) {
+            return List.of();
+        }
+        return delegate.findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        if (!mightExist(brandId, productId)) {
+            return Optional.empty();
+        }
+        // Delegated explicitly so adapters keep their pushed-down top-1 query
+        return delegate.findHighestPriorityPrice(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        if (!mightExist(brandId, productId)) {
+            return List.of();
+        }
+        return delegate.findPrices(productId, brandId);
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        List<PriceKey> candidates = keys.stream()
+                .filter(key -> mightExist(key.brandId(), key.productId()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        return delegate.findPrices(candidates, from, to);
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        return delegate.findAllPrices();
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        return delegate.findAllKeys();
+    }
+
+    private boolean mightExist(BrandId brandId, ProductId productId) {
+        if (filter.mightContain(PriceKey.of(brandId, productId))) {
+            passed.increment();
+            return true;
+        }
+        shortCircuited.increment();
+        return false;
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(PriceMetricNames.BLOOM_LOOKUPS)
+                .description("Repository lookups checked against the Bloom filter")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,114 @@
+package com.hicham.technicaltestinditex.infrastructure.filter;
+
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter of (brand, product) pairs.
+ * {@link #mightContain(PriceKey)} never answers false for a pair that was added, and answers true for
+ * a pair that was not added with a probability close to the false-positive rate it was sized for.
+ * Pairs cannot be removed; the filter is rebuilt instead. Adding and querying are thread-safe.
+ */
+public final class PriceKeyBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder insertions = new LongAdder();
+
+    private PriceKeyBloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+        this.bitSize = (long) words.length() << 6;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Creates a filter holding up to {@code expectedKeys} pairs at the given false-positive rate.
+     *
+     * @param expectedKeys      number of pairs the filter is sized for
+     * @param falsePositiveRate probability of a false positive once {@code expectedKeys} pairs were added
+     * @return an empty filter
+     */
+    public static PriceKeyBloomFilter create(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected keys must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long bits = Math.max(64, (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * LN2));
+        return new PriceKeyBloomFilter(bits, hashes);
+    }
+
+    public void add(PriceKey key) {
+        long h1 = hash(key);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(PriceKey key) {
+        long h1 = hash(key);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of add calls, duplicates included.
+     */
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * False-positive rate expected with the pairs added so far.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashFunctions * (double) insertions() / bitSize), hashFunctions);
+    }
+
+    private static long hash(PriceKey key) {
+        return mix(key.brandId().value() * 0x9E3779B97F4A7C15L ^ mix(key.productId().value()));
+    }
+
+    private static long secondHash(long h1) {
+        // Odd, so successive probes never cycle on a power-of-two sized filter
+        return mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,61 @@
+package com.hicham.technicaltestinditex.infrastructure.importer;
+
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads comma-separated prices. The first line is a header naming the PRICES columns in any order:
+ * BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE and CURR; other columns are ignored.
+ * Values are never quoted, none of the columns can contain a comma.
+ */
+final class CsvPriceLineReader extends PriceLineReader {
+
+    private static final List<String> COLUMNS = List.of(
+            "BRAND_ID", "PRODUCT_ID", "START_DATE", "END_DATE", "PRICE_LIST", "PRIORITY", "PRICE", "CURR");
+
+    private final int[] positions = new int[COLUMNS.size()];
+    private final int width;
+
+    CsvPriceLineReader(Reader reader) {
+        super(reader);
+        String header = readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV source is empty, a header line is required");
+        }
+        String[] names = header.split(",", -1);
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            byName.put(names[i].trim().toUpperCase(Locale.ROOT), i);
+        }
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            Integer position = byName.get(COLUMNS.get(i));
+            if (position == null) {
+                throw new IllegalArgumentException("CSV header is missing column " + COLUMNS.get(i));
+            }
+            positions[i] = position;
+        }
+        width = names.length;
+    }
+
+    @Override
+    protected NewPrice parse(String line) {
+        String[] values = line.split(",", -1);
+        if (values.length != width) {
+            throw new IllegalArgumentException("Expected " + width + " columns but found " + values.length);
+        }
+        return toPrice(
+                values[positions[0]],
+                values[positions[1]],
+                values[positions[2]],
+                values[positions[3]],
+                values[positions[4]],
+                values[positions[5]],
+                values[positions[6]],
+                values[positions[7]]);
+    }
+}
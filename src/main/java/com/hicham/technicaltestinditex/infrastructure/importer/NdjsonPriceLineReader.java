@@ -0,0 +1,53 @@
+package com.hicham.technicaltestinditex.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+
+import java.io.Reader;
+
+/**
+ * Reads newline-delimited JSON prices, one object per line, with the field names of the REST API:
+ * brandId, productId, startDate, endDate, priceList, priority, price and currency.
+ * Decimals are read exactly, without going through a double.
+ */
+final class NdjsonPriceLineReader extends PriceLineReader {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    NdjsonPriceLineReader(Reader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected NewPrice parse(String line) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(line);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return toPrice(
+                text(node, "brandId"),
+                text(node, "productId"),
+                text(node, "startDate"),
+                text(node, "endDate"),
+                text(node, "priceList"),
+                text(node, "priority"),
+                text(node, "price"),
+                text(node, "currency"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,75 @@
+package com.hicham.technicaltestinditex.infrastructure.importer;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportLine;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Source formats accepted by the bulk price import.
+ */
+public enum PriceImportFormat {
+
+    CSV("text/csv", CsvPriceLineReader::new),
+    NDJSON("application/x-ndjson", NdjsonPriceLineReader::new);
+
+    private final String mediaType;
+    private final Function<Reader, Iterator<PriceImportLine>> readerFactory;
+
+    PriceImportFormat(String mediaType, Function<Reader, Iterator<PriceImportLine>> readerFactory) {
+        this.mediaType = mediaType;
+        this.readerFactory = readerFactory;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Streams the lines of the given source; the reader is consumed lazily and not closed.
+     *
+     * @param reader the source
+     * @return the parsed lines
+     * @throws IllegalArgumentException if the source cannot be read in this format, such as a CSV without header
+     */
+    public Iterator<PriceImportLine> read(Reader reader) {
+        return readerFactory.apply(reader);
+    }
+
+    /**
+     * Picks the format matching a media type, ignoring its parameters.
+     *
+     * @param mediaType the Content-Type of the source
+     * @return the matching format
+     * @throws IllegalArgumentException if no format matches
+     */
+    public static PriceImportFormat fromMediaType(String mediaType) {
+        String type = mediaType == null ? "" : mediaType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        for (PriceImportFormat format : values()) {
+            if (format.mediaType.equals(type)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import media type '" + mediaType + "'");
+    }
+
+    /**
+     * Picks the format matching a file extension: {@code .csv}, {@code .ndjson} or {@code .jsonl}.
+     *
+     * @param fileName the name of the source file
+     * @return the matching format
+     * @throws IllegalArgumentException if no format matches
+     */
+    public static PriceImportFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot tell the import format of '" + fileName + "'");
+    }
+}
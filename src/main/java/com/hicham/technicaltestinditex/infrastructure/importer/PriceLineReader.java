@@ -0,0 +1,150 @@
+package com.hicham.technicaltestinditex.infrastructure.importer;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportLine;
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a price import source line by line, holding a single line in memory at a time.
+ * Blank lines are skipped; every other line becomes a valid or invalid PriceImportLine,
+ * so a malformed line never stops the import.
+ */
+abstract class PriceLineReader implements Iterator<PriceImportLine> {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private PriceImportLine next;
+
+    PriceLineReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Parses a non-blank line.
+     *
+     * @param line the line without its terminator
+     * @return the price built from the line
+     * @throws RuntimeException if the line is malformed or violates a price invariant
+     */
+    protected abstract NewPrice parse(String line);
+
+    /**
+     * Reads the next non-blank line, or null at the end of the source.
+     */
+    protected final String readLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    protected final long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            String line = readLine();
+            if (line == null) {
+                return false;
+            }
+            try {
+                next = PriceImportLine.valid(lineNumber, parse(line));
+            } catch (RuntimeException ex) {
+                next = PriceImportLine.invalid(lineNumber, ex.getMessage());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public PriceImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PriceImportLine line = next;
+        next = null;
+        return line;
+    }
+
+    /**
+     * Builds a price from raw field values, naming the field in the error when one cannot be parsed.
+     */
+    static NewPrice toPrice(String brandId, String productId, String startDate, String endDate,
+                            String priceList, String priority, String price, String currency) {
+        return new NewPrice(
+                BrandId.of(parseLong("brand ID", brandId)),
+                ProductId.of(parseLong("product ID", productId)),
+                PriceRange.of(parseDateTime("start date", startDate), parseDateTime("end date", endDate)),
+                parseInt("price list", priceList),
+                parseInt("priority", priority),
+                parseDecimal("price", price),
+                required("currency", currency)
+        );
+    }
+
+    private static String required(String field, String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing " + field);
+        }
+        return value.trim();
+    }
+
+    private static long parseLong(String field, String value) {
+        try {
+            return Long.parseLong(required(field, value));
+        } catch (NumberFormatException ex) {
+            throw invalid(field, value);
+        }
+    }
+
+    private static int parseInt(String field, String value) {
+        try {
+            return Integer.parseInt(required(field, value));
+        } catch (NumberFormatException ex) {
+            throw invalid(field, value);
+        }
+    }
+
+    private static BigDecimal parseDecimal(String field, String value) {
+        try {
+            return new BigDecimal(required(field, value));
+        } catch (NumberFormatException ex) {
+            throw invalid(field, value);
+        }
+    }
+
+    /**
+     * Accepts ISO date-times with either a {@code T} or a space between date and time.
+     */
+    private static LocalDateTime parseDateTime(String field, String value) {
+        try {
+            return LocalDateTime.parse(required(field, value).replace(' ', 'T'));
+        } catch (DateTimeParseException ex) {
+            throw invalid(field, value);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String field, String value) {
+        return new IllegalArgumentException("Invalid " + field + " '" + value + "'");
+    }
+}
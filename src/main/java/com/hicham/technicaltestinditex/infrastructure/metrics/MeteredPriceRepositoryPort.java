@@ -0,0 +1,108 @@
+package com.hicham.technicaltestinditex.infrastructure.metrics;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator of PriceRepositoryPort timing every call of the selected adapter.
+ * Timers are registered once per method; a call only adds two clock reads and a record.
+ * The applicable price summary records the size of each applicable set returned by findApplicablePrices.
+ * The top-1 lookup is not recorded in it: its adapters do not report how many prices the winner was
+ * selected from, and its found or not found outcome is already counted by the use case.
+ */
+public class MeteredPriceRepositoryPort implements PriceRepositoryPort {
+
+    private final PriceRepositoryPort delegate;
+    private final Timer findApplicablePrices;
+    private final Timer findHighestPriorityPrice;
+    private final Timer findProductPrices;
+    private final Timer findKeyedPrices;
+    private final Timer findAllPrices;
+    private final Timer findAllKeys;
+    private final DistributionSummary applicable;
+
+    public MeteredPriceRepositoryPort(PriceRepositoryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.findApplicablePrices = timer(meterRegistry, "findApplicablePrices");
+        this.findHighestPriorityPrice = timer(meterRegistry, "findHighestPriorityPrice");
+        this.findProductPrices = timer(meterRegistry, "findProductPrices");
+        this.findKeyedPrices = timer(meterRegistry, "findKeyedPrices");
+        this.findAllPrices = timer(meterRegistry, "findAllPrices");
+        this.findAllKeys = timer(meterRegistry, "findAllKeys");
+        this.applicable = DistributionSummary.builder(PriceMetricNames.APPLICABLE)
+                .description("Applicable prices returned per lookup by date")
+                .baseUnit("prices")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        long start = System.nanoTime();
+        List<Price> prices = delegate.findApplicablePrices(applicationDate, productId, brandId);
+        findApplicablePrices.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        applicable.record(prices.size());
+        return prices;
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        // Delegated explicitly so adapters keep their pushed-down top-1 query
+        long start = System.nanoTime();
+        Optional<Price> price = delegate.findHighestPriorityPrice(applicationDate, productId, brandId);
+        findHighestPriorityPrice.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return price;
+    }
+
+    @Override
+    public List<Price> findPrices(ProductId productId, BrandId brandId) {
+        long start = System.nanoTime();
+        List<Price> prices = delegate.findPrices(productId, brandId);
+        findProductPrices.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return prices;
+    }
+
+    @Override
+    public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        long start = System.nanoTime();
+        Map<PriceKey, List<Price>> prices = delegate.findPrices(keys, from, to);
+        findKeyedPrices.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return prices;
+    }
+
+    @Override
+    public List<Price> findAllPrices() {
+        long start = System.nanoTime();
+        List<Price> prices = delegate.findAllPrices();
+        findAllPrices.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return prices;
+    }
+
+    @Override
+    public Set<PriceKey> findAllKeys() {
+        long start = System.nanoTime();
+        Set<PriceKey> keys = delegate.findAllKeys();
+        findAllKeys.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return keys;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String method) {
+        return Timer.builder(PriceMetricNames.REPOSITORY)
+                .description("Price repository calls, SQL and row mapping included")
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.hicham.technicaltestinditex.infrastructure.metrics;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceLookupMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer implementation of PriceLookupMetrics.
+ * The timer is registered once, so recording costs no meter lookup on the hot path.
+ */
+@Component
+public class MicrometerPriceLookupMetrics implements PriceLookupMetrics {
+
+    private final Timer selection;
+
+    public MicrometerPriceLookupMetrics(MeterRegistry meterRegistry) {
+        this.selection = Timer.builder(PriceMetricNames.SELECTION)
+                .description("Time spent selecting the winning price from the loaded candidates")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordSelection(long nanos) {
+        selection.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,81 @@
+package com.hicham.technicaltestinditex.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters recorded by the REST adapter around the use case and the response mapping.
+ * Every meter is registered up front so the request path only reads a field and records.
+ */
+@Component
+public class PriceEndpointMetrics {
+
+    private static final String FOUND = "found";
+    private static final String NOT_FOUND = "not_found";
+
+    private final Timer useCaseFound;
+    private final Timer useCaseNotFound;
+    private final Timer batchUseCase;
+    private final Timer timelineUseCase;
+    private final Counter found;
+    private final Counter notFound;
+    private final Timer restMapping;
+
+    public PriceEndpointMetrics(MeterRegistry meterRegistry) {
+        this.useCaseFound = useCaseTimer(meterRegistry, "price", FOUND);
+        this.useCaseNotFound = useCaseTimer(meterRegistry, "price", NOT_FOUND);
+        this.batchUseCase = useCaseTimer(meterRegistry, "batch", "resolved");
+        this.timelineUseCase = useCaseTimer(meterRegistry, "timeline", "resolved");
+        this.found = outcomeCounter(meterRegistry, FOUND);
+        this.notFound = outcomeCounter(meterRegistry, NOT_FOUND);
+        this.restMapping = Timer.builder(PriceMetricNames.REST_MAPPING)
+                .description("Mapping of domain prices to REST responses")
+                .register(meterRegistry);
+    }
+
+    public void recordFound(long nanos) {
+        useCaseFound.record(nanos, TimeUnit.NANOSECONDS);
+        found.increment();
+    }
+
+    public void recordNotFound(long nanos) {
+        useCaseNotFound.record(nanos, TimeUnit.NANOSECONDS);
+        notFound.increment();
+    }
+
+    /**
+     * Records one batch call and the outcome of each of its entries.
+     */
+    public void recordBatch(long nanos, int foundEntries, int notFoundEntries) {
+        batchUseCase.record(nanos, TimeUnit.NANOSECONDS);
+        found.increment(foundEntries);
+        notFound.increment(notFoundEntries);
+    }
+
+    public void recordTimeline(long nanos) {
+        timelineUseCase.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRestMapping(long nanos) {
+        restMapping.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer useCaseTimer(MeterRegistry meterRegistry, String endpoint, String outcome) {
+        return Timer.builder(PriceMetricNames.USE_CASE)
+                .description("Price use case calls made by the REST adapter")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(PriceMetricNames.OUTCOME)
+                .description("Price lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
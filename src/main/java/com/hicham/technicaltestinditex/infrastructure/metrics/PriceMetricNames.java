@@ -0,0 +1,133 @@
+package com.hicham.technicaltestinditex.infrastructure.metrics;
+
+/**
+ * Names of the price lookup meters. All of them share the {@code prices} prefix, so histograms
+ * are configured, or the meters disabled, with a single {@code management.metrics} key.
+ */
+public final class PriceMetricNames {
+
+    public static final String PREFIX = "prices";
+
+    /**
+     * Use case call made by the REST controller, tagged by endpoint and outcome.
+     */
+    public static final String USE_CASE = PREFIX + ".usecase";
+
+    /**
+     * Lookups by outcome: found or not_found.
+     */
+    public static final String OUTCOME = PREFIX + ".lookup.outcome";
+
+    /**
+     * Mapping of the domain result to the REST response.
+     */
+    public static final String REST_MAPPING = PREFIX + ".rest.mapping";
+
+    /**
+     * Repository port call, SQL and row mapping included, tagged by method.
+     */
+    public static final String REPOSITORY = PREFIX + ".repository";
+
+    /**
+     * Number of applicable prices returned by each findApplicablePrices call.
+     */
+    public static final String APPLICABLE = PREFIX + ".repository.applicable";
+
+    /**
+     * In-application selection of the winning price.
+     */
+    public static final String SELECTION = PREFIX + ".selection";
+
+    /**
+     * Repository lookups checked against the Bloom filter, tagged by outcome: short_circuited or passed.
+     */
+    public static final String BLOOM_LOOKUPS = PREFIX + ".bloom.lookups";
+
+    /**
+     * Pairs added to the Bloom filter since it was last built.
+     */
+    public static final String BLOOM_KEYS = PREFIX + ".bloom.keys";
+
+    /**
+     * False-positive rate expected from the Bloom filter with the pairs added so far.
+     */
+    public static final String BLOOM_FALSE_POSITIVE_RATE = PREFIX + ".bloom.false.positive.rate";
+
+    /**
+     * Loading and publication of the next in-memory price snapshot, tagged by kind: full or incremental.
+     */
+    public static final String SNAPSHOT_BUILD = PREFIX + ".snapshot.build";
+
+    /**
+     * Version of the in-memory price snapshot serving lookups.
+     */
+    public static final String SNAPSHOT_VERSION = PREFIX + ".snapshot.version";
+
+    /**
+     * Prices held by the in-memory price snapshot serving lookups.
+     */
+    public static final String SNAPSHOT_PRICES = PREFIX + ".snapshot.prices";
+
+    /**
+     * Loading and publication of a brand partition, tagged by kind: full or incremental.
+     */
+    public static final String PARTITION_BUILD = PREFIX + ".partition.build";
+
+    /**
+     * Brand partitions unloaded, tagged by reason: heap, idle or manual.
+     */
+    public static final String PARTITION_EVICTIONS = PREFIX + ".partition.evictions";
+
+    /**
+     * Prices held by a brand partition, tagged by brand; 0 while it is not loaded.
+     */
+    public static final String PARTITION_PRICES = PREFIX + ".partition.prices";
+
+    /**
+     * Estimated heap held by a brand partition, tagged by brand; 0 while it is not loaded.
+     */
+    public static final String PARTITION_BYTES = PREFIX + ".partition.bytes";
+
+    /**
+     * Segment cache lookups, tagged by outcome: hit, negative_hit or miss.
+     */
+    public static final String SEGMENT_CACHE = PREFIX + ".segment.cache";
+
+    /**
+     * Products with segments held by the segment cache.
+     */
+    public static final String SEGMENT_CACHE_PRODUCTS = PREFIX + ".segment.cache.products";
+
+    /**
+     * Per-product price cache lookups, tagged by outcome: hit or miss.
+     */
+    public static final String PRODUCT_CACHE = PREFIX + ".product.cache";
+
+    /**
+     * Price rows held by the per-product price cache.
+     */
+    public static final String PRODUCT_CACHE_ROWS = PREFIX + ".product.cache.rows";
+
+    /**
+     * Price loads of the single-flight layer, tagged by outcome: led, joined or timed_out.
+     */
+    public static final String SINGLE_FLIGHT = PREFIX + ".single.flight";
+
+    /**
+     * Price loads of the single-flight layer currently running.
+     */
+    public static final String SINGLE_FLIGHT_IN_FLIGHT = PREFIX + ".single.flight.in.flight";
+
+    /**
+     * Encoded price response lookups, tagged by outcome: hit or miss.
+     */
+    public static final String RESPONSE_CACHE = PREFIX + ".response.cache";
+
+    /**
+     * Bytes held by the encoded price response cache.
+     */
+    public static final String RESPONSE_CACHE_BYTES = PREFIX + ".response.cache.bytes";
+
+    private PriceMetricNames() {
+    }
+}
@@ -0,0 +1,78 @@
+package com.hicham.technicaltestinditex.infrastructure.startup;
+
+import com.hicham.technicaltestinditex.infrastructure.config.PriceStartupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Replays a representative workload through the HTTP stack and exits, so a JVM started with
+ * {@code -XX:ArchiveClassesAtExit} archives the classes loaded by real requests and not only by startup.
+ * Covers the reference lookups, a miss, the batch and timeline endpoints and the export.
+ * Enabled with {@code prices.startup.training-run=true}, set by the {@code cds-training} profile.
+ * The flag is checked at run time rather than with a bean condition, because Spring AOT fixes
+ * conditions at build time and the archive is trained on the AOT-processed application.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CdsTrainingRunner implements ApplicationRunner {
+
+    private static final List<String> LOOKUPS = List.of(
+            "/api/prices?applicationDate=2020-06-14T10:00:00&productId=35455&brandId=1",
+            "/api/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1",
+            "/api/prices?applicationDate=2020-06-14T21:00:00&productId=35455&brandId=1",
+            "/api/prices?applicationDate=2020-06-15T10:00:00&productId=35455&brandId=1",
+            "/api/prices?applicationDate=2020-06-16T21:00:00&productId=35455&brandId=1",
+            "/api/prices?applicationDate=2020-06-14T10:00:00&productId=99999&brandId=1",
+            "/api/prices/timeline?productId=35455&brandId=1&from=2020-06-14T00:00:00&to=2020-06-16T23:59:59",
+            "/api/prices/export?format=csv"
+    );
+
+    private static final String BATCH = """
+            {"items":[
+            {"applicationDate":"2020-06-14T10:00:00","productId":35455,"brandId":1},
+            {"applicationDate":"2020-06-14T16:00:00","productId":35455,"brandId":1}]}""";
+
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+    private final PriceStartupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!properties.trainingRun()) {
+            return;
+        }
+        String base = "http://localhost:" + environment.getRequiredProperty("local.server.port");
+        HttpClient client = HttpClient.newHttpClient();
+        int failures = 0;
+        for (int round = 0; round < properties.trainingRounds(); round++) {
+            for (String path : LOOKUPS) {
+                failures += send(client, HttpRequest.newBuilder(URI.create(base + path)).GET().build());
+            }
+            failures += send(client, HttpRequest.newBuilder(URI.create(base + "/api/prices/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(BATCH))
+                    .build());
+        }
+        log.info("Training workload replayed {} times, {} unexpected responses; exiting", properties.trainingRounds(), failures);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private static int send(HttpClient client, HttpRequest request) throws Exception {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        // The miss is expected to answer 404
+        return status == 200 || status == 404 ? 0 : 1;
+    }
+}
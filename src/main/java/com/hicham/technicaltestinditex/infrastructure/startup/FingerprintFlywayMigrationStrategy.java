@@ -0,0 +1,140 @@
+package com.hicham.technicaltestinditex.infrastructure.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+/**
+ * Runs Flyway migrations without validating the applied ones when there is nothing new to validate:
+ * the database has no schema history yet, as every start with an in-memory H2, or both the migration
+ * scripts and the schema history are identical to the last run that validated them.
+ * That run is recorded in a fingerprint file holding the database URL, a hash of the scripts and the
+ * row count, checksum sum and last rank of the history. Any difference runs the regular validating migration.
+ */
+@Slf4j
+public class FingerprintFlywayMigrationStrategy implements FlywayMigrationStrategy {
+
+    private final Path fingerprintFile;
+
+    public FingerprintFlywayMigrationStrategy(Path fingerprintFile) {
+        this.fingerprintFile = fingerprintFile;
+    }
+
+    @Override
+    public void migrate(Flyway flyway) {
+        Configuration configuration = flyway.getConfiguration();
+        String scripts = scriptsHash(configuration);
+        String history = history(configuration);
+        if (history == null || canSkipValidation(scripts, history)) {
+            log.info("Migrating without validation: {}", history == null ? "no schema history yet" : "fingerprint unchanged");
+            new FluentConfiguration(configuration.getClassLoader())
+                    .configuration(configuration)
+                    .validateOnMigrate(false)
+                    .load()
+                    .migrate();
+        } else {
+            flyway.migrate();
+        }
+        record(scripts, history(configuration));
+    }
+
+    /**
+     * @return whether the scripts and the schema history match the recorded fingerprint
+     */
+    public boolean canSkipValidation(Flyway flyway) {
+        Configuration configuration = flyway.getConfiguration();
+        String history = history(configuration);
+        return history == null || canSkipValidation(scriptsHash(configuration), history);
+    }
+
+    private boolean canSkipValidation(String scripts, String history) {
+        try {
+            return Files.readString(fingerprintFile, StandardCharsets.UTF_8).equals(scripts + '\n' + history);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Cannot read Flyway fingerprint {}: {}", fingerprintFile, e.getMessage());
+            return false;
+        }
+    }
+
+    private void record(String scripts, String history) {
+        try {
+            Files.writeString(fingerprintFile, scripts + '\n' + history, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Cannot write Flyway fingerprint {}: {}", fingerprintFile, e.getMessage());
+        }
+    }
+
+    /**
+     * SHA-256 over the name and content of every SQL script under the configured locations.
+     */
+    private static String scriptsHash(Configuration configuration) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(configuration.getClassLoader());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Location location : configuration.getLocations()) {
+                String prefix = location.isClassPath() ? "classpath*:" : "file:";
+                Resource[] resources = resolver.getResources(prefix + location.getRootPath() + "/**/*.sql");
+                Arrays.sort(resources, Comparator.comparing(Resource::getFilename));
+                for (Resource resource : resources) {
+                    digest.update(resource.getFilename().getBytes(StandardCharsets.UTF_8));
+                    try (InputStream content = resource.getInputStream()) {
+                        digest.update(content.readAllBytes());
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read Flyway migrations", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the database URL and a summary of the schema history, or {@code null} when there is no history table
+     */
+    private static String history(Configuration configuration) {
+        String table = '"' + configuration.getTable() + '"';
+        if (configuration.getDefaultSchema() != null) {
+            table = '"' + configuration.getDefaultSchema() + "\"." + table;
+        }
+        try (Connection connection = configuration.getDataSource().getConnection()) {
+            String url = connection.getMetaData().getURL();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT COUNT(*), COALESCE(SUM(\"checksum\"), 0), " +
+                         "COALESCE(MAX(\"installed_rank\"), 0) FROM " + table)) {
+                rs.next();
+                return url + ' ' + rs.getLong(1) + ' ' + rs.getLong(2) + ' ' + rs.getLong(3);
+            } catch (SQLException e) {
+                // Missing history table: nothing has been applied yet
+                return null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot read the Flyway schema history", e);
+        }
+    }
+}
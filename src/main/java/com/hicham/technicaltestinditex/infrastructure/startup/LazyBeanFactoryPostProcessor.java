@@ -0,0 +1,58 @@
+package com.hicham.technicaltestinditex.infrastructure.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Marks the beans declared by classes under the given prefixes as lazy, so they are created on first
+ * use instead of during startup. A bean matches when its class, or the configuration class declaring
+ * its factory method, starts with a prefix. Unlike {@code spring.main.lazy-initialization}, the
+ * price lookup path stays eager and the first request does not pay for it.
+ * With Spring AOT the flags are computed at build time and compiled into the bean definitions.
+ */
+@Slf4j
+public class LazyBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> prefixes;
+
+    public LazyBeanFactoryPostProcessor(List<String> prefixes) {
+        this.prefixes = List.copyOf(prefixes);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (prefixes.isEmpty()) {
+            return;
+        }
+        int lazy = 0;
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (!definition.isLazyInit() && matches(definition)) {
+                definition.setLazyInit(true);
+                lazy++;
+            }
+        }
+        log.debug("Deferred {} beans matching {}", lazy, prefixes);
+    }
+
+    private boolean matches(BeanDefinition definition) {
+        if (matches(definition.getBeanClassName())) {
+            return true;
+        }
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            return factoryMethod != null && matches(factoryMethod.getDeclaringClassName());
+        }
+        return false;
+    }
+
+    private boolean matches(String className) {
+        return className != null && prefixes.stream().anyMatch(className::startsWith);
+    }
+}
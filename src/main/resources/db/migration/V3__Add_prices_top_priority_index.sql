@@ -0,0 +1,4 @@
+-- Covering index for the top-1 applicable price lookup.
+-- Equality columns first, then PRIORITY DESC so the winner is the first matching entry,
+-- followed by every projected column so the query never has to visit the table rows.
+CREATE INDEX IDX_PRICES_TOP_PRIORITY ON PRICES(BRAND_ID, PRODUCT_ID, PRIORITY DESC, START_DATE, END_DATE, PRICE_LIST, PRICE, CURR);
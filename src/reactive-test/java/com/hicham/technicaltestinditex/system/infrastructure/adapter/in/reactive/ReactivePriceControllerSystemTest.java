@@ -0,0 +1,73 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.reactive;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Starts the application the way {@code PriceLoadBenchmark} does in reactive mode: the reactive profile
+ * on Netty, reading the database Flyway migrated through R2DBC.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("ReactivePriceController System Tests - REST API End-to-End")
+class ReactivePriceControllerSystemTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @ParameterizedTest(name = "{0} -> price list {1}")
+    @CsvSource({
+            "2020-06-14T10:00:00, 1, 35.5",
+            "2020-06-14T16:00:00, 2, 25.45",
+            "2020-06-14T21:00:00, 1, 35.5",
+            "2020-06-15T10:00:00, 3, 30.5",
+            "2020-06-16T21:00:00, 4, 38.95"
+    })
+    @DisplayName("Should serve the same prices as the servlet stack")
+    void shouldReturnApplicablePrice(String applicationDate, int priceList, double price) {
+        webTestClient.get()
+                .uri(uri -> uri.path("/api/prices")
+                        .queryParam("applicationDate", applicationDate)
+                        .queryParam("productId", 35455)
+                        .queryParam("brandId", 1)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.brandId").isEqualTo(1)
+                .jsonPath("$.priceList").isEqualTo(priceList)
+                .jsonPath("$.price").isEqualTo(price);
+    }
+
+    @Test
+    @DisplayName("Should return 404 when no price applies")
+    void shouldReturnNotFound() {
+        webTestClient.get()
+                .uri("/api/prices?applicationDate=2020-06-14T10:00:00&productId=99999&brandId=1")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo("/api/prices");
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a parameter cannot be converted")
+    void shouldReturnBadRequestForInvalidDate() {
+        webTestClient.get()
+                .uri("/api/prices?applicationDate=invalid&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+    }
+}
@@ -0,0 +1,89 @@
+package com.hicham.technicaltestinditex.unit.application.service;
+
+import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
+import com.hicham.technicaltestinditex.application.port.out.ReactivePriceRepositoryPort;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.service.ReactivePriceService;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactivePriceService Unit Tests")
+class ReactivePriceServiceTest {
+
+    @Mock
+    private ReactivePriceRepositoryPort priceRepositoryPort;
+
+    @InjectMocks
+    private ReactivePriceService priceService;
+
+    private GetPriceQuery request;
+
+    @BeforeEach
+    void setUp() {
+        request = new GetPriceQuery(
+                ProductId.of(35455L),
+                BrandId.of(1L),
+                LocalDateTime.of(2020, 6, 14, 16, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should select the highest priority price with the rule shared with PriceService")
+    void shouldReturnHighestPriorityPrice() {
+        // Given
+        Price base = createPrice(1L, 1, 0, new BigDecimal("35.50"));
+        Price promotion = createPrice(2L, 2, 1, new BigDecimal("25.45"));
+        when(priceRepositoryPort.findApplicablePrices(any(), any(), any()))
+                .thenReturn(Flux.just(base, promotion));
+
+        // When & Then
+        StepVerifier.create(priceService.getPrice(request))
+                .expectNext(promotion)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal PriceNotFoundException when no prices found")
+    void shouldSignalExceptionWhenNoPricesFound() {
+        // Given
+        when(priceRepositoryPort.findApplicablePrices(any(), any(), any()))
+                .thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(priceService.getPrice(request))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(PriceNotFoundException.class)
+                        .hasMessageContaining("No price found for product 35455, brand 1"))
+                .verify();
+    }
+
+    private Price createPrice(Long id, Integer priceList, Integer priority, BigDecimal amount) {
+        return new Price(
+                PriceId.of(id),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                priceList,
+                priority,
+                amount,
+                "EUR"
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.hicham.technicaltestinditex.application.port.in;
+
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking input port for the get price use case.
+ */
+public interface ReactiveGetPriceUseCase {
+
+    /**
+     * Gets the applicable price for the given query.
+     *
+     * @param request the price query
+     * @return the applicable price, or an error signal with PriceNotFoundException if none applies
+     */
+    Mono<Price> getPrice(GetPriceQuery request);
+}
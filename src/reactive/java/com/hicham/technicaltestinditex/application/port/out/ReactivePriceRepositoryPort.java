@@ -0,0 +1,24 @@
+package com.hicham.technicaltestinditex.application.port.out;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking output port for price persistence operations.
+ */
+public interface ReactivePriceRepositoryPort {
+
+    /**
+     * Finds all applicable prices for the given criteria.
+     *
+     * @param applicationDate the date for which to find prices
+     * @param productId       the product identifier
+     * @param brandId         the brand identifier
+     * @return the applicable prices
+     */
+    Flux<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId);
+}
@@ -0,0 +1,28 @@
+package com.hicham.technicaltestinditex.application.service;
+
+import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
+import com.hicham.technicaltestinditex.application.port.in.ReactiveGetPriceUseCase;
+import com.hicham.technicaltestinditex.application.port.out.ReactivePriceRepositoryPort;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.service.PriceSelector;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking application service for the get price use case.
+ * Selection is delegated to the same domain rule used by PriceService.
+ */
+@RequiredArgsConstructor
+public class ReactivePriceService implements ReactiveGetPriceUseCase {
+
+    private final ReactivePriceRepositoryPort priceRepositoryPort;
+
+    @Override
+    public Mono<Price> getPrice(GetPriceQuery request) {
+        return priceRepositoryPort.findApplicablePrices(request.at(), request.productId(), request.brandId())
+                .collectList()
+                .flatMap(prices -> Mono.justOrEmpty(PriceSelector.selectApplicable(prices, request.at())))
+                .switchIfEmpty(Mono.error(() -> PriceNotFoundException.forQuery(request)));
+    }
+}
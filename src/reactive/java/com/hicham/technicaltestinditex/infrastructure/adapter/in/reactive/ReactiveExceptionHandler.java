@@ -0,0 +1,90 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.reactive;
+
+import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.ErrorResponseDto;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * Exception handler of the reactive controllers.
+ * Produces the same error body as GlobalExceptionHandler does for the servlet stack.
+ */
+@ControllerAdvice(basePackages = "com.hicham.technicaltestinditex.infrastructure.adapter.in.reactive")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(PriceNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handlePriceNotFoundException(
+            PriceNotFoundException ex,
+            ServerHttpRequest request
+    ) {
+        if (log.isDebugEnabled()) {
+            log.debug("Price not found: {}", ex.getMessage());
+        }
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponseDto> handleIllegalArgumentException(
+            IllegalArgumentException ex,
+            ServerHttpRequest request
+    ) {
+        log.error("Invalid argument: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponseDto> handleConstraintViolationException(
+            ConstraintViolationException ex,
+            ServerHttpRequest request
+    ) {
+        log.error("Validation error: {}", ex.getMessage());
+        String message = ex.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+        return error(HttpStatus.BAD_REQUEST, message, request);
+    }
+
+    /**
+     * Handles missing parameters and values that cannot be converted to the parameter type.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponseDto> handleServerWebInputException(
+            ServerWebInputException ex,
+            ServerHttpRequest request
+    ) {
+        log.error("Invalid request input: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getReason(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request
+    ) {
+        log.error("Unexpected error: ", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
+    }
+
+    private static ResponseEntity<ErrorResponseDto> error(HttpStatus status, String message, ServerHttpRequest request) {
+        ErrorResponseDto error = ErrorResponseDto.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .message(message)
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(status).body(error);
+    }
+}
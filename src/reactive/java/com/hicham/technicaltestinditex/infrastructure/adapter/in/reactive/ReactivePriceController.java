@@ -0,0 +1,70 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.in.reactive;
+
+import com.hicham.technicaltestinditex.application.port.in.ReactiveGetPriceUseCase;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.dto.PriceResponseDto;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive REST controller for price queries.
+ * Serves the same contract as PriceController on Netty event loops, without blocking.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/prices")
+@RequiredArgsConstructor
+@Validated
+public class ReactivePriceController {
+
+    private final ReactiveGetPriceUseCase getPriceUseCase;
+    private final PriceRestMapper priceRestMapper;
+
+    /**
+     * Gets the applicable price for the given query parameters.
+     *
+     * @param applicationDate the date to check price applicability
+     * @param productId       the product identifier
+     * @param brandId         the brand identifier
+     * @return the applicable price response
+     */
+    @GetMapping
+    public Mono<PriceResponseDto> getPrice(
+            @RequestParam
+            @NotNull(message = "Application date is required")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @RequestParam
+            @NotNull(message = "Product ID is required")
+            @Positive(message = "Product ID must be positive")
+            Long productId,
+
+            @RequestParam
+            @NotNull(message = "Brand ID is required")
+            @Positive(message = "Brand ID must be positive")
+            Long brandId
+    ) {
+        GetPriceQuery request = new GetPriceQuery(
+                ProductId.of(productId),
+                BrandId.of(brandId),
+                applicationDate);
+
+        return getPriceUseCase.getPrice(request)
+                .map(priceRestMapper::toRestResponse);
+    }
+}
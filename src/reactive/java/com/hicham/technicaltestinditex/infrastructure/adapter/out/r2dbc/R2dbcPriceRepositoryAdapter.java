@@ -0,0 +1,56 @@
+package com.hicham.technicaltestinditex.infrastructure.adapter.out.r2dbc;
+
+import com.hicham.technicaltestinditex.application.port.out.ReactivePriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC implementation of ReactivePriceRepositoryPort.
+ * Rows are mapped straight into domain prices on the driver's thread, without blocking.
+ */
+@RequiredArgsConstructor
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepositoryPort {
+
+    private static final String APPLICABLE =
+            "SELECT ID, BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR FROM PRICES " +
+            "WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId " +
+            "AND START_DATE <= :applicationDate AND END_DATE >= :applicationDate";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+        return databaseClient.sql(APPLICABLE)
+                .bind("brandId", brandId.value())
+                .bind("productId", productId.value())
+                .bind("applicationDate", applicationDate)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .all();
+    }
+
+    private static Price toPrice(Readable row) {
+        return new Price(
+                PriceId.of(row.get("ID", Long.class)),
+                BrandId.of(row.get("BRAND_ID", Long.class)),
+                ProductId.of(row.get("PRODUCT_ID", Long.class)),
+                PriceRange.of(
+                        row.get("START_DATE", LocalDateTime.class),
+                        row.get("END_DATE", LocalDateTime.class)
+                ),
+                row.get("PRICE_LIST", Integer.class),
+                row.get("PRIORITY", Integer.class),
+                row.get("PRICE", BigDecimal.class),
+                row.get("CURR", String.class)
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection settings of the reactive price adapter.
+ *
+ * @param url      R2DBC URL; the default pools connections to the same in-memory H2 database Flyway migrates
+ * @param username database user, the one of the JDBC DataSource by default
+ * @param password database password, the one of the JDBC DataSource by default
+ */
+@ConfigurationProperties(prefix = "prices.r2dbc")
+public record PriceR2dbcProperties(
+        @DefaultValue("r2dbc:pool:h2:mem:///testdb?maxSize=16") String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password
+) {}
@@ -0,0 +1,67 @@
+package com.hicham.technicaltestinditex.infrastructure.config;
+
+import com.hicham.technicaltestinditex.application.port.in.ReactiveGetPriceUseCase;
+import com.hicham.technicaltestinditex.application.port.out.ReactivePriceRepositoryPort;
+import com.hicham.technicaltestinditex.application.service.ReactivePriceService;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.r2dbc.R2dbcPriceRepositoryAdapter;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+
+/**
+ * Wires the reactive price stack when the application runs as a reactive web application.
+ * The connection factory is deliberately not exposed as a bean: Spring Boot backs off its
+ * DataSource auto-configuration when one exists, and Flyway and the blocking adapters still need it.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(PriceR2dbcProperties.class)
+public class ReactivePriceConfig implements DisposableBean {
+
+    private final ConnectionFactory connectionFactory;
+
+    public ReactivePriceConfig(PriceR2dbcProperties properties) {
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(properties.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.username())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.password())
+                .build());
+    }
+
+    /**
+     * Serves on Netty event loops; Tomcat is also on the classpath and would otherwise be picked.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient priceDatabaseClient() {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    public ReactivePriceRepositoryPort reactivePriceRepositoryPort(DatabaseClient priceDatabaseClient) {
+        return new R2dbcPriceRepositoryAdapter(priceDatabaseClient);
+    }
+
+    @Bean
+    public ReactiveGetPriceUseCase reactiveGetPriceUseCase(ReactivePriceRepositoryPort reactivePriceRepositoryPort) {
+        return new ReactivePriceService(reactivePriceRepositoryPort);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Disposable pool) {
+            pool.dispose();
+        }
+    }
+}
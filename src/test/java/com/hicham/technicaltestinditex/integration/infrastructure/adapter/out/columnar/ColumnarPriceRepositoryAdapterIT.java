@@ -0,0 +1,147 @@
+package com.hicham.technicaltestinditex.integration.infrastructure.adapter.out.columnar;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.columnar.ColumnarPriceRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(ColumnarPriceRepositoryAdapter.class)
+@TestPropertySource(properties = "prices.repository.adapter=columnar")
+@DisplayName("ColumnarPriceRepositoryAdapter Integration Tests")
+class ColumnarPriceRepositoryAdapterIT {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+
+    private static final String INSERT = "INSERT INTO PRICES " +
+            "(BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR) " +
+            "VALUES (1, ?, '2020-06-14 16:00:00', '2020-06-14 16:30:00.5', 9, 5, 19.99, 'EUR')";
+
+    private static final String INSERT_WHOLE_SECONDS = "INSERT INTO PRICES " +
+            "(BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR) " +
+            "VALUES (1, ?, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 9, 5, 19.99, 'EUR')";
+
+    @Autowired
+    private ColumnarPriceRepositoryAdapter columnarPriceRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should serve the reference scenarios from the columns")
+    void shouldServeLookupsFromColumns() {
+        // When
+        columnarPriceRepositoryAdapter.reload();
+
+        // Then
+        assertThat(columnarPriceRepositoryAdapter.store().size()).isEqualTo(4);
+        assertThat(columnarPriceRepositoryAdapter.boxedKeys()).isEmpty();
+        assertThat(columnarPriceRepositoryAdapter
+                .findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID))
+                .hasValueSatisfying(price -> assertThat(price.getPriceList()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should keep a product with a sub-second date boxed instead of failing the reload")
+    void shouldBoxProductThatDoesNotFit() {
+        // Given
+        jdbcTemplate.update(INSERT, PRODUCT_ID.value());
+
+        // When
+        columnarPriceRepositoryAdapter.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        assertThat(columnarPriceRepositoryAdapter.store().size()).isZero();
+        assertThat(columnarPriceRepositoryAdapter.boxedKeys()).containsExactly(PriceKey.of(BRAND_ID, PRODUCT_ID));
+        assertThat(columnarPriceRepositoryAdapter.findPrices(PRODUCT_ID, BRAND_ID)).hasSize(5);
+        assertThat(columnarPriceRepositoryAdapter.findAllPrices()).hasSize(5);
+        assertThat(columnarPriceRepositoryAdapter
+                .findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 30, 0, 500_000_000), PRODUCT_ID, BRAND_ID))
+                .hasValueSatisfying(price -> assertThat(price.getPriceList()).isEqualTo(9));
+        assertThat(columnarPriceRepositoryAdapter
+                .findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 30, 0, 500_000_001), PRODUCT_ID, BRAND_ID))
+                .hasValueSatisfying(price -> assertThat(price.getPriceList()).isEqualTo(2));
+        assertThat(columnarPriceRepositoryAdapter
+                .findApplicablePrices(LocalDateTime.of(2020, 6, 14, 10, 0), PRODUCT_ID, BRAND_ID))
+                .extracting(Price::getPriceList)
+                .containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should reload only the changed pairs on a change event")
+    void shouldReloadOnlyChangedPairs() {
+        // Given
+        columnarPriceRepositoryAdapter.reload();
+        jdbcTemplate.update(INSERT_WHOLE_SECONDS, 970001L);
+        jdbcTemplate.update(INSERT_WHOLE_SECONDS, 970002L);
+
+        // When
+        columnarPriceRepositoryAdapter.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, ProductId.of(970001L)))));
+
+        // Then
+        assertThat(columnarPriceRepositoryAdapter.store().size()).isEqualTo(5);
+        assertThat(columnarPriceRepositoryAdapter.findPrices(ProductId.of(970001L), BRAND_ID)).hasSize(1);
+        assertThat(columnarPriceRepositoryAdapter.findPrices(ProductId.of(970002L), BRAND_ID))
+                .as("unchanged pair is not read again").isEmpty();
+        assertThat(columnarPriceRepositoryAdapter.findPrices(PRODUCT_ID, BRAND_ID)).hasSize(4);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should keep the changes of concurrent events")
+    void shouldApplyConcurrentChanges() throws Exception {
+        // Given committed rows, so the event threads read them through their own connections
+        columnarPriceRepositoryAdapter.reload();
+        jdbcTemplate.update(INSERT_WHOLE_SECONDS, 970003L);
+        jdbcTemplate.update(INSERT_WHOLE_SECONDS, 970004L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            // When
+            List<Future<?>> events = List.of(970003L, 970004L).stream()
+                    .<Future<?>>map(productId -> executor.submit(() -> {
+                        start.await();
+                        columnarPriceRepositoryAdapter.onPricesChanged(
+                                PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, ProductId.of(productId)))));
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> event : events) {
+                event.get(10, TimeUnit.SECONDS);
+            }
+
+            // Then
+            assertThat(columnarPriceRepositoryAdapter.findPrices(ProductId.of(970003L), BRAND_ID)).hasSize(1);
+            assertThat(columnarPriceRepositoryAdapter.findPrices(ProductId.of(970004L), BRAND_ID)).hasSize(1);
+            assertThat(columnarPriceRepositoryAdapter.store().size()).isEqualTo(6);
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID IN (970003, 970004)");
+            columnarPriceRepositoryAdapter.reload();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hicham.technicaltestinditex.integration.infrastructure.adapter.out.jdbc;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceBulkWriterPort;
+import com.hicham.technicaltestinditex.application.port.out.PriceBulkWriterPort.RejectedPrice;
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc.JdbcPriceBulkWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The writer commits on its own connection, so the test cannot roll it back and cleans up instead
+@JdbcTest
+@Import(JdbcPriceBulkWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("JdbcPriceBulkWriter Integration Tests")
+class JdbcPriceBulkWriterIT {
+
+    private static final long PRODUCT_ID = 980001L;
+
+    @Autowired
+    private JdbcPriceBulkWriter jdbcPriceBulkWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("Should insert a batch and make it visible after commit")
+    void shouldInsertAndCommit() {
+        // When
+        try (PriceBulkWriterPort.Session session = jdbcPriceBulkWriter.openSession()) {
+            List<RejectedPrice> rejected = session.insert(List.of(newPrice(1L, 1), newPrice(1L, 2)));
+            session.commit();
+
+            // Then
+            assertThat(rejected).isEmpty();
+        }
+        assertThat(countRows()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject only the rows refused by the database and keep the rest of the batch")
+    void shouldIsolateRejectedRows() {
+        // When
+        List<RejectedPrice> rejected;
+        try (PriceBulkWriterPort.Session session = jdbcPriceBulkWriter.openSession()) {
+            // Brand 2 does not exist, so its row breaks the foreign key
+            rejected = session.insert(List.of(newPrice(1L, 1), newPrice(2L, 2), newPrice(1L, 3)));
+            session.commit();
+        }
+
+        // Then
+        assertThat(rejected).extracting(RejectedPrice::index).containsExactly(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT PRICE_LIST FROM PRICES WHERE PRODUCT_ID = ? ORDER BY PRICE_LIST", Integer.class, PRODUCT_ID))
+                .containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("Should discard uncommitted rows when the session is closed")
+    void shouldRollBackUncommittedRowsOnClose() {
+        // When
+        try (PriceBulkWriterPort.Session session = jdbcPriceBulkWriter.openSession()) {
+            session.insert(List.of(newPrice(1L, 1)));
+        }
+
+        // Then
+        assertThat(countRows()).isZero();
+    }
+
+    private Integer countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID = ?", Integer.class, PRODUCT_ID);
+    }
+
+    private static NewPrice newPrice(long brandId, int priceList) {
+        return new NewPrice(
+                BrandId.of(brandId),
+                ProductId.of(PRODUCT_ID),
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                priceList,
+                0,
+                new BigDecimal("35.50"),
+                "EUR");
+    }
+}
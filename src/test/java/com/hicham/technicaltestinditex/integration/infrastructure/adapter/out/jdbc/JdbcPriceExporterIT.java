@@ -0,0 +1,68 @@
+package com.hicham.technicaltestinditex.integration.infrastructure.adapter.out.jdbc;
+
+import com.hicham.technicaltestinditex.application.query.PriceExportQuery;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc.JdbcPriceExporter;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceExportConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({JdbcPriceExporter.class, PriceExportConfig.class})
+@TestPropertySource(properties = "prices.export.fetch-size=2")
+@DisplayName("JdbcPriceExporter Integration Tests")
+class JdbcPriceExporterIT {
+
+    @Autowired
+    private JdbcPriceExporter jdbcPriceExporter;
+
+    @Test
+    @DisplayName("Should stream every price ordered by id across several fetches")
+    void shouldStreamEveryPrice() {
+        // Given
+        List<Price> prices = new ArrayList<>();
+
+        // When
+        long rows = jdbcPriceExporter.exportPrices(PriceExportQuery.all(), prices::add);
+
+        // Then
+        assertThat(rows).isEqualTo(4);
+        assertThat(prices).extracting(Price::getPriceList).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Should keep only the prices valid within the window")
+    void shouldFilterByValidityWindow() {
+        // Given
+        List<Price> prices = new ArrayList<>();
+        PriceExportQuery query = new PriceExportQuery(
+                BrandId.of(1L), LocalDateTime.of(2020, 6, 15, 12, 0), LocalDateTime.of(2020, 6, 15, 17, 0));
+
+        // When
+        jdbcPriceExporter.exportPrices(query, prices::add);
+
+        // Then
+        assertThat(prices).extracting(Price::getPriceList).containsExactly(1, 4);
+    }
+
+    @Test
+    @DisplayName("Should export nothing for a brand without prices")
+    void shouldFilterByBrand() {
+        // When
+        long rows = jdbcPriceExporter.exportPrices(new PriceExportQuery(BrandId.of(2L), null, null), price -> { });
+
+        // Then
+        assertThat(rows).isZero();
+    }
+}
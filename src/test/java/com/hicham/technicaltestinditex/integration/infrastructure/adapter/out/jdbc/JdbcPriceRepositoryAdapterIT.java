@@ -0,0 +1,129 @@
+package com.hicham.technicaltestinditex.integration.infrastructure.adapter.out.jdbc;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.jdbc.JdbcPriceRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(JdbcPriceRepositoryAdapter.class)
+@TestPropertySource(properties = "prices.repository.adapter=jdbc")
+@DisplayName("JdbcPriceRepositoryAdapter Integration Tests")
+class JdbcPriceRepositoryAdapterIT {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+
+    @Autowired
+    private JdbcPriceRepositoryAdapter jdbcPriceRepositoryAdapter;
+
+    @Test
+    @DisplayName("Should find every applicable price when several overlap")
+    void shouldFindApplicablePrices() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        // When
+        List<Price> prices = jdbcPriceRepositoryAdapter.findApplicablePrices(applicationDate, PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(prices)
+                .extracting(Price::getPriceList)
+                .containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should map every column into the domain price")
+    void shouldMapRowIntoDomainPrice() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        // When
+        List<Price> prices = jdbcPriceRepositoryAdapter.findApplicablePrices(applicationDate, PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(prices).hasSize(1);
+        Price price = prices.get(0);
+        assertThat(price.getId()).isNotNull();
+        assertThat(price.getBrandId()).isEqualTo(BRAND_ID);
+        assertThat(price.getProductId()).isEqualTo(PRODUCT_ID);
+        assertThat(price.getPriceRange().startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(price.getPriceRange().endDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        assertThat(price.getPriceList()).isEqualTo(1);
+        assertThat(price.getPriority()).isZero();
+        assertThat(price.getPrice()).isEqualByComparingTo(new BigDecimal("35.50"));
+        assertThat(price.getCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("Should return only the highest priority price")
+    void shouldFindHighestPriorityPrice() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        // When
+        Optional<Price> price = jdbcPriceRepositoryAdapter.findHighestPriorityPrice(applicationDate, PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(price).map(Price::getPriceList).contains(2);
+    }
+
+    @Test
+    @DisplayName("Should return empty when no price applies")
+    void shouldReturnEmptyWhenNoPriceApplies() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2019, 1, 1, 10, 0);
+
+        // When
+        Optional<Price> price = jdbcPriceRepositoryAdapter.findHighestPriorityPrice(applicationDate, PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(price).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should group overlapping prices by requested key")
+    void shouldFindPricesByKey() {
+        // Given
+        PriceKey key = PriceKey.of(BRAND_ID, PRODUCT_ID);
+        PriceKey unknown = PriceKey.of(BRAND_ID, ProductId.of(99999L));
+
+        // When
+        Map<PriceKey, List<Price>> prices = jdbcPriceRepositoryAdapter.findPrices(
+                List.of(key, unknown),
+                LocalDateTime.of(2020, 6, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 15, 23, 0));
+
+        // Then
+        assertThat(prices).containsOnlyKeys(key);
+        assertThat(prices.get(key))
+                .extracting(Price::getPriceList)
+                .containsExactlyInAnyOrder(1, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Should find every distinct (brand, product) pair")
+    void shouldFindAllKeys() {
+        // When
+        Set<PriceKey> keys = jdbcPriceRepositoryAdapter.findAllKeys();
+
+        // Then
+        assertThat(keys).containsExactly(PriceKey.of(BRAND_ID, PRODUCT_ID));
+    }
+}
@@ -0,0 +1,138 @@
+package com.hicham.technicaltestinditex.integration.infrastructure.adapter.out.mapped;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped.MappedPriceRepositoryAdapter;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceMappedSnapshotConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({MappedPriceRepositoryAdapter.class, PriceMappedSnapshotConfig.class})
+@TestPropertySource(properties = {
+        "prices.repository.adapter=mapped",
+        "prices.mapped-snapshot.path=target/mapped-snapshot-it/prices.snapshot"
+})
+@DisplayName("MappedPriceRepositoryAdapter Integration Tests")
+class MappedPriceRepositoryAdapterIT {
+
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+
+    private static final String INSERT = "INSERT INTO PRICES " +
+            "(BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR) " +
+            "VALUES (1, ?, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 9, 5, 19.99, 'EUR')";
+
+    @Autowired
+    private MappedPriceRepositoryAdapter mappedPriceRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Rows inserted by a previous test were rolled back, so this maps or rewrites the reference snapshot
+        mappedPriceRepositoryAdapter.open();
+    }
+
+    @Test
+    @DisplayName("Should serve the reference scenarios from the mapped snapshot")
+    void shouldServeLookupsFromSnapshot() {
+        // When
+        Price price = mappedPriceRepositoryAdapter
+                .findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID)
+                .orElseThrow();
+
+        // Then
+        assertThat(mappedPriceRepositoryAdapter.snapshot().size()).isEqualTo(4);
+        assertThat(mappedPriceRepositoryAdapter.snapshot().sourceRows()).isEqualTo(4);
+        assertThat(price.getPriceList()).isEqualTo(2);
+        assertThat(mappedPriceRepositoryAdapter.findAllKeys()).containsExactly(PriceKey.of(BRAND_ID, PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("Should read changed pairs from the database until the snapshot is rewritten")
+    void shouldRouteChangedPairsToDatabase() {
+        // Given
+        jdbcTemplate.update(INSERT, PRODUCT_ID.value());
+
+        // When
+        mappedPriceRepositoryAdapter.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        assertThat(mappedPriceRepositoryAdapter.snapshot().size()).isEqualTo(4);
+        assertThat(mappedPriceRepositoryAdapter.staleKeys()).containsExactly(PriceKey.of(BRAND_ID, PRODUCT_ID));
+        assertThat(mappedPriceRepositoryAdapter
+                .findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID))
+                .hasValueSatisfying(price -> assertThat(price.getPriceList()).isEqualTo(9));
+        assertThat(mappedPriceRepositoryAdapter.findAllPrices()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should rewrite a snapshot whose fingerprint no longer matches PRICES")
+    void shouldRewriteStaleSnapshot() {
+        // Given
+        jdbcTemplate.update(INSERT, 970001L);
+
+        // When
+        mappedPriceRepositoryAdapter.open();
+
+        // Then
+        assertThat(mappedPriceRepositoryAdapter.snapshot().size()).isEqualTo(5);
+        assertThat(mappedPriceRepositoryAdapter.findPrices(ProductId.of(970001L), BRAND_ID))
+                .extracting(Price::getPriceList)
+                .containsExactly(9);
+    }
+
+    @Test
+    @DisplayName("Should rewrite a snapshot after an in-place update that keeps the row count and highest id")
+    void shouldRewriteSnapshotAfterUpdate() {
+        // Given
+        long hash = mappedPriceRepositoryAdapter.snapshot().sourceHash();
+        jdbcTemplate.update("UPDATE PRICES SET PRICE = 19.99 WHERE BRAND_ID = 1 AND PRODUCT_ID = ? AND PRICE_LIST = 2",
+                PRODUCT_ID.value());
+
+        // When
+        mappedPriceRepositoryAdapter.open();
+
+        // Then
+        assertThat(mappedPriceRepositoryAdapter.snapshot().sourceHash()).isNotEqualTo(hash);
+        assertThat(mappedPriceRepositoryAdapter
+                .findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID))
+                .hasValueSatisfying(price -> assertThat(price.getPrice()).isEqualByComparingTo("19.99"));
+    }
+
+    @Test
+    @DisplayName("Should rewrite a snapshot that fails its checksum")
+    void shouldRewriteCorruptedSnapshot() throws IOException {
+        // Given
+        try (FileChannel channel = FileChannel.open(mappedPriceRepositoryAdapter.snapshot().path(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), channel.size() - 1);
+        }
+
+        // When
+        mappedPriceRepositoryAdapter.open();
+
+        // Then
+        assertThat(mappedPriceRepositoryAdapter.snapshot()).isNotNull();
+        assertThat(mappedPriceRepositoryAdapter.findPrices(PRODUCT_ID, BRAND_ID)).hasSize(4);
+    }
+}
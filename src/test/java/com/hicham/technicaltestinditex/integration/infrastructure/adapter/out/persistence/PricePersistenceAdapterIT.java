@@ -2,6 +2,7 @@ package com.hicham.technicaltestinditex.integration.infrastructure.adapter.out.p
 
 import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
 import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
 import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
 import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.PricePersistenceAdapter;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,8 @@ import org.springframework.test.context.jdbc.Sql;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -22,7 +25,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 })
 @Sql(scripts = {
         "/db/migration/V1__Create_brands_and_prices_tables.sql",
-        "/db/migration/V2__Insert_initial_prices_data.sql"
+        "/db/migration/V2__Insert_initial_prices_data.sql",
+        "/db/migration/V3__Add_prices_top_priority_index.sql"
 })
 @DisplayName("PricePersistenceAdapter Integration Tests")
 class PricePersistenceAdapterIT {
@@ -140,5 +144,55 @@ class PricePersistenceAdapterIT {
         assertThat(price.getPrice()).isNotNull();
         assertThat(price.getCurrency()).isNotNull();
     }
-}
 
+    @Test
+    @DisplayName("Should return only the highest priority price when several apply")
+    void shouldFindHighestPriorityPrice() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1L);
+
+        // When
+        Optional<Price> price = pricePersistenceAdapter.findHighestPriorityPrice(
+                applicationDate,
+                productId,
+                brandId
+        );
+
+        // Then
+        assertThat(price).isPresent();
+        assertThat(price.get().getPriceList()).isEqualTo(2);
+        assertThat(price.get().getPriority()).isEqualTo(1);
+        assertThat(price.get().getCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("Should return empty when no price applies for the top-1 lookup")
+    void shouldReturnEmptyHighestPriorityPriceWhenNoneApplies() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2019, 1, 1, 10, 0);
+        ProductId productId = ProductId.of(35455L);
+        BrandId brandId = BrandId.of(1L);
+
+        // When
+        Optional<Price> price = pricePersistenceAdapter.findHighestPriorityPrice(
+                applicationDate,
+                productId,
+                brandId
+        );
+
+        // Then
+        assertThat(price).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find every distinct (brand, product) pair")
+    void shouldFindAllKeys() {
+        // When
+        Set<PriceKey> keys = pricePersistenceAdapter.findAllKeys();
+
+        // Then
+        assertThat(keys).containsExactly(PriceKey.of(BrandId.of(1L), ProductId.of(35455L)));
+    }
+}
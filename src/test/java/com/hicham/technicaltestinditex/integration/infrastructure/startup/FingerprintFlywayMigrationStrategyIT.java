@@ -0,0 +1,64 @@
+package com.hicham.technicaltestinditex.integration.infrastructure.startup;
+
+import com.hicham.technicaltestinditex.infrastructure.startup.FingerprintFlywayMigrationStrategy;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.exception.FlywayValidateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FingerprintFlywayMigrationStrategy Integration Tests")
+class FingerprintFlywayMigrationStrategyIT {
+
+    @TempDir
+    private Path directory;
+
+    private Flyway flyway;
+    private JdbcTemplate jdbcTemplate;
+    private FingerprintFlywayMigrationStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        flyway = Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        strategy = new FingerprintFlywayMigrationStrategy(directory.resolve("flyway.fingerprint"));
+    }
+
+    @Test
+    @DisplayName("Should migrate a fresh database without validation and record its fingerprint")
+    void shouldMigrateFreshDatabase() {
+        // Given
+        assertThat(strategy.canSkipValidation(flyway)).isTrue();
+
+        // When
+        strategy.migrate(flyway);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Integer.class)).isEqualTo(4);
+        assertThat(directory.resolve("flyway.fingerprint")).exists();
+        assertThat(strategy.canSkipValidation(flyway)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should validate again once the schema history no longer matches the fingerprint")
+    void shouldValidateChangedHistory() {
+        // Given
+        strategy.migrate(flyway);
+        jdbcTemplate.update("UPDATE \"flyway_schema_history\" SET \"checksum\" = 1 WHERE \"version\" = '2'");
+
+        // When & Then
+        assertThat(strategy.canSkipValidation(flyway)).isFalse();
+        assertThatThrownBy(() -> strategy.migrate(flyway)).isInstanceOf(FlywayValidateException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "prices.batch.max-size=10")
+@AutoConfigureMockMvc
+@DisplayName("PriceController Batch System Tests - REST API End-to-End")
+class PriceBatchControllerSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should resolve every entry of the batch and report not-found entries individually")
+    void shouldResolveBatch() throws Exception {
+        String body = """
+                {"items": [
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2019-01-01T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items", hasSize(5)))
+                .andExpect(jsonPath("$.found", is(3)))
+                .andExpect(jsonPath("$.notFound", is(2)))
+                .andExpect(jsonPath("$.items[0].status", is("FOUND")))
+                .andExpect(jsonPath("$.items[0].price.priceList", is(1)))
+                .andExpect(jsonPath("$.items[0].price.price", is(35.50)))
+                .andExpect(jsonPath("$.items[1].price.priceList", is(2)))
+                .andExpect(jsonPath("$.items[1].price.price", is(25.45)))
+                .andExpect(jsonPath("$.items[2].status", is("NOT_FOUND")))
+                .andExpect(jsonPath("$.items[2].price").doesNotExist())
+                .andExpect(jsonPath("$.items[3].index", is(3)))
+                .andExpect(jsonPath("$.items[3].price.priceList", is(4)))
+                .andExpect(jsonPath("$.items[4].status", is("NOT_FOUND")))
+                .andExpect(jsonPath("$.items[4].productId", is(99999)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the batch exceeds the maximum size")
+    void shouldReturn400WhenBatchTooLarge() throws Exception {
+        String items = IntStream.range(0, 11)
+                .mapToObj(i -> "{\"applicationDate\": \"2020-06-14T10:00:00\", \"productId\": 35455, \"brandId\": 1}")
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [" + items + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when an entry is invalid")
+    void shouldReturn400WhenEntryIsInvalid() throws Exception {
+        String body = """
+                {"items": [
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": -1, "brandId": 1}
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when an entry is null")
+    void shouldReturn400WhenEntryIsNull() throws Exception {
+        String body = """
+                {"items": [
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                  null
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", is("items[1]: Item must not be null")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the batch is empty")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -158,5 +159,13 @@ class PriceControllerSystemTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @Test
+    @DisplayName("Should not expose the bulk import unless prices.import.enabled is set")
+    void shouldNotExposeImportByDefault() throws Exception {
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType("text/csv")
+                        .content("BRAND_ID,PRODUCT_ID\n"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,82 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("PriceExportController System Tests - REST API End-to-End")
+class PriceExportControllerSystemTest {
+
+    private static final String EXPORT_ENDPOINT = "/api/prices/export";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should stream the prices valid in the window as CSV")
+    void shouldExportCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get(EXPORT_ENDPOINT)
+                        .param("format", "csv")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T16:00:00")
+                        .param("to", "2020-06-14T17:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(content().string(containsString(
+                        "ID,BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR\n")))
+                .andExpect(content().string(containsString(
+                        ",1,35455,2020-06-14T15:00:00,2020-06-14T18:30:00,2,1,25.45,EUR\n")));
+    }
+
+    @Test
+    @DisplayName("Should stream NDJSON by default and export nothing for a brand without prices")
+    void shouldExportNdjsonByDefault() throws Exception {
+        MvcResult result = mockMvc.perform(get(EXPORT_ENDPOINT).param("brandId", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should stream for prices.export.timeout instead of the container's default async timeout")
+    void shouldUseExportTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get(EXPORT_ENDPOINT).param("brandId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown format before streaming")
+    void shouldReturn400ForUnknownFormat() throws Exception {
+        mockMvc.perform(get(EXPORT_ENDPOINT).param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unsupported export format 'xml', expected csv or ndjson")));
+    }
+}
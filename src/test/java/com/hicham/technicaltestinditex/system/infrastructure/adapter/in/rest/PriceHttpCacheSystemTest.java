@@ -0,0 +1,134 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"prices.http-cache.enabled=true", "prices.http-cache.max-age=1d"})
+@AutoConfigureMockMvc
+@DisplayName("Price HTTP Cache System Tests - REST API End-to-End")
+class PriceHttpCacheSystemTest {
+
+    private static final String PRICES_ENDPOINT = "/api/prices";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should stay fresh until the promotion of price list 2 ends at 18:30")
+    void shouldStayFreshUntilSegmentEnds() throws Exception {
+        mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=9000, public"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.EXPIRES))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.priceList", is(2)));
+    }
+
+    @Test
+    @DisplayName("Should cap the freshness of a price that applies until the end of the year")
+    void shouldCapFreshness() throws Exception {
+        mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-16T21:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"))
+                .andExpect(jsonPath("$.priceList", is(4)));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without a body when If-None-Match carries the current ETag")
+    void shouldAnswerNotModified() throws Exception {
+        String etag = mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T12:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should answer 200 when If-None-Match carries the ETag of another price")
+    void shouldAnswerOkForOtherPrice() throws Exception {
+        String etag = mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList", is(2)));
+    }
+
+    @Test
+    @DisplayName("Should give the JSON, CBOR and Smile representations of a price different ETags")
+    void shouldTagEachFormat() throws Exception {
+        String json = etag(MediaType.APPLICATION_JSON);
+        String cbor = etag(MediaType.APPLICATION_CBOR);
+        String smile = etag(MediaType.parseMediaType("application/x-jackson-smile"));
+
+        assertThat(json).isNotEqualTo(cbor).isNotEqualTo(smile);
+        assertThat(cbor).isNotEqualTo(smile);
+
+        mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, cbor))
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    @DisplayName("Should not cache a 404 for a product without prices")
+    void shouldNotCacheNotFound() throws Exception {
+        mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String etag(MediaType format) throws Exception {
+        return mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(format))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(format))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "prices.import.enabled=true")
+@AutoConfigureMockMvc
+@DisplayName("PriceImportController System Tests - REST API End-to-End")
+class PriceImportControllerSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should import valid CSV rows, report invalid ones and serve the imported prices")
+    void shouldImportCsv() throws Exception {
+        String csv = """
+                BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR
+                1,990001,2020-06-14T00:00:00,2020-12-31T23:59:59,1,0,19.99,EUR
+                1,990001,2020-06-14T15:00:00,2020-06-14T18:30:00,2,1,14.99,EUR
+                1,990001,2020-06-15T00:00:00,2020-06-14T00:00:00,3,1,9.99,EUR
+                2,990001,2020-06-14T00:00:00,2020-12-31T23:59:59,1,0,19.99,EUR
+                """;
+
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead", is(4)))
+                .andExpect(jsonPath("$.rowsImported", is(2)))
+                .andExpect(jsonPath("$.rowsRejected", is(2)))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].line", is(4)))
+                .andExpect(jsonPath("$.errors[0].message", is("Start date cannot be after end date")))
+                .andExpect(jsonPath("$.errors[1].line", is(5)));
+
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "990001")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList", is(2)))
+                .andExpect(jsonPath("$.price", is(14.99)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the CSV header lacks a column")
+    void shouldReturn400WhenHeaderIncomplete() throws Exception {
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType("text/csv")
+                        .content("BRAND_ID,PRODUCT_ID\n1,990002\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("CSV header is missing column START_DATE")));
+    }
+}
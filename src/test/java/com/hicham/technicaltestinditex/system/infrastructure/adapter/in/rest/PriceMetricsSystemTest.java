@@ -0,0 +1,105 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Price Metrics System Tests - Micrometer and Prometheus")
+class PriceMetricsSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should count found and not found lookups")
+    void shouldCountOutcomes() throws Exception {
+        // Given
+        double found = outcome("found");
+        double notFound = outcome("not_found");
+        long lookups = applicable().count();
+
+        // When
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound());
+
+        // Then
+        assertThat(outcome("found")).isEqualTo(found + 1);
+        assertThat(outcome("not_found")).isEqualTo(notFound + 1);
+        assertThat(applicable().count()).as("top-1 lookups do not report the applicable set").isEqualTo(lookups);
+    }
+
+    @Test
+    @DisplayName("Should time the use case, repository and mapping stages")
+    void shouldTimeEveryStage() throws Exception {
+        // When
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get("prices.usecase").tag("outcome", "found").timer().count()).isPositive();
+        assertThat(meterRegistry.get("prices.repository").tag("method", "findHighestPriorityPrice").timer().count()).isPositive();
+        assertThat(meterRegistry.get("prices.selection").timer().count()).isPositive();
+        assertThat(meterRegistry.get("prices.rest.mapping").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should expose the histogram in Prometheus format without precomputed percentiles")
+    void shouldExposePrometheusHistogram() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2020-06-14T10:00:00")
+                .param("productId", "35455")
+                .param("brandId", "1"));
+
+        // When
+        ValueAtPercentile[] percentiles = meterRegistry.get("prices.usecase").tag("endpoint", "price").tag("outcome", "found")
+                .timer().takeSnapshot().percentileValues();
+
+        // Then
+        assertThat(percentiles).isEmpty();
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("prices_lookup_outcome_total")))
+                .andExpect(content().string(containsString("prices_usecase_seconds_bucket{endpoint=\"price\",outcome=\"found\",le=")))
+                .andExpect(content().string(not(containsString("quantile="))));
+    }
+
+    private DistributionSummary applicable() {
+        return meterRegistry.get("prices.repository.applicable").summary();
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("prices.lookup.outcome").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,96 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.PriceResponseBodyCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"prices.response-cache.enabled=true", "prices.http-cache.enabled=true"})
+@AutoConfigureMockMvc
+@DisplayName("Price Response Cache System Tests - REST API End-to-End")
+class PriceResponseCacheSystemTest {
+
+    private static final String PRICES_ENDPOINT = "/api/prices";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PriceResponseBodyCache priceResponseBodyCache;
+
+    @Test
+    @DisplayName("Should write the same JSON for every date of the segment from one cached body")
+    void shouldServeCachedJson() throws Exception {
+        // Given
+        String first = mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.priceList", is(2)))
+                .andExpect(jsonPath("$.price", is(25.45)))
+                .andExpect(jsonPath("$.startDate", is("2020-06-14T15:00:00")))
+                .andReturn().getResponse().getContentAsString();
+
+        // When
+        String second = mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T17:45:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should cache each negotiated format separately")
+    void shouldServeCachedCbor() throws Exception {
+        // Given
+        long before = priceResponseBodyCache.size();
+
+        // When
+        byte[] body = mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-16T21:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode price = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(price.get("priceList").asInt()).isEqualTo(4);
+        assertThat(price.get("startDate").toString()).isEqualTo("[2020,6,15,16,0]");
+        assertThat(priceResponseBodyCache.size()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("Should leave unsupported Accept headers to the regular negotiation")
+    void shouldRejectUnsupportedFormat() throws Exception {
+        mockMvc.perform(get(PRICES_ENDPOINT)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isNotAcceptable());
+    }
+}
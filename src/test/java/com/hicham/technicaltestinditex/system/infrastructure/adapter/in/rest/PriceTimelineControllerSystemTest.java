@@ -0,0 +1,75 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Price Timeline System Tests - REST API End-to-End")
+class PriceTimelineControllerSystemTest {
+
+    private static final String TIMELINE_ENDPOINT = "/api/prices/timeline";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should return the winning prices of June 14 and 15 in chronological order with inclusive end dates")
+    void shouldReturnWinningSegments() throws Exception {
+        mockMvc.perform(get(TIMELINE_ENDPOINT)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-15T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId", is(35455)))
+                .andExpect(jsonPath("$.segments", hasSize(6)))
+                .andExpect(jsonPath("$.segments[0].priceList", is(1)))
+                .andExpect(jsonPath("$.segments[0].startDate", is("2020-06-14T00:00:00")))
+                .andExpect(jsonPath("$.segments[0].endDate", is("2020-06-14T14:59:59")))
+                .andExpect(jsonPath("$.segments[1].priceList", is(2)))
+                .andExpect(jsonPath("$.segments[1].startDate", is("2020-06-14T15:00:00")))
+                .andExpect(jsonPath("$.segments[1].endDate", is("2020-06-14T18:30:00")))
+                .andExpect(jsonPath("$.segments[1].price", is(25.45)))
+                .andExpect(jsonPath("$.segments[2].priceList", is(1)))
+                .andExpect(jsonPath("$.segments[2].startDate", is("2020-06-14T18:30:01")))
+                .andExpect(jsonPath("$.segments[3].priceList", is(3)))
+                .andExpect(jsonPath("$.segments[4].priceList", is(1)))
+                .andExpect(jsonPath("$.segments[4].endDate", is("2020-06-15T15:59:59")))
+                .andExpect(jsonPath("$.segments[5].priceList", is(4)))
+                .andExpect(jsonPath("$.segments[5].endDate", is("2020-06-15T23:59:59")));
+    }
+
+    @Test
+    @DisplayName("Should return an empty timeline when no price applies in the window")
+    void shouldReturnEmptyTimeline() throws Exception {
+        mockMvc.perform(get(TIMELINE_ENDPOINT)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2019-01-01T00:00:00")
+                        .param("to", "2019-12-31T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the window ends before it starts")
+    void shouldReturn400WhenWindowReversed() throws Exception {
+        mockMvc.perform(get(TIMELINE_ENDPOINT)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-15T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("From date cannot be after to date")));
+    }
+}
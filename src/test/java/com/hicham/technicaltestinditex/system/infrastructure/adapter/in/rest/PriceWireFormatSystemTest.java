@@ -0,0 +1,133 @@
+package com.hicham.technicaltestinditex.system.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Price Wire Format System Tests - REST API End-to-End")
+class PriceWireFormatSystemTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should answer in CBOR with the same fields as JSON and dates as arrays of numbers")
+    void shouldAnswerInCbor() throws Exception {
+        // When
+        byte[] body = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode price = cbor.readTree(body);
+        assertThat(price.get("productId").asLong()).isEqualTo(35455L);
+        assertThat(price.get("priceList").asInt()).isEqualTo(2);
+        assertThat(price.get("startDate").toString()).isEqualTo("[2020,6,14,15,0]");
+        assertThat(price.get("price").decimalValue()).isEqualByComparingTo("25.45");
+    }
+
+    @Test
+    @DisplayName("Should answer in Smile when requested")
+    void shouldAnswerInSmile() throws Exception {
+        // When
+        byte[] body = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode price = smile.readTree(body);
+        assertThat(price.get("priceList").asInt()).isEqualTo(1);
+        assertThat(price.get("endDate").toString()).isEqualTo("[2020,12,31,23,59,59]");
+        assertThat(price.get("price").decimalValue()).isEqualByComparingTo("35.50");
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default representation")
+    void shouldDefaultToJson() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.priceList", is(1)));
+    }
+
+    @Test
+    @DisplayName("Should read a CBOR batch and answer it in Smile")
+    void shouldResolveBinaryBatch() throws Exception {
+        // Given
+        byte[] request = cbor.writeValueAsBytes(Map.of("items", List.of(
+                Map.of("applicationDate", "2020-06-14T16:00:00", "productId", 35455, "brandId", 1),
+                Map.of("applicationDate", "2020-06-14T10:00:00", "productId", 99999, "brandId", 1))));
+
+        // When
+        byte[] body = mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(SMILE)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode batch = smile.readTree(body);
+        assertThat(batch.get("found").asInt()).isEqualTo(1);
+        assertThat(batch.get("items").get(0).get("price").get("priceList").asInt()).isEqualTo(2);
+        assertThat(batch.get("items").get(1).get("status").asText()).isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Should answer the timeline in CBOR")
+    void shouldAnswerTimelineInCbor() throws Exception {
+        // When
+        byte[] body = mockMvc.perform(get("/api/prices/timeline")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-14T23:59:59")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode timeline = cbor.readTree(body);
+        assertThat(timeline.get("segments")).hasSize(3);
+        assertThat(timeline.get("segments").get(1).get("priceList").asInt()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,68 @@
+package com.hicham.technicaltestinditex.system.infrastructure.config;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.filter.BloomFilteringPriceRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"prices.product-cache.enabled=true", "prices.bloom-filter.enabled=true"})
+@DisplayName("Price Repository Decorators System Tests - Change Events Through the Chain")
+class PriceRepositoryDecoratorsSystemTest {
+
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final String UPDATE_PRICE = "UPDATE PRICES SET PRICE = ? WHERE BRAND_ID = 1 AND PRODUCT_ID = 35455 AND PRICE_LIST = 2";
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void restorePrice() {
+        jdbcTemplate.update(UPDATE_PRICE, new BigDecimal("25.45"));
+        eventPublisher.publishEvent(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+    }
+
+    @Test
+    @DisplayName("Should reload a cached product behind the Bloom filter once its prices changed")
+    void shouldReloadCachedProductAfterChange() {
+        // Given
+        assertThat(priceRepositoryPort).isInstanceOf(BloomFilteringPriceRepositoryPort.class);
+        assertThat(price()).contains(new BigDecimal("25.45"));
+        jdbcTemplate.update(UPDATE_PRICE, new BigDecimal("19.99"));
+        assertThat(price()).as("served from the product cache").contains(new BigDecimal("25.45"));
+
+        // When
+        eventPublisher.publishEvent(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        assertThat(price()).contains(new BigDecimal("19.99"));
+    }
+
+    private Optional<BigDecimal> price() {
+        return priceRepositoryPort.findHighestPriorityPrice(APPLICATION_DATE, PRODUCT_ID, BRAND_ID).map(Price::getPrice);
+    }
+}
@@ -0,0 +1,149 @@
+package com.hicham.technicaltestinditex.system.infrastructure.config;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.filter.BloomFilteringPriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "prices.repository.adapter=stub",
+        "prices.single-flight.enabled=true",
+        "prices.single-flight.timeout=30s",
+        "prices.bloom-filter.enabled=true"
+})
+@DisplayName("Price Repository Single-Flight System Tests - Change Events Through the Chain")
+class PriceRepositorySingleFlightSystemTest {
+
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StubPriceRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should start a new load behind the Bloom filter when the product changed during a running one")
+    void shouldNotShareLoadStartedBeforeChange() throws Exception {
+        // Given a load that started before the change and is still running
+        assertThat(priceRepositoryPort).isInstanceOf(BloomFilteringPriceRepositoryPort.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Price>> stale = executor.submit(() -> priceRepositoryPort.findPrices(PRODUCT_ID, BRAND_ID));
+            assertThat(adapter.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            eventPublisher.publishEvent(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+            Future<List<Price>> fresh = executor.submit(() -> priceRepositoryPort.findPrices(PRODUCT_ID, BRAND_ID));
+
+            // Then
+            assertThat(fresh.get(5, TimeUnit.SECONDS)).extracting(Price::getPrice).containsExactly(new BigDecimal("19.99"));
+            assertThat(meterRegistry.get(PriceMetricNames.SINGLE_FLIGHT).tag("outcome", "joined").counter().count()).isZero();
+            adapter.release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).extracting(Price::getPrice).containsExactly(new BigDecimal("25.45"));
+        } finally {
+            adapter.release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Adapter whose first product load blocks until released and returns the price before the change.
+     */
+    static class StubPriceRepositoryAdapter implements PriceRepositoryPort {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public List<Price> findApplicablePrices(LocalDateTime applicationDate, ProductId productId, BrandId brandId) {
+            return List.of();
+        }
+
+        @Override
+        public List<Price> findPrices(ProductId productId, BrandId brandId) {
+            if (loads.getAndIncrement() > 0) {
+                return List.of(price(new BigDecimal("19.99")));
+            }
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(price(new BigDecimal("25.45")));
+        }
+
+        @Override
+        public Map<PriceKey, List<Price>> findPrices(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+            return Map.of();
+        }
+
+        @Override
+        public List<Price> findAllPrices() {
+            return List.of();
+        }
+
+        @Override
+        public Set<PriceKey> findAllKeys() {
+            return Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID));
+        }
+
+        private static Price price(BigDecimal amount) {
+            return new Price(
+                    PriceId.of(2L),
+                    BRAND_ID,
+                    PRODUCT_ID,
+                    PriceRange.of(LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                    2,
+                    1,
+                    amount,
+                    "EUR"
+            );
+        }
+    }
+
+    @TestConfiguration
+    static class StubAdapterConfig {
+
+        @Bean
+        @Qualifier("priceRepositoryAdapter")
+        StubPriceRepositoryAdapter stubPriceRepositoryAdapter() {
+            return new StubPriceRepositoryAdapter();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hicham.technicaltestinditex.system.infrastructure.config;
+
+import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.cache.SegmentCachingPriceUseCase;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "prices.cache.enabled=true")
+@DisplayName("Price Segment Cache System Tests - Micrometer Binding")
+class PriceSegmentCacheSystemTest {
+
+    @Autowired
+    private GetPriceUseCase getPriceUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should publish the segment cache lookups in the application's registry")
+    void shouldPublishLookups() {
+        // Given
+        assertThat(getPriceUseCase).isInstanceOf(SegmentCachingPriceUseCase.class);
+        double hits = lookups("hit");
+        double misses = lookups("miss");
+        GetPriceQuery query = new GetPriceQuery(ProductId.of(35455L), BrandId.of(1L), LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // When
+        getPriceUseCase.findPrice(query);
+        getPriceUseCase.findPrice(query);
+
+        // Then
+        assertThat(lookups("miss")).isEqualTo(misses + 1);
+        assertThat(lookups("hit")).isEqualTo(hits + 1);
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry.get(PriceMetricNames.SEGMENT_CACHE).tag("outcome", outcome).functionCounter().count();
+    }
+}
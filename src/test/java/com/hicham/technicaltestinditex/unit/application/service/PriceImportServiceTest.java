@@ -0,0 +1,145 @@
+package com.hicham.technicaltestinditex.unit.application.service;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportLine;
+import com.hicham.technicaltestinditex.application.command.PriceImportOptions;
+import com.hicham.technicaltestinditex.application.command.PriceImportReport;
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceBulkWriterPort;
+import com.hicham.technicaltestinditex.application.port.out.PriceBulkWriterPort.RejectedPrice;
+import com.hicham.technicaltestinditex.application.service.PriceImportService;
+import com.hicham.technicaltestinditex.domain.entity.NewPrice;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceRange;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceImportService Unit Tests")
+class PriceImportServiceTest {
+
+    @Mock
+    private PriceBulkWriterPort priceBulkWriterPort;
+
+    @Mock
+    private PriceBulkWriterPort.Session session;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PriceImportService priceImportService;
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(priceBulkWriterPort.openSession()).thenReturn(session);
+    }
+
+    @Test
+    @DisplayName("Should write in batches and commit once the commit interval is reached")
+    void shouldBatchAndCommit() {
+        // Given
+        when(session.insert(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<List<NewPrice>>getArgument(0).size());
+            return List.of();
+        });
+
+        // When
+        PriceImportReport report = priceImportService.importPrices(
+                lines(25).iterator(), new PriceImportOptions(10, 20, 10));
+
+        // Then
+        assertThat(batchSizes).containsExactly(10, 10, 5);
+        verify(session, times(2)).commit();
+        verify(session).close();
+        assertThat(report.rowsRead()).isEqualTo(25);
+        assertThat(report.rowsImported()).isEqualTo(25);
+        assertThat(report.rowsRejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report invalid lines and rows refused by the store without stopping")
+    void shouldReportRejectedRows() {
+        // Given
+        List<PriceImportLine> lines = new ArrayList<>(lines(4));
+        lines.add(1, PriceImportLine.invalid(99, "priority must be >= 0"));
+        when(session.insert(anyList())).thenReturn(List.of(new RejectedPrice(2, "Referential integrity violation")));
+
+        // When
+        PriceImportReport report = priceImportService.importPrices(lines.iterator(), new PriceImportOptions(10, 10, 1));
+
+        // Then
+        assertThat(report.rowsRead()).isEqualTo(5);
+        assertThat(report.rowsImported()).isEqualTo(3);
+        assertThat(report.rowsRejected()).isEqualTo(2);
+        assertThat(report.errors()).hasSize(1);
+        assertThat(report.errors().get(0).lineNumber()).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("Should publish the changed pairs after each commit")
+    void shouldPublishChangesAfterCommit() {
+        // Given
+        when(session.insert(anyList())).thenReturn(List.of());
+
+        // When
+        priceImportService.importPrices(lines(3).iterator(), new PriceImportOptions(10, 10, 10));
+
+        // Then
+        ArgumentCaptor<PricesChangedEvent> event = ArgumentCaptor.forClass(PricesChangedEvent.class);
+        var order = inOrder(session, eventPublisher);
+        order.verify(session).commit();
+        order.verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().keys()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should commit nothing and publish nothing for an empty source")
+    void shouldHandleEmptySource() {
+        // When
+        PriceImportReport report = priceImportService.importPrices(
+                List.<PriceImportLine>of().iterator(), new PriceImportOptions(10, 10, 10));
+
+        // Then
+        assertThat(report.rowsRead()).isZero();
+        verify(session, times(0)).insert(anyList());
+        verify(eventPublisher, times(0)).publishEvent(any());
+    }
+
+    private static List<PriceImportLine> lines(int count) {
+        List<PriceImportLine> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add(PriceImportLine.valid(i + 2, new NewPrice(
+                    BrandId.of(1L),
+                    ProductId.of(1000L + i),
+                    PriceRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                    1,
+                    0,
+                    new BigDecimal("35.50"),
+                    "EUR")));
+        }
+        return lines;
+    }
+}
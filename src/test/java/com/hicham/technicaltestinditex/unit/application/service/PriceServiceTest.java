@@ -1,15 +1,18 @@
 package com.hicham.technicaltestinditex.unit.application.service;
 
 import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceSegmentLookup;
 import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
 import com.hicham.technicaltestinditex.application.service.PriceService;
 import com.hicham.technicaltestinditex.domain.entity.Price;
 import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.application.port.out.PriceLookupMetrics;
 import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,9 +33,13 @@ import static org.mockito.Mockito.when;
 @DisplayName("PriceService Unit Tests")
 class PriceServiceTest {
 
-    @Mock
+    // Real default methods, so the top-1 selection runs over the stubbed applicable prices
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private PriceRepositoryPort priceRepositoryPort;
 
+    @Mock
+    private PriceLookupMetrics priceLookupMetrics;
+
     @InjectMocks
     private PriceService priceService;
 
@@ -59,6 +67,34 @@ class PriceServiceTest {
                 .hasMessageContaining("No price found for product 35455, brand 1");
     }
 
+    @Test
+    @DisplayName("Should return empty instead of throwing when no prices found")
+    void shouldReturnEmptyWhenNoPricesFound() {
+        // Given
+        when(priceRepositoryPort.findApplicablePrices(any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        Optional<Price> response = priceService.findPrice(request);
+
+        // Then
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report the gap without prices when no segment contains the date")
+    void shouldReportGapWhenNoSegmentFound() {
+        // Given
+        when(priceRepositoryPort.findPrices(any(), any())).thenReturn(Collections.emptyList());
+
+        // When
+        PriceSegmentLookup lookup = priceService.lookupSegment(request);
+
+        // Then
+        assertThat(lookup.isFound()).isFalse();
+        assertThat(lookup.gap()).isEqualTo(PriceGap.unbounded());
+    }
+
     @Test
     @DisplayName("Should return price when single applicable price found")
     void shouldReturnPriceWhenSinglePriceFound() {
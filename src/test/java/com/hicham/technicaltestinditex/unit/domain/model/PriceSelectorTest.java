@@ -0,0 +1,90 @@
+package com.hicham.technicaltestinditex.unit.domain.model;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.service.PriceSelector;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceSelector Domain Service Unit Tests")
+class PriceSelectorTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Test
+    @DisplayName("Should select the applicable price with the highest priority")
+    void shouldSelectHighestPriority() {
+        // Given
+        List<Price> prices = List.of(
+                createPrice(1L, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(2L, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)));
+
+        // When
+        Optional<Price> selected = PriceSelector.selectApplicable(prices, AT);
+
+        // Then
+        assertThat(selected).map(Price::getPriceList).contains(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore prices that do not apply at the date")
+    void shouldIgnoreNotApplicablePrices() {
+        // Given
+        List<Price> prices = List.of(
+                createPrice(1L, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(2L, 2, 5, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0)));
+
+        // When
+        Optional<Price> selected = PriceSelector.selectApplicable(prices, AT);
+
+        // Then
+        assertThat(selected).map(Price::getPriceList).contains(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the first price when priorities tie")
+    void shouldKeepFirstOnTie() {
+        // Given
+        List<Price> prices = List.of(
+                createPrice(1L, 1, 1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(2L, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)));
+
+        // When
+        Optional<Price> selected = PriceSelector.selectApplicable(prices, AT);
+
+        // Then
+        assertThat(selected).map(Price::getPriceList).contains(1);
+    }
+
+    @Test
+    @DisplayName("Should return empty when no price applies")
+    void shouldReturnEmptyWhenNoneApplies() {
+        // Given
+        List<Price> prices = List.of(
+                createPrice(1L, 1, 0, LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 12, 31, 23, 59, 59)));
+
+        // When / Then
+        assertThat(PriceSelector.selectApplicable(prices, AT)).isEmpty();
+        assertThat(PriceSelector.selectApplicable(List.of(), AT)).isEmpty();
+    }
+
+    private Price createPrice(Long id, int priceList, int priority, LocalDateTime start, LocalDateTime end) {
+        return new Price(
+                PriceId.of(id),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(start, end),
+                priceList,
+                priority,
+                new BigDecimal("10.00"),
+                "EUR"
+        );
+    }
+}
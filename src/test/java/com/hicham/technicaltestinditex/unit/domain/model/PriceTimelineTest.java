@@ -0,0 +1,218 @@
+package com.hicham.technicaltestinditex.unit.domain.model;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceTimeline Domain Model Unit Tests")
+class PriceTimelineTest {
+
+    private PriceTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        timeline = PriceTimeline.of(List.of(
+                createPrice(1L, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(2L, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                createPrice(3L, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0)),
+                createPrice(4L, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should resolve the five reference scenarios")
+    void shouldResolveReferenceScenarios() {
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 10, 0))).contains(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 16, 0))).contains(2);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 21, 0))).contains(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).contains(3);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 16, 21, 0))).contains(4);
+    }
+
+    @Test
+    @DisplayName("Should split overlapping prices into non-overlapping segments")
+    void shouldBuildNonOverlappingSegments() {
+        // When
+        List<PriceSegment> segments = timeline.segments();
+
+        // Then
+        assertThat(segments)
+                .extracting(segment -> segment.price().getPriceList())
+                .containsExactly(1, 2, 1, 3, 1, 4);
+        for (int i = 1; i < segments.size(); i++) {
+            assertThat(segments.get(i).startDate()).isEqualTo(segments.get(i - 1).endDate());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep inclusive price range bounds")
+    void shouldKeepInclusiveBounds() {
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 18, 30))).contains(2);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1))).contains(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 12, 31, 23, 59, 59))).contains(4);
+        assertThat(priceListAt(LocalDateTime.of(2021, 1, 1, 0, 0))).isEmpty();
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 13, 23, 59, 59))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return empty when no prices are given")
+    void shouldReturnEmptyForEmptyTimeline() {
+        assertThat(PriceTimeline.of(List.of()).findPrice(LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the gap around a date without any price")
+    void shouldFindGapAroundUncoveredDate() {
+        // Given
+        PriceTimeline sparse = PriceTimeline.of(List.of(
+                createPrice(1L, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 14, 9, 59, 59)),
+                createPrice(2L, 2, 0, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 9, 59, 59))
+        ));
+
+        // When
+        Optional<PriceGap> before = sparse.findGap(LocalDateTime.of(2020, 1, 1, 0, 0));
+        Optional<PriceGap> between = sparse.findGap(LocalDateTime.of(2020, 6, 14, 10, 0));
+        Optional<PriceGap> after = sparse.findGap(LocalDateTime.of(2021, 1, 1, 0, 0));
+
+        // Then
+        assertThat(before).contains(PriceGap.of(LocalDateTime.MIN, LocalDateTime.of(2020, 6, 14, 0, 0)));
+        assertThat(between).contains(PriceGap.of(
+                LocalDateTime.of(2020, 6, 14, 9, 59, 59, 1), LocalDateTime.of(2020, 6, 15, 0, 0)));
+        assertThat(after).contains(PriceGap.of(LocalDateTime.of(2020, 6, 15, 9, 59, 59, 1), LocalDateTime.MAX));
+        assertThat(sparse.findGap(LocalDateTime.of(2020, 6, 14, 9, 0))).isEmpty();
+        assertThat(PriceTimeline.empty().findGap(LocalDateTime.of(2020, 6, 14, 10, 0))).contains(PriceGap.unbounded());
+    }
+
+    @Test
+    @DisplayName("Should match the highest priority scan on many overlapping prices")
+    void shouldMatchHighestPriorityScan() {
+        // Given
+        List<Price> prices = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < 200; i++) {
+            prices.add(createPrice((long) i + 1, i + 1, i % 7,
+                    base.plusHours(i * 13L % 240), base.plusHours(i * 13L % 240 + i % 60)));
+        }
+        PriceTimeline bigTimeline = PriceTimeline.of(prices);
+
+        // When & Then
+        for (int hour = 0; hour < 320; hour++) {
+            LocalDateTime date = base.plusHours(hour).plusMinutes(30);
+            Optional<Price> expected = prices.stream()
+                    .filter(price -> price.isApplicableFor(date))
+                    .max(Comparator.comparing(Price::getPriority));
+            assertThat(bigTimeline.findPrice(date)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve the segment or gap around a date like the whole timeline does")
+    void shouldResolveSingleSegmentLikeWholeTimeline() {
+        // Given
+        List<Price> prices = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < 200; i++) {
+            prices.add(createPrice((long) i + 1, i + 1, i % 7,
+                    base.plusHours(i * 13L % 240), base.plusHours(i * 13L % 240 + i % 60)));
+        }
+        PriceTimeline bigTimeline = PriceTimeline.of(prices);
+
+        // When & Then
+        for (int hour = -10; hour < 320; hour++) {
+            for (LocalDateTime date : List.of(base.plusHours(hour), base.plusHours(hour).plusMinutes(30))) {
+                Optional<PriceSegment> segment = PriceTimeline.segmentAt(prices, date);
+                assertThat(segment).isEqualTo(bigTimeline.findSegment(date));
+                if (segment.isEmpty()) {
+                    assertThat(bigTimeline.findGap(date)).contains(PriceTimeline.gapAt(prices, date));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should list the segments overlapping a window clipped to its bounds")
+    void shouldClipSegmentsToWindow() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 12, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 6, 15, 10, 0);
+
+        // When
+        List<PriceSegment> segments = timeline.segmentsBetween(from, to);
+
+        // Then
+        assertThat(segments)
+                .extracting(segment -> segment.price().getPriceList())
+                .containsExactly(1, 2, 1, 3);
+        assertThat(segments.get(0).startDate()).isEqualTo(from);
+        assertThat(segments.get(1).startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(segments.get(3).endDate()).isEqualTo(to.plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should return a single segment for a window inside one segment and none outside every price")
+    void shouldHandleNarrowAndUncoveredWindows() {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        // When
+        List<PriceSegment> inside = timeline.segmentsBetween(at, at);
+        List<PriceSegment> before = timeline.segmentsBetween(
+                LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 6, 13, 23, 59, 59));
+
+        // Then
+        assertThat(inside).extracting(segment -> segment.price().getPriceList()).containsExactly(2);
+        assertThat(inside.get(0).contains(at)).isTrue();
+        assertThat(before).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep a price ending at LocalDateTime.MAX as an unbounded segment")
+    void shouldHandleUnboundedEndDate() {
+        // Given
+        PriceTimeline unbounded = PriceTimeline.of(List.of(
+                createPrice(1L, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.MAX),
+                createPrice(2L, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30))
+        ));
+
+        // When
+        List<PriceSegment> segments = unbounded.segments();
+
+        // Then
+        assertThat(segments).extracting(segment -> segment.price().getPriceList()).containsExactly(1, 2, 1);
+        assertThat(segments.get(2).endDate()).isEqualTo(LocalDateTime.MAX);
+        assertThat(unbounded.findPrice(LocalDateTime.MAX).map(Price::getPriceList)).contains(1);
+        assertThat(unbounded.findGap(LocalDateTime.of(2999, 1, 1, 0, 0))).isEmpty();
+        assertThat(unbounded.segmentsBetween(LocalDateTime.of(2020, 6, 14, 18, 0), LocalDateTime.MAX))
+                .extracting(segment -> segment.price().getPriceList())
+                .containsExactly(2, 1);
+    }
+
+    private Optional<Integer> priceListAt(LocalDateTime date) {
+        return timeline.findPrice(date).map(Price::getPriceList);
+    }
+
+    private Price createPrice(Long id, Integer priceList, Integer priority,
+                              LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.of(
+                PriceId.of(id),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(startDate, endDate),
+                priceList,
+                priority,
+                new BigDecimal("35.50"),
+                "EUR"
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.in.rest;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.PriceHttpCachePolicy;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceHttpCacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceHttpCachePolicy Unit Tests")
+class PriceHttpCachePolicyTest {
+
+    private final PriceHttpCachePolicy policy = new PriceHttpCachePolicy(new PriceHttpCacheProperties(true, Duration.ofDays(1)));
+
+    @Test
+    @DisplayName("Should stay fresh until the winning segment ends, in whole seconds")
+    void shouldStayFreshUntilSegmentEnds() {
+        // Given
+        PriceSegment segment = PriceSegment.of(
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1),
+                createPrice(new BigDecimal("25.45")));
+
+        // When
+        Duration freshness = policy.freshness(segment, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertThat(freshness).isEqualTo(Duration.ofMinutes(150));
+    }
+
+    @Test
+    @DisplayName("Should cap the freshness with the maximum age")
+    void shouldCapFreshness() {
+        // Given
+        PriceHttpCachePolicy capped = new PriceHttpCachePolicy(new PriceHttpCacheProperties(true, Duration.ofHours(1)));
+        PriceSegment segment = PriceSegment.of(
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1),
+                createPrice(new BigDecimal("25.45")));
+
+        // When
+        Duration freshness = capped.freshness(segment, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertThat(freshness).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should use the maximum age for a segment that never ends")
+    void shouldUseMaxAgeForOpenSegment() {
+        // Given
+        PriceSegment segment = PriceSegment.of(
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.MAX,
+                createPrice(new BigDecimal("25.45")));
+
+        // When
+        Duration freshness = policy.freshness(segment, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertThat(freshness).isEqualTo(Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Should keep the ETag for identical prices and change it when the price changes")
+    void shouldChangeEtagWithPrice() {
+        // Given
+        Price price = createPrice(new BigDecimal("25.45"));
+        Price same = createPrice(new BigDecimal("25.45"));
+        Price changed = createPrice(new BigDecimal("26.00"));
+
+        // When
+        String etag = policy.etag(price, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(etag).startsWith("\"2-").endsWith("-json\"");
+        assertThat(policy.etag(same, MediaType.APPLICATION_JSON)).isEqualTo(etag);
+        assertThat(policy.etag(changed, MediaType.APPLICATION_JSON)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should give each format of the same price its own ETag")
+    void shouldChangeEtagWithFormat() {
+        // Given
+        Price price = createPrice(new BigDecimal("25.45"));
+
+        // When
+        String json = policy.etag(price, MediaType.APPLICATION_JSON);
+        String cbor = policy.etag(price, MediaType.APPLICATION_CBOR);
+
+        // Then
+        assertThat(cbor).endsWith("-cbor\"").isNotEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("Should start a response with ETag, Cache-Control and Expires headers")
+    void shouldSetCachingHeaders() {
+        // Given
+        Price price = createPrice(new BigDecimal("25.45"));
+        PriceSegment segment = PriceSegment.of(
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1),
+                price);
+
+        // When
+        ResponseEntity<Void> response = policy.ok(segment, LocalDateTime.of(2020, 6, 14, 18, 0), MediaType.APPLICATION_JSON).build();
+
+        // Then
+        assertThat(response.getHeaders().getETag()).isEqualTo(policy.etag(price, MediaType.APPLICATION_JSON));
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=1800, public");
+        assertThat(response.getHeaders().getExpires()).isPositive();
+    }
+
+    private Price createPrice(BigDecimal amount) {
+        return Price.of(
+                PriceId.of(2L),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                2,
+                1,
+                amount,
+                "EUR"
+        );
+    }
+}
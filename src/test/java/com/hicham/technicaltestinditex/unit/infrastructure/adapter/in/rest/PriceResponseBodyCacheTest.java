@@ -0,0 +1,130 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.PriceResponseBodyCache;
+import com.hicham.technicaltestinditex.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import com.hicham.technicaltestinditex.infrastructure.config.PriceResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceResponseBodyCache Unit Tests")
+class PriceResponseBodyCacheTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceResponseBodyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PriceResponseBodyCache(
+                new PriceResponseCacheProperties(true, DataSize.ofMegabytes(1)),
+                Mappers.getMapper(PriceRestMapper.class),
+                new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()),
+                new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build()),
+                new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build()),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should pick the preferred supported format of the Accept header")
+    void shouldNegotiateFormat() {
+        assertThat(cache.negotiate(null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(cache.negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(cache.negotiate("application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cache.negotiate("*/*, application/x-jackson-smile")).isEqualTo(SMILE);
+        assertThat(cache.negotiate("application/json;q=0.5, application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cache.negotiate("text/csv")).isNull();
+        assertThat(cache.negotiate("not a media type")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should encode a price once per format and reuse the bytes for later lookups")
+    void shouldReuseEncodedBytes() {
+        // Given
+        Price price = createPrice(new BigDecimal("25.45"));
+
+        // When
+        byte[] first = cache.body(price, MediaType.APPLICATION_JSON);
+        byte[] second = cache.body(createPrice(new BigDecimal("25.45")), MediaType.APPLICATION_JSON);
+        byte[] cbor = cache.body(price, MediaType.APPLICATION_CBOR);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(cbor).isNotEqualTo(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{\"productId\":35455,\"brandId\":1,\"priceList\":2,"
+                + "\"startDate\":\"2020-06-14T15:00:00\",\"endDate\":\"2020-06-14T18:30:00\",\"price\":25.45}");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("prices.response.cache").tag("outcome", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.response.cache").tag("outcome", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should encode again when the price changed in place under the same id")
+    void shouldEncodeChangedPrice() {
+        // Given
+        byte[] before = cache.body(createPrice(new BigDecimal("25.45")), MediaType.APPLICATION_JSON);
+
+        // When
+        byte[] after = cache.body(createPrice(new BigDecimal("19.99")), MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(after).isNotEqualTo(before);
+        assertThat(new String(after, StandardCharsets.UTF_8)).contains("\"price\":19.99");
+    }
+
+    @Test
+    @DisplayName("Should drop the bodies of changed products only")
+    void shouldInvalidateChangedProducts() {
+        // Given
+        Price price = createPrice(new BigDecimal("25.45"));
+        cache.body(price, MediaType.APPLICATION_JSON);
+        cache.body(price, SMILE);
+        PriceKey otherProduct = PriceKey.of(BrandId.of(1L), ProductId.of(12345L));
+
+        // When
+        cache.onPricesChanged(PricesChangedEvent.of(Set.of(otherProduct)));
+        long afterOther = cache.size();
+        cache.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(price.getBrandId(), price.getProductId()))));
+
+        // Then
+        assertThat(afterOther).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private Price createPrice(BigDecimal amount) {
+        return Price.of(
+                PriceId.of(2L),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                2,
+                1,
+                amount,
+                "EUR"
+        );
+    }
+}
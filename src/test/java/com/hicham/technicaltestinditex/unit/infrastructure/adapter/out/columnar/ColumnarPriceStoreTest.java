@@ -0,0 +1,185 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.out.columnar;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.columnar.ColumnarPriceStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ColumnarPriceStore Unit Tests")
+class ColumnarPriceStoreTest {
+
+    private static final long BRAND_ID = 1L;
+    private static final long PRODUCT_ID = 35455L;
+
+    private ColumnarPriceStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = ColumnarPriceStore.of(List.of(
+                createPrice(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "35.50", "EUR"),
+                createPrice(5L, 99999L, 1, 0, LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "9.99", "USD"),
+                createPrice(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), "25.45", "EUR"),
+                createPrice(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0), "30.50", "EUR"),
+                createPrice(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "38.95", "EUR")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should resolve the five reference scenarios")
+    void shouldResolveReferenceScenarios() {
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 10, 0))).isEqualTo(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 16, 0))).isEqualTo(2);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 21, 0))).isEqualTo(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 16, 21, 0))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should materialize the winning row with its original values")
+    void shouldMaterializeWinningRow() {
+        // When
+        Price price = store.findHighestPriority(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertThat(price.getId()).isEqualTo(PriceId.of(2L));
+        assertThat(price.getPriceRange()).isEqualTo(PriceRange.of(
+                LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)));
+        assertThat(price.getPrice()).isEqualByComparingTo(new BigDecimal("25.45"));
+        assertThat(price.getCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("Should keep inclusive range bounds, including sub-second dates")
+    void shouldKeepInclusiveBounds() {
+        // Given
+        LocalDateTime end = LocalDateTime.of(2020, 6, 14, 18, 30);
+
+        // When & Then
+        assertThat(priceListAt(end)).isEqualTo(2);
+        assertThat(priceListAt(end.minusNanos(1))).isEqualTo(2);
+        assertThat(priceListAt(end.plusNanos(1))).isEqualTo(1);
+        assertThat(store.findHighestPriority(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 13, 23, 59, 59, 999_999_999))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should only return rows of the requested product")
+    void shouldIsolateProducts() {
+        // When
+        List<Price> applicable = store.findApplicable(BRAND_ID, 99999L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertThat(applicable).extracting(Price::getCurrency).containsExactly("USD");
+        assertThat(store.findProduct(BRAND_ID, PRODUCT_ID)).hasSize(4);
+        assertThat(store.findProduct(BRAND_ID, 12345L)).isEmpty();
+        assertThat(store.findHighestPriority(2L, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep one dictionary entry per currency and report heap usage")
+    void shouldReportHeapUsage() {
+        // Then
+        assertThat(store.size()).isEqualTo(5);
+        assertThat(store.currencyCount()).isEqualTo(2);
+        assertThat(store.heapBytes()).isPositive();
+        assertThat(store.heapBytesPerMillion()).isLessThan(100L * 1_000_000L);
+    }
+
+    @Test
+    @DisplayName("Should reject amounts that do not fit the fixed scale")
+    void shouldRejectAmountsBeyondScale() {
+        // Given
+        Price price = createPrice(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), "35.505", "EUR");
+
+        // When & Then
+        assertThatThrownBy(() -> ColumnarPriceStore.of(List.of(price)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should tell which rows fit the columns without losing precision")
+    void shouldTellWhichRowsFit() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+        // When & Then
+        assertThat(ColumnarPriceStore.Builder.fits(start, end, new BigDecimal("35.50"))).isTrue();
+        assertThat(ColumnarPriceStore.Builder.fits(start, end, new BigDecimal("35.500"))).isTrue();
+        assertThat(ColumnarPriceStore.Builder.fits(start, end, new BigDecimal("35.505"))).isFalse();
+        assertThat(ColumnarPriceStore.Builder.fits(start, end.plusNanos(500_000_000), new BigDecimal("35.50"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should hand back the rows removed from the builder as prices")
+    void shouldRemoveRowsFromBuilder() {
+        // Given
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder();
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+        builder.add(1L, BRAND_ID, PRODUCT_ID, start, end, 1, 0, new BigDecimal("35.50"), "EUR");
+        builder.add(5L, BRAND_ID, 99999L, start, end, 1, 0, new BigDecimal("9.99"), "USD");
+
+        // When
+        List<Price> removed = builder.removeFrom(1);
+
+        // Then
+        assertThat(removed).containsExactly(createPrice(5L, 99999L, 1, 0, start, end, "9.99", "USD"));
+        assertThat(removed.get(0).getPrice()).isEqualByComparingTo(new BigDecimal("9.99"));
+        assertThat(removed.get(0).getCurrency()).isEqualTo("USD");
+        assertThat(builder.size()).isEqualTo(1);
+        assertThat(builder.build().prices()).extracting(Price::getCurrency).containsExactly("EUR");
+    }
+
+    @Test
+    @DisplayName("Should replace, add and remove products while copying the others")
+    void shouldReplaceChangedProducts() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+        Price replacement = createPrice(6L, PRODUCT_ID, 5, 2, start, end, "12.00", "GBP");
+        Price added = createPrice(7L, 40000L, 1, 0, start, end, "7.00", "EUR");
+
+        // When
+        ColumnarPriceStore next = store.withProducts(Map.of(
+                PriceKey.of(BrandId.of(BRAND_ID), ProductId.of(PRODUCT_ID)), List.of(replacement),
+                PriceKey.of(BrandId.of(BRAND_ID), ProductId.of(40000L)), List.of(added),
+                PriceKey.of(BrandId.of(BRAND_ID), ProductId.of(99999L)), List.of()));
+
+        // Then
+        assertThat(next.prices()).extracting(price -> price.getId().value()).containsExactly(6L, 7L);
+        assertThat(next.findHighestPriority(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0)).getCurrency())
+                .isEqualTo("GBP");
+        assertThat(store.size()).isEqualTo(5);
+        assertThat(store.withProducts(Map.of()).prices()).extracting(Price::getCurrency)
+                .containsExactly("EUR", "EUR", "EUR", "EUR", "USD");
+    }
+
+    private int priceListAt(LocalDateTime date) {
+        return store.findHighestPriority(BRAND_ID, PRODUCT_ID, date).getPriceList();
+    }
+
+    private Price createPrice(Long id, long productId, Integer priceList, Integer priority,
+                              LocalDateTime startDate, LocalDateTime endDate, String amount, String currency) {
+        return Price.of(
+                PriceId.of(id),
+                BrandId.of(BRAND_ID),
+                ProductId.of(productId),
+                PriceRange.of(startDate, endDate),
+                priceList,
+                priority,
+                new BigDecimal(amount),
+                currency
+        );
+    }
+}
@@ -0,0 +1,164 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.out.mapped;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped.MappedPriceSnapshot;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.mapped.PriceSnapshotWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedPriceSnapshot Unit Tests")
+class MappedPriceSnapshotTest {
+
+    private static final long BRAND_ID = 1L;
+    private static final long PRODUCT_ID = 35455L;
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("prices.snapshot");
+        write(file, List.of(
+                createPrice(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "35.50", "EUR"),
+                createPrice(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), "25.45", "EUR"),
+                createPrice(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0), "30.50", "EUR"),
+                createPrice(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "38.95", "EUR"),
+                createPrice(5L, 99999L, 1, 0, LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "9.999", "USD")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should resolve the five reference scenarios from the mapped file")
+    void shouldResolveReferenceScenarios() throws IOException {
+        // When
+        MappedPriceSnapshot snapshot = MappedPriceSnapshot.open(file, true);
+
+        // Then
+        assertThat(priceListAt(snapshot, LocalDateTime.of(2020, 6, 14, 10, 0))).isEqualTo(1);
+        assertThat(priceListAt(snapshot, LocalDateTime.of(2020, 6, 14, 16, 0))).isEqualTo(2);
+        assertThat(priceListAt(snapshot, LocalDateTime.of(2020, 6, 14, 21, 0))).isEqualTo(1);
+        assertThat(priceListAt(snapshot, LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+        assertThat(priceListAt(snapshot, LocalDateTime.of(2020, 6, 16, 21, 0))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should read back every price with its header fingerprint")
+    void shouldRoundTripPrices() throws IOException {
+        // When
+        MappedPriceSnapshot snapshot = MappedPriceSnapshot.open(file, true);
+
+        // Then
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThat(snapshot.keyCount()).isEqualTo(2);
+        assertThat(snapshot.sourceRows()).isEqualTo(5);
+        assertThat(snapshot.sourceMaxId()).isEqualTo(5);
+        assertThat(snapshot.sourceHash()).isEqualTo(42L);
+        assertThat(snapshot.findProduct(BRAND_ID, 99999L)).singleElement().satisfies(price -> {
+            assertThat(price.getPrice()).isEqualTo(new BigDecimal("9.999"));
+            assertThat(price.getCurrency()).isEqualTo("USD");
+        });
+        assertThat(snapshot.findProduct(BRAND_ID, 12345L)).isEmpty();
+        assertThat(snapshot.prices()).extracting(Price::getId)
+                .containsExactly(PriceId.of(1L), PriceId.of(2L), PriceId.of(3L), PriceId.of(4L), PriceId.of(5L));
+    }
+
+    @Test
+    @DisplayName("Should keep inclusive range bounds, including sub-second dates")
+    void shouldKeepInclusiveBounds() throws IOException {
+        // Given
+        MappedPriceSnapshot snapshot = MappedPriceSnapshot.open(file, true);
+        LocalDateTime end = LocalDateTime.of(2020, 6, 14, 18, 30);
+
+        // When & Then
+        assertThat(priceListAt(snapshot, end)).isEqualTo(2);
+        assertThat(priceListAt(snapshot, end.plusNanos(1))).isEqualTo(1);
+        assertThat(snapshot.findOverlapping(BRAND_ID, PRODUCT_ID, end.plusNanos(1), end.plusHours(1)))
+                .extracting(Price::getPriceList).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a file whose body does not match its checksum")
+    void shouldRejectCorruptedFile() throws IOException {
+        // Given
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        // When & Then
+        assertThatThrownBy(() -> MappedPriceSnapshot.open(file, true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not a snapshot")
+    void shouldRejectForeignFile() throws IOException {
+        // Given
+        Path other = directory.resolve("prices.csv");
+        Files.writeString(other, "ID,BRAND_ID,PRODUCT_ID\n".repeat(10));
+
+        // When & Then
+        assertThatThrownBy(() -> MappedPriceSnapshot.open(other, false))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("not a price snapshot");
+    }
+
+    @Test
+    @DisplayName("Should reject prices out of order and leave no partial file behind")
+    void shouldRejectUnorderedPrices() throws IOException {
+        // Given
+        Path target = directory.resolve("unordered.snapshot");
+        List<Price> prices = List.of(
+                createPrice(2L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 15, 0, 0), "1.00", "EUR"),
+                createPrice(1L, PRODUCT_ID, 2, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 15, 0, 0), "1.00", "EUR"));
+
+        // When & Then
+        assertThatThrownBy(() -> write(target, prices))
+                .isInstanceOf(IllegalArgumentException.class);
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    private static void write(Path target, List<Price> prices) throws IOException {
+        try (PriceSnapshotWriter writer = PriceSnapshotWriter.create(target)) {
+            for (Price price : prices) {
+                writer.add(price);
+            }
+            writer.finish(prices.size(), prices.stream().mapToLong(price -> price.getId().value()).max().orElse(0), 42L);
+        }
+    }
+
+    private static int priceListAt(MappedPriceSnapshot snapshot, LocalDateTime date) {
+        return snapshot.findHighestPriority(BRAND_ID, PRODUCT_ID, date).getPriceList();
+    }
+
+    private static Price createPrice(Long id, long productId, Integer priceList, Integer priority,
+                                     LocalDateTime startDate, LocalDateTime endDate, String amount, String currency) {
+        return Price.of(
+                PriceId.of(id),
+                BrandId.of(BRAND_ID),
+                ProductId.of(productId),
+                PriceRange.of(startDate, endDate),
+                priceList,
+                priority,
+                new BigDecimal(amount),
+                currency
+        );
+    }
+}
@@ -0,0 +1,225 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.memory.BrandPartition;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.memory.BrandPartitionedPriceRepositoryAdapter;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import com.hicham.technicaltestinditex.infrastructure.config.PricePartitionProperties;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BrandPartitionedPriceRepositoryAdapter Unit Tests")
+class BrandPartitionedPriceRepositoryAdapterTest {
+
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+    private static final BrandId OTHER_BRAND_ID = BrandId.of(2L);
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceJpaRepository priceJpaRepository;
+
+    @Mock
+    private PriceEntityMapper priceEntityMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should load a brand on its first lookup only")
+    void shouldLoadBrandLazily() {
+        // Given
+        BrandPartitionedPriceRepositoryAdapter adapter = adapter(DataSize.ofMegabytes(1), Duration.ZERO);
+        givenBrandPrices(BRAND_ID, 1L, 1);
+
+        // When
+        List<Price> first = adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+        List<Price> second = adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(first).extracting(Price::getPriceList).containsExactly(1);
+        assertThat(second).isEqualTo(first);
+        verify(priceJpaRepository, times(1)).findByBrandId(1L);
+        verify(priceJpaRepository, never()).findByBrandId(2L);
+        assertThat(adapter.partitions()).extracting(BrandPartition::brandId).containsExactly(BRAND_ID);
+        assertThat(adapter.heapBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should not keep a partition for a brand without prices")
+    void shouldNotKeepEmptyBrand() {
+        // Given
+        BrandPartitionedPriceRepositoryAdapter adapter = adapter(DataSize.ofMegabytes(1), Duration.ZERO);
+        when(priceJpaRepository.findByBrandId(99L)).thenReturn(List.of());
+
+        // When
+        List<Price> prices = adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BrandId.of(99L));
+
+        // Then
+        assertThat(prices).isEmpty();
+        assertThat(adapter.partitions()).isEmpty();
+        assertThat(adapter.heapBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload only the changed pairs of loaded brands")
+    void shouldReloadChangedPairsOfLoadedBrandsOnly() {
+        // Given
+        BrandPartitionedPriceRepositoryAdapter adapter = adapter(DataSize.ofMegabytes(1), Duration.ZERO);
+        givenBrandPrices(BRAND_ID, 1L, 1);
+        adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+        PriceEntity changed = new PriceEntity();
+        when(priceJpaRepository.findByBrandIdAndProductId(1L, 35455L)).thenReturn(List.of(changed));
+        when(priceEntityMapper.toDomain(changed)).thenReturn(createPrice(3L, BRAND_ID, 2));
+
+        // When
+        adapter.onPricesChanged(PricesChangedEvent.of(Set.of(
+                PriceKey.of(BRAND_ID, PRODUCT_ID), PriceKey.of(OTHER_BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        assertThat(adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID))
+                .extracting(Price::getPriceList)
+                .containsExactly(2);
+        verify(priceJpaRepository, times(1)).findByBrandId(1L);
+        verify(priceJpaRepository, never()).findByBrandIdAndProductId(2L, 35455L);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used brand when the heap budget is exceeded")
+    void shouldEvictLeastRecentlyUsedBrandOverBudget() {
+        // Given one brand fits in the budget, two do not
+        BrandPartitionedPriceRepositoryAdapter adapter = adapter(DataSize.ofBytes(600), Duration.ZERO);
+        givenBrandPrices(BRAND_ID, 1L, 1);
+        givenBrandPrices(OTHER_BRAND_ID, 2L, 1);
+        adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+
+        // When
+        adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, OTHER_BRAND_ID);
+
+        // Then
+        assertThat(adapter.partitions()).filteredOn(BrandPartition::isLoaded)
+                .extracting(BrandPartition::brandId)
+                .containsExactly(OTHER_BRAND_ID);
+        assertThat(adapter.heapBytes()).isLessThanOrEqualTo(600);
+        assertThat(meterRegistry.get(PriceMetricNames.PARTITION_EVICTIONS).tag("reason", "heap").counter().count())
+                .isEqualTo(1);
+
+        // And the evicted brand loads again on its next lookup
+        assertThat(adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID)).hasSize(1);
+        verify(priceJpaRepository, times(2)).findByBrandId(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict brands not looked up for the idle timeout")
+    void shouldEvictIdleBrands() throws InterruptedException {
+        // Given
+        BrandPartitionedPriceRepositoryAdapter adapter = adapter(DataSize.ofMegabytes(1), Duration.ofMillis(1));
+        givenBrandPrices(BRAND_ID, 1L, 1);
+        adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+        Thread.sleep(10);
+
+        // When
+        adapter.evictIdle();
+
+        // Then
+        assertThat(adapter.partitions()).noneMatch(BrandPartition::isLoaded);
+        assertThat(adapter.heapBytes()).isZero();
+        assertThat(meterRegistry.get(PriceMetricNames.PARTITION_EVICTIONS).tag("reason", "idle").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes of brands that are not loaded")
+    void shouldIgnoreChangesOfUnloadedBrands() {
+        // Given
+        BrandPartitionedPriceRepositoryAdapter adapter = adapter(DataSize.ofMegabytes(1), Duration.ZERO);
+
+        // When
+        adapter.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        verifyNoInteractions(priceJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should publish the prices and estimated heap of each brand partition")
+    void shouldPublishPartitionMetrics() {
+        // Given
+        BrandPartitionedPriceRepositoryAdapter adapter = adapter(DataSize.ofMegabytes(1), Duration.ZERO);
+        givenBrandPrices(BRAND_ID, 1L, 1);
+
+        // When
+        adapter.findPrices(PRODUCT_ID, BRAND_ID);
+        adapter.evict(BRAND_ID);
+
+        // Then
+        assertThat(meterRegistry.get(PriceMetricNames.PARTITION_PRICES).tag("brand", "1").gauge().value()).isZero();
+        assertThat(meterRegistry.get(PriceMetricNames.PARTITION_BUILD).tag("kind", "full").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PriceMetricNames.PARTITION_EVICTIONS).tag("reason", "manual").counter().count())
+                .isEqualTo(1);
+
+        // When
+        adapter.findPrices(PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(meterRegistry.get(PriceMetricNames.PARTITION_PRICES).tag("brand", "1").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(PriceMetricNames.PARTITION_BYTES).tag("brand", "1").gauge().value())
+                .isEqualTo(adapter.heapBytes());
+        verify(priceJpaRepository, never()).findByBrandIdAndProductId(anyLong(), anyLong());
+    }
+
+    private BrandPartitionedPriceRepositoryAdapter adapter(DataSize maxHeap, Duration idleTimeout) {
+        return new BrandPartitionedPriceRepositoryAdapter(priceJpaRepository, priceEntityMapper,
+                new PricePartitionProperties(maxHeap, idleTimeout), meterRegistry);
+    }
+
+    private void givenBrandPrices(BrandId brandId, Long priceId, Integer priceList) {
+        PriceEntity entity = new PriceEntity();
+        entity.setId(priceId);
+        when(priceJpaRepository.findByBrandId(brandId.value())).thenReturn(List.of(entity));
+        when(priceEntityMapper.toDomain(entity)).thenReturn(createPrice(priceId, brandId, priceList));
+    }
+
+    private Price createPrice(Long id, BrandId brandId, Integer priceList) {
+        return new Price(
+                PriceId.of(id),
+                brandId,
+                PRODUCT_ID,
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                priceList,
+                0,
+                new BigDecimal("35.50"),
+                "EUR"
+        );
+    }
+}
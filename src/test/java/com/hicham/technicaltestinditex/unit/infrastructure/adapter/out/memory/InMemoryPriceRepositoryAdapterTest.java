@@ -0,0 +1,124 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.memory.InMemoryPriceRepositoryAdapter;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.memory.PriceSnapshot;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryPriceRepositoryAdapter Unit Tests")
+class InMemoryPriceRepositoryAdapterTest {
+
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final ProductId OTHER_PRODUCT_ID = ProductId.of(35456L);
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceJpaRepository priceJpaRepository;
+
+    @Mock
+    private PriceEntityMapper priceEntityMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InMemoryPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new InMemoryPriceRepositoryAdapter(priceJpaRepository, priceEntityMapper, meterRegistry);
+
+        PriceEntity first = new PriceEntity();
+        PriceEntity second = new PriceEntity();
+        when(priceJpaRepository.findAll()).thenReturn(List.of(first, second));
+        when(priceEntityMapper.toDomain(first)).thenReturn(createPrice(1L, PRODUCT_ID, 1));
+        when(priceEntityMapper.toDomain(second)).thenReturn(createPrice(2L, OTHER_PRODUCT_ID, 1));
+        adapter.reload();
+    }
+
+    @Test
+    @DisplayName("Should reload only the changed pairs into the next snapshot version")
+    void shouldReloadChangedPairsOnly() {
+        // Given
+        PriceSnapshot previous = adapter.snapshot();
+        PriceEntity changed = new PriceEntity();
+        when(priceJpaRepository.findByBrandIdAndProductId(1L, 35455L)).thenReturn(List.of(changed));
+        when(priceEntityMapper.toDomain(changed)).thenReturn(createPrice(3L, PRODUCT_ID, 2));
+
+        // When
+        adapter.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        verify(priceJpaRepository, times(1)).findAll();
+        assertThat(adapter.snapshot().version()).isEqualTo(previous.version() + 1);
+        assertThat(adapter.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID))
+                .extracting(Price::getPriceList)
+                .containsExactly(2);
+        assertThat(adapter.snapshot().index(PriceKey.of(BRAND_ID, OTHER_PRODUCT_ID)))
+                .isSameAs(previous.index(PriceKey.of(BRAND_ID, OTHER_PRODUCT_ID)));
+    }
+
+    @Test
+    @DisplayName("Should leave snapshots already read untouched by later changes")
+    void shouldNotExposeChangesToSnapshotsInUse() {
+        // Given
+        PriceSnapshot inUse = adapter.snapshot();
+        when(priceJpaRepository.findByBrandIdAndProductId(1L, 35455L)).thenReturn(List.of());
+
+        // When
+        adapter.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        assertThat(adapter.findPrices(PRODUCT_ID, BRAND_ID)).isEmpty();
+        assertThat(inUse.index(PriceKey.of(BRAND_ID, PRODUCT_ID)).prices()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should publish the snapshot version and build time as metrics")
+    void shouldPublishSnapshotMetrics() {
+        // When
+        adapter.reload();
+
+        // Then
+        assertThat(meterRegistry.get(PriceMetricNames.SNAPSHOT_VERSION).gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get(PriceMetricNames.SNAPSHOT_PRICES).gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get(PriceMetricNames.SNAPSHOT_BUILD).tag("kind", "full").timer().count())
+                .isEqualTo(2);
+    }
+
+    private Price createPrice(Long id, ProductId productId, Integer priceList) {
+        return new Price(
+                PriceId.of(id),
+                BRAND_ID,
+                productId,
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                priceList,
+                0,
+                new BigDecimal("35.50"),
+                "EUR"
+        );
+    }
+}
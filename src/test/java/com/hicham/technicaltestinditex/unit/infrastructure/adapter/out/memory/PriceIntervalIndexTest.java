@@ -0,0 +1,99 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.memory.PriceIntervalIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceIntervalIndex Unit Tests")
+class PriceIntervalIndexTest {
+
+    private PriceIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = PriceIntervalIndex.of(List.of(
+                createPrice(1L, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(2L, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                createPrice(3L, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0)),
+                createPrice(4L, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should find every price containing the date")
+    void shouldFindOverlappingPrices() {
+        // When
+        List<Price> prices = index.findApplicable(LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertThat(prices)
+                .extracting(Price::getPriceList)
+                .containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should include prices whose range bounds equal the date")
+    void shouldIncludeRangeBounds() {
+        // When
+        List<Price> atStart = index.findApplicable(LocalDateTime.of(2020, 6, 15, 0, 0));
+        List<Price> atEnd = index.findApplicable(LocalDateTime.of(2020, 6, 14, 18, 30));
+
+        // Then
+        assertThat(atStart).extracting(Price::getPriceList).containsExactlyInAnyOrder(1, 3);
+        assertThat(atEnd).extracting(Price::getPriceList).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should return empty list when date is outside every range")
+    void shouldReturnEmptyListOutsideRanges() {
+        // When
+        List<Price> prices = index.findApplicable(LocalDateTime.of(2019, 1, 1, 10, 0));
+
+        // Then
+        assertThat(prices).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan on many overlapping prices")
+    void shouldMatchLinearScan() {
+        // Given
+        List<Price> prices = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < 200; i++) {
+            prices.add(createPrice((long) i + 1, i + 1, i % 5,
+                    base.plusHours(i * 7L % 240), base.plusHours(i * 7L % 240 + i % 50)));
+        }
+        PriceIntervalIndex bigIndex = PriceIntervalIndex.of(prices);
+
+        // When & Then
+        for (int hour = 0; hour < 300; hour++) {
+            LocalDateTime date = base.plusHours(hour);
+            List<Price> expected = prices.stream().filter(price -> price.isApplicableFor(date)).toList();
+            assertThat(bigIndex.findApplicable(date)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private Price createPrice(Long id, Integer priceList, Integer priority,
+                              LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.of(
+                PriceId.of(id),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(startDate, endDate),
+                priceList,
+                priority,
+                new BigDecimal("35.50"),
+                "EUR"
+        );
+    }
+}
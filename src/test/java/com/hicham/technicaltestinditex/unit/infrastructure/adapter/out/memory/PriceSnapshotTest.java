@@ -0,0 +1,92 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.adapter.out.memory;
+
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.adapter.out.memory.PriceSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceSnapshot Unit Tests")
+class PriceSnapshotTest {
+
+    private static final PriceKey FIRST = PriceKey.of(BrandId.of(1L), ProductId.of(35455L));
+    private static final PriceKey SECOND = PriceKey.of(BrandId.of(1L), ProductId.of(35456L));
+
+    private PriceSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = PriceSnapshot.empty().replaceAll(List.of(
+                createPrice(1L, FIRST, 1),
+                createPrice(2L, FIRST, 2),
+                createPrice(3L, SECOND, 1)));
+    }
+
+    @Test
+    @DisplayName("Should index every price by pair in a new version")
+    void shouldIndexEveryPrice() {
+        // Then
+        assertThat(PriceSnapshot.empty().version()).isZero();
+        assertThat(snapshot.version()).isEqualTo(1);
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.priceCount()).isEqualTo(3);
+        assertThat(snapshot.index(FIRST).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should replace only the changed pairs and share the other indexes")
+    void shouldApplyChangesIncrementally() {
+        // When
+        PriceSnapshot next = snapshot.withChanges(Map.of(FIRST, List.of(createPrice(4L, FIRST, 3))));
+
+        // Then
+        assertThat(next.version()).isEqualTo(2);
+        assertThat(next.index(FIRST).prices()).extracting(Price::getPriceList).containsExactly(3);
+        assertThat(next.index(SECOND)).isSameAs(snapshot.index(SECOND));
+        assertThat(next.priceCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should leave the previous version untouched")
+    void shouldKeepPreviousVersionImmutable() {
+        // When
+        snapshot.withChanges(Map.of(SECOND, List.of()));
+
+        // Then
+        assertThat(snapshot.index(SECOND)).isNotNull();
+        assertThat(snapshot.index(FIRST).prices()).extracting(Price::getPriceList).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should remove pairs whose prices were all deleted")
+    void shouldRemoveEmptyPairs() {
+        // When
+        PriceSnapshot next = snapshot.withChanges(Map.of(SECOND, List.of()));
+
+        // Then
+        assertThat(next.index(SECOND)).isNull();
+        assertThat(next.size()).isEqualTo(1);
+        assertThat(next.priceCount()).isEqualTo(2);
+    }
+
+    private Price createPrice(Long id, PriceKey key, Integer priceList) {
+        return new Price(
+                PriceId.of(id),
+                key.brandId(),
+                key.productId(),
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, priceList, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                priceList,
+                priceList - 1,
+                new BigDecimal("35.50"),
+                "EUR"
+        );
+    }
+}
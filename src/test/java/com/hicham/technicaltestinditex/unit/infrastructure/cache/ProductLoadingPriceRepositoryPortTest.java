@@ -0,0 +1,168 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.cache;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.cache.ProductLoadingPriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductLoadingPriceRepositoryPort Unit Tests")
+class ProductLoadingPriceRepositoryPortTest {
+
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final ProductId OTHER_PRODUCT_ID = ProductId.of(35456L);
+    private static final ProductId UNKNOWN_PRODUCT_ID = ProductId.of(99999L);
+
+    @Mock
+    private PriceRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductLoadingPriceRepositoryPort productLoading;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productLoading = new ProductLoadingPriceRepositoryPort(delegate, 3, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should load the prices of a product once and answer every date locally")
+    void shouldAnswerLaterDatesFromLoadedProduct() {
+        // Given
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(
+                createPrice(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30))));
+
+        // When
+        Optional<Price> morning = productLoading.findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 10, 0), PRODUCT_ID, BRAND_ID);
+        Optional<Price> afternoon = productLoading.findHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+        List<Price> before = productLoading.findApplicablePrices(LocalDateTime.of(2019, 1, 1, 0, 0), PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(morning).map(Price::getPriceList).contains(1);
+        assertThat(afternoon).map(Price::getPriceList).contains(2);
+        assertThat(before).isEmpty();
+        verify(delegate, times(1)).findPrices(PRODUCT_ID, BRAND_ID);
+        verify(delegate, never()).findApplicablePrices(any(), any(), any());
+        assertThat(lookups("hit")).isEqualTo(2);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep products without prices so repeated lookups stay local")
+    void shouldKeepUnknownProducts() {
+        // Given
+        when(delegate.findPrices(UNKNOWN_PRODUCT_ID, BRAND_ID)).thenReturn(List.of());
+
+        // When
+        productLoading.findPrices(UNKNOWN_PRODUCT_ID, BRAND_ID);
+        List<Price> prices = productLoading.findPrices(UNKNOWN_PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(prices).isEmpty();
+        verify(delegate, times(1)).findPrices(UNKNOWN_PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should bound the cache by the number of price rows held")
+    void shouldEvictByRows() {
+        // Given a limit of 3 rows
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(
+                createPrice(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30))));
+        when(delegate.findPrices(OTHER_PRODUCT_ID, BRAND_ID)).thenReturn(List.of(
+                createPrice(3L, OTHER_PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                createPrice(4L, OTHER_PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30))));
+
+        // When
+        productLoading.findPrices(PRODUCT_ID, BRAND_ID);
+        productLoading.findPrices(OTHER_PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(productLoading.cachedProducts()).isEqualTo(1);
+        assertThat(meterRegistry.get(PriceMetricNames.PRODUCT_CACHE_ROWS).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should load a changed product again")
+    void shouldDropChangedProducts() {
+        // Given
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID))
+                .thenReturn(List.of(createPrice(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59))))
+                .thenReturn(List.of());
+        productLoading.findPrices(PRODUCT_ID, BRAND_ID);
+
+        // When
+        productLoading.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, PRODUCT_ID))));
+
+        // Then
+        assertThat(productLoading.findPrices(PRODUCT_ID, BRAND_ID)).isEmpty();
+        verify(delegate, times(2)).findPrices(PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should answer window queries from loaded products and delegate the others in one call")
+    void shouldSplitWindowQueries() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 6, 14, 23, 59);
+        Price loaded = createPrice(1L, PRODUCT_ID, 1, 0, from, LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        Price other = createPrice(3L, OTHER_PRODUCT_ID, 1, 0, from, LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(loaded));
+        when(delegate.findPrices(List.of(PriceKey.of(BRAND_ID, OTHER_PRODUCT_ID)), from, to))
+                .thenReturn(Map.of(PriceKey.of(BRAND_ID, OTHER_PRODUCT_ID), List.of(other)));
+        productLoading.findPrices(PRODUCT_ID, BRAND_ID);
+
+        // When
+        Map<PriceKey, List<Price>> prices = productLoading.findPrices(
+                List.of(PriceKey.of(BRAND_ID, PRODUCT_ID), PriceKey.of(BRAND_ID, OTHER_PRODUCT_ID)), from, to);
+
+        // Then
+        assertThat(prices).containsOnly(
+                Map.entry(PriceKey.of(BRAND_ID, PRODUCT_ID), List.of(loaded)),
+                Map.entry(PriceKey.of(BRAND_ID, OTHER_PRODUCT_ID), List.of(other)));
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry.get(PriceMetricNames.PRODUCT_CACHE).tag("outcome", outcome).counter().count();
+    }
+
+    private Price createPrice(Long id, ProductId productId, Integer priceList, Integer priority,
+                              LocalDateTime start, LocalDateTime end) {
+        return new Price(
+                PriceId.of(id),
+                BRAND_ID,
+                productId,
+                PriceRange.of(start, end),
+                priceList,
+                priority,
+                new BigDecimal("35.50"),
+                "EUR"
+        );
+    }
+}
@@ -0,0 +1,224 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.cache;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.exception.PriceNotFoundException;
+import com.hicham.technicaltestinditex.application.port.in.GetPriceUseCase;
+import com.hicham.technicaltestinditex.application.query.GetPriceQuery;
+import com.hicham.technicaltestinditex.application.query.PriceSegmentLookup;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.cache.SegmentCachingPriceUseCase;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SegmentCachingPriceUseCase Unit Tests")
+class SegmentCachingPriceUseCaseTest {
+
+    @Mock
+    private GetPriceUseCase delegate;
+
+    private SegmentCachingPriceUseCase cachingUseCase;
+
+    private PriceSegment segment;
+
+    @BeforeEach
+    void setUp() {
+        cachingUseCase = new SegmentCachingPriceUseCase(delegate, 1000, Duration.ofMinutes(10));
+        segment = PriceSegment.of(
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1),
+                createPrice()
+        );
+    }
+
+    @Test
+    @DisplayName("Should serve any date inside a cached segment without calling the delegate")
+    void shouldHitForAnyDateInsideSegment() {
+        // Given
+        when(delegate.lookupSegment(any())).thenReturn(PriceSegmentLookup.found(segment));
+
+        // When
+        Price first = cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        Price second = cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 17, 12, 45)));
+        Price third = cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 18, 30)));
+
+        // Then
+        assertThat(first).isSameAs(second).isSameAs(third);
+        verify(delegate, times(1)).lookupSegment(any());
+        assertThat(cachingUseCase.hitCount()).isEqualTo(2);
+        assertThat(cachingUseCase.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should call the delegate for dates outside the cached segments")
+    void shouldMissOutsideSegment() {
+        // Given
+        when(delegate.lookupSegment(any())).thenReturn(PriceSegmentLookup.found(segment));
+        cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // When
+        cachingUseCase.getPriceSegment(queryAt(LocalDateTime.of(2020, 6, 14, 18, 30, 1)));
+
+        // Then
+        verify(delegate, times(2)).lookupSegment(any());
+        assertThat(cachingUseCase.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reload a product after it is invalidated")
+    void shouldReloadAfterInvalidation() {
+        // Given
+        when(delegate.lookupSegment(any())).thenReturn(PriceSegmentLookup.found(segment));
+        cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // When
+        cachingUseCase.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BrandId.of(1L), ProductId.of(35455L)))));
+        cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // Then
+        verify(delegate, times(2)).lookupSegment(any());
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that raced with an invalidation of its product")
+    void shouldNotCacheLoadInvalidatedWhileRunning() {
+        // Given a load during which the product changes
+        PriceKey key = PriceKey.of(BrandId.of(1L), ProductId.of(35455L));
+        when(delegate.lookupSegment(any()))
+                .thenAnswer(invocation -> {
+                    cachingUseCase.onPricesChanged(PricesChangedEvent.of(Set.of(key)));
+                    return PriceSegmentLookup.found(segment);
+                })
+                .thenReturn(PriceSegmentLookup.found(segment));
+
+        // When
+        Price stale = cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        cachingUseCase.getPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // Then the raced load is returned, the next one is cached
+        assertThat(stale).isEqualTo(segment.price());
+        verify(delegate, times(2)).lookupSegment(any());
+        assertThat(cachingUseCase.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should publish hits, negative hits and misses as counters")
+    void shouldPublishLookupCounters() {
+        // Given
+        SegmentCachingPriceUseCase negativeCaching = new SegmentCachingPriceUseCase(
+                delegate, 1000, Duration.ofMinutes(10), 1000, Duration.ofMinutes(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        negativeCaching.bindTo(meterRegistry);
+        PriceGap gap = PriceGap.of(LocalDateTime.MIN, LocalDateTime.of(2020, 6, 14, 0, 0));
+        when(delegate.lookupSegment(any()))
+                .thenReturn(PriceSegmentLookup.found(segment))
+                .thenReturn(PriceSegmentLookup.missing(gap));
+
+        // When
+        negativeCaching.findPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        negativeCaching.findPrice(queryAt(LocalDateTime.of(2020, 6, 14, 17, 0)));
+        negativeCaching.findPrice(queryAt(LocalDateTime.of(2019, 1, 1, 10, 0)));
+        negativeCaching.findPrice(queryAt(LocalDateTime.of(2019, 1, 2, 10, 0)));
+
+        // Then
+        assertThat(lookups(meterRegistry, "hit")).isEqualTo(1);
+        assertThat(lookups(meterRegistry, "negative_hit")).isEqualTo(1);
+        assertThat(lookups(meterRegistry, "miss")).isEqualTo(2);
+        assertThat(meterRegistry.get(PriceMetricNames.SEGMENT_CACHE_PRODUCTS).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should throw PriceNotFoundException when the delegate finds no price")
+    void shouldPropagateNotFound() {
+        // Given
+        GetPriceQuery query = queryAt(LocalDateTime.of(2019, 1, 1, 10, 0));
+        when(delegate.lookupSegment(any())).thenReturn(PriceSegmentLookup.missing(PriceGap.unbounded()));
+
+        // When & Then
+        assertThatThrownBy(() -> cachingUseCase.getPrice(query))
+                .isInstanceOf(PriceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated misses inside a cached gap without calling the delegate")
+    void shouldHitNegativeCacheInsideGap() {
+        // Given
+        SegmentCachingPriceUseCase negativeCaching = new SegmentCachingPriceUseCase(
+                delegate, 1000, Duration.ofMinutes(10), 1000, Duration.ofMinutes(1));
+        PriceGap gap = PriceGap.of(LocalDateTime.MIN, LocalDateTime.of(2020, 6, 14, 0, 0));
+        when(delegate.lookupSegment(any())).thenReturn(PriceSegmentLookup.missing(gap));
+
+        // When
+        Optional<Price> first = negativeCaching.findPrice(queryAt(LocalDateTime.of(2019, 1, 1, 10, 0)));
+        Optional<Price> second = negativeCaching.findPrice(queryAt(LocalDateTime.of(2020, 6, 13, 23, 59)));
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(delegate, times(1)).lookupSegment(any());
+        assertThat(negativeCaching.negativeHitCount()).isEqualTo(1);
+        assertThat(negativeCaching.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should forget cached gaps of a product after it is invalidated")
+    void shouldReloadGapAfterInvalidation() {
+        // Given
+        SegmentCachingPriceUseCase negativeCaching = new SegmentCachingPriceUseCase(
+                delegate, 1000, Duration.ofMinutes(10), 1000, Duration.ofMinutes(1));
+        when(delegate.lookupSegment(any()))
+                .thenReturn(PriceSegmentLookup.missing(PriceGap.unbounded()))
+                .thenReturn(PriceSegmentLookup.found(segment));
+        negativeCaching.findPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // When
+        negativeCaching.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BrandId.of(1L), ProductId.of(35455L)))));
+        Optional<Price> price = negativeCaching.findPrice(queryAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // Then
+        assertThat(price).contains(segment.price());
+        verify(delegate, times(2)).lookupSegment(any());
+    }
+
+    private static double lookups(SimpleMeterRegistry meterRegistry, String outcome) {
+        return meterRegistry.get(PriceMetricNames.SEGMENT_CACHE).tag("outcome", outcome).functionCounter().count();
+    }
+
+    private GetPriceQuery queryAt(LocalDateTime at) {
+        return new GetPriceQuery(ProductId.of(35455L), BrandId.of(1L), at);
+    }
+
+    private Price createPrice() {
+        return Price.of(
+                PriceId.of(2L),
+                BrandId.of(1L),
+                ProductId.of(35455L),
+                PriceRange.of(LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                2,
+                1,
+                new BigDecimal("25.45"),
+                "EUR"
+        );
+    }
+}
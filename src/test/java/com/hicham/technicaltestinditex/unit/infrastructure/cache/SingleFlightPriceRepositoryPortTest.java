@@ -0,0 +1,224 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.cache;
+
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.cache.SingleFlightPriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SingleFlightPriceRepositoryPort Unit Tests")
+class SingleFlightPriceRepositoryPortTest {
+
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+    private static final ProductId PRODUCT_ID = ProductId.of(35455L);
+    private static final int CALLERS = 8;
+
+    private static final Price BASE_PRICE = createPrice(1L, 1, 0,
+            LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price AFTERNOON_PRICE = createPrice(2L, 2, 1,
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+
+    @Mock
+    private PriceRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one load between concurrent lookups of a product at different dates")
+    void shouldCoalesceConcurrentLookups() throws Exception {
+        // Given
+        SingleFlightPriceRepositoryPort singleFlight = new SingleFlightPriceRepositoryPort(delegate, Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID)).thenAnswer(invocation -> {
+            release.await();
+            return List.of(BASE_PRICE, AFTERNOON_PRICE);
+        });
+
+        // When
+        List<Future<List<Price>>> lookups = new ArrayList<>();
+        for (int caller = 0; caller < CALLERS; caller++) {
+            LocalDateTime date = caller % 2 == 0 ? LocalDateTime.of(2020, 6, 14, 10, 0) : LocalDateTime.of(2020, 6, 14, 16, 0);
+            lookups.add(executor.submit(() -> singleFlight.findApplicablePrices(date, PRODUCT_ID, BRAND_ID)));
+        }
+        awaitLoads("joined", CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (int caller = 0; caller < CALLERS; caller++) {
+            assertThat(lookups.get(caller).get(5, TimeUnit.SECONDS))
+                    .extracting(Price::getPriceList)
+                    .containsExactlyElementsOf(caller % 2 == 0 ? List.of(1) : List.of(1, 2));
+        }
+        verify(delegate, times(1)).findPrices(PRODUCT_ID, BRAND_ID);
+        assertThat(loads("led")).isEqualTo(1);
+        assertThat(loads("joined")).isEqualTo(CALLERS - 1);
+        assertThat(meterRegistry.get(PriceMetricNames.SINGLE_FLIGHT_IN_FLIGHT).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should share the top-1 query between concurrent lookups of a product at the same date")
+    void shouldCoalesceConcurrentTopOneLookups() throws Exception {
+        // Given
+        SingleFlightPriceRepositoryPort singleFlight = new SingleFlightPriceRepositoryPort(delegate, Duration.ofSeconds(10), meterRegistry);
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findHighestPriorityPrice(date, PRODUCT_ID, BRAND_ID)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(AFTERNOON_PRICE);
+        });
+
+        // When
+        List<Future<Optional<Price>>> lookups = new ArrayList<>();
+        for (int caller = 0; caller < CALLERS; caller++) {
+            lookups.add(executor.submit(() -> singleFlight.findHighestPriorityPrice(date, PRODUCT_ID, BRAND_ID)));
+        }
+        awaitLoads("joined", CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<Optional<Price>> lookup : lookups) {
+            assertThat(lookup.get(5, TimeUnit.SECONDS)).contains(AFTERNOON_PRICE);
+        }
+        verify(delegate, times(1)).findHighestPriorityPrice(date, PRODUCT_ID, BRAND_ID);
+        verify(delegate, never()).findPrices(PRODUCT_ID, BRAND_ID);
+        assertThat(meterRegistry.get(PriceMetricNames.SINGLE_FLIGHT_IN_FLIGHT).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail every waiting lookup when the shared load fails")
+    void shouldPropagateFailureToWaitingLookups() throws Exception {
+        // Given
+        SingleFlightPriceRepositoryPort singleFlight = new SingleFlightPriceRepositoryPort(delegate, Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID)).thenAnswer(invocation -> {
+            release.await();
+            throw new IllegalStateException("database unavailable");
+        });
+
+        // When
+        List<Future<List<Price>>> lookups = new ArrayList<>();
+        for (int caller = 0; caller < CALLERS; caller++) {
+            lookups.add(executor.submit(() -> singleFlight.findPrices(PRODUCT_ID, BRAND_ID)));
+        }
+        awaitLoads("joined", CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<List<Price>> lookup : lookups) {
+            assertThatThrownBy(() -> lookup.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("database unavailable");
+        }
+        verify(delegate, times(1)).findPrices(PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should query directly once the shared load exceeds the timeout")
+    void shouldQueryDirectlyAfterTimeout() throws Exception {
+        // Given
+        SingleFlightPriceRepositoryPort singleFlight = new SingleFlightPriceRepositoryPort(delegate, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return List.of(BASE_PRICE);
+                })
+                .thenReturn(List.of(BASE_PRICE, AFTERNOON_PRICE));
+        Future<List<Price>> stuck = executor.submit(() -> singleFlight.findPrices(PRODUCT_ID, BRAND_ID));
+        awaitLoads("led", 1);
+
+        // When
+        List<Price> prices = singleFlight.findPrices(PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(prices).containsExactly(BASE_PRICE, AFTERNOON_PRICE);
+        assertThat(loads("timed_out")).isEqualTo(1);
+        release.countDown();
+        assertThat(stuck.get(5, TimeUnit.SECONDS)).containsExactly(BASE_PRICE);
+    }
+
+    @Test
+    @DisplayName("Should start a new load for lookups that do not overlap")
+    void shouldNotReuseCompletedLoads() {
+        // Given
+        SingleFlightPriceRepositoryPort singleFlight = new SingleFlightPriceRepositoryPort(delegate, Duration.ofSeconds(10), meterRegistry);
+        when(delegate.findPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(BASE_PRICE, AFTERNOON_PRICE));
+
+        // When
+        List<Price> morning = singleFlight.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 10, 0), PRODUCT_ID, BRAND_ID);
+        List<Price> afternoon = singleFlight.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(morning).containsExactly(BASE_PRICE);
+        assertThat(afternoon).containsExactly(BASE_PRICE, AFTERNOON_PRICE);
+        verify(delegate, times(2)).findPrices(PRODUCT_ID, BRAND_ID);
+        assertThat(loads("led")).isEqualTo(2);
+    }
+
+    private void awaitLoads(String outcome, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads(outcome) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(loads(outcome)).isEqualTo(expected);
+    }
+
+    private double loads(String outcome) {
+        return meterRegistry.get(PriceMetricNames.SINGLE_FLIGHT).tag("outcome", outcome).counter().count();
+    }
+
+    private static Price createPrice(Long id, Integer priceList, Integer priority, LocalDateTime start, LocalDateTime end) {
+        return new Price(
+                PriceId.of(id),
+                BRAND_ID,
+                PRODUCT_ID,
+                PriceRange.of(start, end),
+                priceList,
+                priority,
+                new BigDecimal("35.50"),
+                "EUR"
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.exporter;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportLine;
+import com.hicham.technicaltestinditex.domain.entity.Price;
+import com.hicham.technicaltestinditex.domain.valueObject.*;
+import com.hicham.technicaltestinditex.infrastructure.exporter.PriceExportFormat;
+import com.hicham.technicaltestinditex.infrastructure.exporter.PriceLineWriter;
+import com.hicham.technicaltestinditex.infrastructure.importer.PriceImportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PriceExportFormat Unit Tests")
+class PriceExportFormatTest {
+
+    private static final Price PRICE = new Price(
+            PriceId.of(2L),
+            BrandId.of(1L),
+            ProductId.of(35455L),
+            PriceRange.of(LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+            2,
+            1,
+            new BigDecimal("25.45"),
+            "EUR"
+    );
+
+    @Test
+    @DisplayName("Should write CSV lines under a header with the PRICES column names")
+    void shouldWriteCsv() throws IOException {
+        // When
+        String output = write(PriceExportFormat.CSV, List.of(PRICE));
+
+        // Then
+        assertThat(output).isEqualTo("""
+                ID,BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR
+                2,1,35455,2020-06-14T15:00:00,2020-06-14T18:30:00,2,1,25.45,EUR
+                """);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line with exact decimals")
+    void shouldWriteNdjson() throws IOException {
+        // When
+        String output = write(PriceExportFormat.NDJSON, List.of(PRICE, PRICE));
+
+        // Then
+        assertThat(output.lines()).hasSize(2);
+        assertThat(output.lines().findFirst()).contains(
+                "{\"id\":2,\"brandId\":1,\"productId\":35455,\"startDate\":\"2020-06-14T15:00:00\","
+                        + "\"endDate\":\"2020-06-14T18:30:00\",\"priceList\":2,\"priority\":1,\"price\":25.45,\"currency\":\"EUR\"}");
+    }
+
+    @Test
+    @DisplayName("Should write the header even when no price is exported")
+    void shouldWriteHeaderForEmptyCsv() throws IOException {
+        assertThat(write(PriceExportFormat.CSV, List.of()))
+                .isEqualTo("ID,BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR\n");
+        assertThat(write(PriceExportFormat.NDJSON, List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should produce output the bulk import reads back")
+    void shouldRoundTripThroughImport() throws IOException {
+        for (PriceExportFormat format : PriceExportFormat.values()) {
+            // Given
+            String output = write(format, List.of(PRICE));
+
+            // When
+            List<PriceImportLine> lines = new ArrayList<>();
+            PriceImportFormat.valueOf(format.name()).read(new StringReader(output)).forEachRemaining(lines::add);
+
+            // Then
+            assertThat(lines).hasSize(1);
+            assertThat(lines.get(0).isValid()).isTrue();
+            assertThat(lines.get(0).price().priceRange()).isEqualTo(PRICE.getPriceRange());
+            assertThat(lines.get(0).price().price()).isEqualTo(PRICE.getPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown format names")
+    void shouldRejectUnknownFormat() {
+        assertThat(PriceExportFormat.fromName("CSV")).isEqualTo(PriceExportFormat.CSV);
+        assertThatThrownBy(() -> PriceExportFormat.fromName("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported export format 'xml'");
+    }
+
+    private static String write(PriceExportFormat format, List<Price> prices) throws IOException {
+        StringWriter output = new StringWriter();
+        PriceLineWriter writer = format.open(output);
+        for (Price price : prices) {
+            writer.write(price);
+        }
+        writer.flush();
+        return output.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.filter;
+
+import com.hicham.technicaltestinditex.application.event.PricesChangedEvent;
+import com.hicham.technicaltestinditex.application.port.out.PriceRepositoryPort;
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.filter.BloomFilteringPriceRepositoryPort;
+import com.hicham.technicaltestinditex.infrastructure.metrics.PriceMetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BloomFilteringPriceRepositoryPort Unit Tests")
+class BloomFilteringPriceRepositoryPortTest {
+
+    private static final BrandId BRAND_ID = BrandId.of(1L);
+    private static final ProductId KNOWN_PRODUCT = ProductId.of(35455L);
+    private static final ProductId UNKNOWN_PRODUCT = ProductId.of(99999L);
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BloomFilteringPriceRepositoryPort bloomFiltering;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bloomFiltering = new BloomFilteringPriceRepositoryPort(delegate, 1000, 0.001, meterRegistry);
+        when(delegate.findAllKeys()).thenReturn(Set.of(PriceKey.of(BRAND_ID, KNOWN_PRODUCT)));
+        bloomFiltering.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should answer unknown pairs without calling the delegate")
+    void shouldShortCircuitUnknownPair() {
+        // When
+        Optional<?> price = bloomFiltering.findHighestPriorityPrice(APPLICATION_DATE, UNKNOWN_PRODUCT, BRAND_ID);
+
+        // Then
+        assertThat(price).isEmpty();
+        verify(delegate, never()).findHighestPriorityPrice(any(), any(), any());
+        assertThat(lookups("short_circuited")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should delegate lookups of stored pairs")
+    void shouldDelegateKnownPair() {
+        // Given
+        when(delegate.findPrices(KNOWN_PRODUCT, BRAND_ID)).thenReturn(List.of());
+
+        // When
+        bloomFiltering.findPrices(KNOWN_PRODUCT, BRAND_ID);
+
+        // Then
+        verify(delegate).findPrices(KNOWN_PRODUCT, BRAND_ID);
+        assertThat(lookups("passed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only send possibly stored pairs of a batch to the delegate")
+    void shouldFilterBatchKeys() {
+        // Given
+        PriceKey known = PriceKey.of(BRAND_ID, KNOWN_PRODUCT);
+        PriceKey unknown = PriceKey.of(BRAND_ID, UNKNOWN_PRODUCT);
+
+        // When
+        bloomFiltering.findPrices(List.of(known, unknown), APPLICATION_DATE, APPLICATION_DATE);
+
+        // Then
+        verify(delegate).findPrices(eq(List.of(known)), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should let lookups through once a change event adds the pair")
+    void shouldAddPairsOnChange() {
+        // When
+        bloomFiltering.onPricesChanged(PricesChangedEvent.of(Set.of(PriceKey.of(BRAND_ID, UNKNOWN_PRODUCT))));
+        bloomFiltering.findApplicablePrices(APPLICATION_DATE, UNKNOWN_PRODUCT, BRAND_ID);
+
+        // Then
+        verify(delegate).findApplicablePrices(APPLICATION_DATE, UNKNOWN_PRODUCT, BRAND_ID);
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry.get(PriceMetricNames.BLOOM_LOOKUPS).tag("outcome", outcome).counter().count();
+    }
+}
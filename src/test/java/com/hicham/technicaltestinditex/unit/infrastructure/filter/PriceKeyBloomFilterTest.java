@@ -0,0 +1,82 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.filter;
+
+import com.hicham.technicaltestinditex.domain.valueObject.BrandId;
+import com.hicham.technicaltestinditex.domain.valueObject.PriceKey;
+import com.hicham.technicaltestinditex.domain.valueObject.ProductId;
+import com.hicham.technicaltestinditex.infrastructure.filter.PriceKeyBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PriceKeyBloomFilter Unit Tests")
+class PriceKeyBloomFilterTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    @DisplayName("Should never reject a pair that was added")
+    void shouldHaveNoFalseNegatives() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(KEYS, 0.01);
+        for (long i = 1; i <= KEYS; i++) {
+            filter.add(key(1L + i % 3, i));
+        }
+
+        // When & Then
+        for (long i = 1; i <= KEYS; i++) {
+            assertThat(filter.mightContain(key(1L + i % 3, i))).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(KEYS);
+    }
+
+    @Test
+    @DisplayName("Should keep the false-positive rate close to the configured one")
+    void shouldKeepFalsePositiveRate() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(KEYS, 0.01);
+        for (long i = 1; i <= KEYS; i++) {
+            filter.add(key(1L, i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (long i = KEYS + 1; i <= 11L * KEYS; i++) {
+            if (filter.mightContain(key(1L, i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / (10.0 * KEYS)).isLessThan(0.015);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    @DisplayName("Should tell apart the same product under different brands")
+    void shouldDistinguishBrands() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(KEYS, 0.001);
+
+        // When
+        filter.add(key(1L, 35455L));
+
+        // Then
+        assertThat(filter.mightContain(key(1L, 35455L))).isTrue();
+        assertThat(filter.mightContain(key(2L, 35455L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> PriceKeyBloomFilter.create(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceKeyBloomFilter.create(KEYS, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PriceKey key(long brandId, long productId) {
+        return PriceKey.of(BrandId.of(brandId), ProductId.of(productId));
+    }
+}
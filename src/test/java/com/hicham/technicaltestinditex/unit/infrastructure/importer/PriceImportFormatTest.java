@@ -0,0 +1,105 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.importer;
+
+import com.hicham.technicaltestinditex.application.command.PriceImportLine;
+import com.hicham.technicaltestinditex.infrastructure.importer.PriceImportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PriceImportFormat Unit Tests")
+class PriceImportFormatTest {
+
+    @Test
+    @DisplayName("Should read CSV columns by header name in any order")
+    void shouldReadCsvByHeaderName() {
+        // Given
+        String csv = """
+                CURR,PRICE,PRIORITY,PRICE_LIST,END_DATE,START_DATE,PRODUCT_ID,BRAND_ID
+                EUR,35.50,0,1,2020-12-31 23:59:59,2020-06-14 00:00:00,35455,1
+                """;
+
+        // When
+        List<PriceImportLine> lines = readAll(PriceImportFormat.CSV, csv);
+
+        // Then
+        assertThat(lines).hasSize(1);
+        PriceImportLine line = lines.get(0);
+        assertThat(line.isValid()).isTrue();
+        assertThat(line.lineNumber()).isEqualTo(2);
+        assertThat(line.price().productId().value()).isEqualTo(35455L);
+        assertThat(line.price().priceRange().endDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        assertThat(line.price().price()).isEqualByComparingTo("35.50");
+    }
+
+    @Test
+    @DisplayName("Should report malformed and invalid CSV lines without stopping")
+    void shouldReportInvalidCsvLines() {
+        // Given
+        String csv = """
+                BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR
+                1,35455,2020-06-14T00:00:00,2020-12-31T23:59:59,1,-1,35.50,EUR
+                1,35455,yesterday,2020-12-31T23:59:59,1,0,35.50,EUR
+                1,35455
+
+                1,35455,2020-06-14T00:00:00,2020-12-31T23:59:59,1,0,35.50,EUR
+                """;
+
+        // When
+        List<PriceImportLine> lines = readAll(PriceImportFormat.CSV, csv);
+
+        // Then
+        assertThat(lines).extracting(PriceImportLine::error).containsExactly(
+                "priority must be >= 0",
+                "Invalid start date 'yesterday'",
+                "Expected 8 columns but found 2",
+                null);
+        assertThat(lines).extracting(PriceImportLine::lineNumber).containsExactly(2L, 3L, 4L, 6L);
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON prices keeping exact decimals")
+    void shouldReadNdjson() {
+        // Given
+        String ndjson = """
+                {"brandId":1,"productId":35455,"startDate":"2020-06-14T15:00:00","endDate":"2020-06-14T18:30:00","priceList":2,"priority":1,"price":25.45,"currency":"EUR"}
+                {"brandId":1,"productId":35455,"priceList":2}
+                [1,2,3]
+                """;
+
+        // When
+        List<PriceImportLine> lines = readAll(PriceImportFormat.NDJSON, ndjson);
+
+        // Then
+        assertThat(lines.get(0).isValid()).isTrue();
+        assertThat(lines.get(0).price().price()).isEqualTo(new BigDecimal("25.45"));
+        assertThat(lines.get(0).price().priority()).isEqualTo(1);
+        assertThat(lines.get(1).error()).isEqualTo("Missing start date");
+        assertThat(lines.get(2).error()).isEqualTo("Expected a JSON object");
+    }
+
+    @Test
+    @DisplayName("Should pick the format from the media type or the file name")
+    void shouldResolveFormat() {
+        assertThat(PriceImportFormat.fromMediaType("text/csv; charset=UTF-8")).isEqualTo(PriceImportFormat.CSV);
+        assertThat(PriceImportFormat.fromMediaType("application/x-ndjson")).isEqualTo(PriceImportFormat.NDJSON);
+        assertThat(PriceImportFormat.fromFileName("prices-2021.jsonl")).isEqualTo(PriceImportFormat.NDJSON);
+        assertThatThrownBy(() -> PriceImportFormat.fromFileName("prices.xlsx"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<PriceImportLine> readAll(PriceImportFormat format, String content) {
+        List<PriceImportLine> lines = new ArrayList<>();
+        Iterator<PriceImportLine> iterator = format.read(new StringReader(content));
+        iterator.forEachRemaining(lines::add);
+        return lines;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hicham.technicaltestinditex.unit.infrastructure.startup;
+
+import com.hicham.technicaltestinditex.infrastructure.startup.LazyBeanFactoryPostProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LazyBeanFactoryPostProcessor Unit Tests")
+class LazyBeanFactoryPostProcessorTest {
+
+    private static final AtomicInteger DEFERRED_CREATIONS = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should defer the beans declared by a matching configuration class until first use")
+    void shouldDeferMatchingBeans() {
+        // Given
+        DEFERRED_CREATIONS.set(0);
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(DeferredConfig.class, EagerConfig.class);
+            context.addBeanFactoryPostProcessor(new LazyBeanFactoryPostProcessor(List.of(DeferredConfig.class.getName())));
+
+            // When
+            context.refresh();
+
+            // Then
+            assertThat(context.getBeanFactory().getBeanDefinition("deferred").isLazyInit()).isTrue();
+            assertThat(context.getBeanFactory().getBeanDefinition("eager").isLazyInit()).isFalse();
+            assertThat(DEFERRED_CREATIONS).hasValue(0);
+            assertThat(context.getBean("deferred")).isEqualTo("deferred");
+            assertThat(DEFERRED_CREATIONS).hasValue(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave every bean eager without prefixes")
+    void shouldKeepBeansEagerWithoutPrefixes() {
+        // Given
+        DEFERRED_CREATIONS.set(0);
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(DeferredConfig.class);
+            context.addBeanFactoryPostProcessor(new LazyBeanFactoryPostProcessor(List.of()));
+
+            // When
+            context.refresh();
+
+            // Then
+            assertThat(DEFERRED_CREATIONS).hasValue(1);
+        }
+    }
+
+    @Configuration
+    static class DeferredConfig {
+
+        @Bean
+        String deferred() {
+            DEFERRED_CREATIONS.incrementAndGet();
+            return "deferred";
+        }
+    }
+
+    @Configuration
+    static class EagerConfig {
+
+        @Bean
+        String eager() {
+            return "eager";
+        }
+    }
+}